@@ -10,9 +10,24 @@ repositories {
   jcenter()
 }
 
+sourceSets {
+  create("jmh") {
+    compileClasspath += sourceSets["main"].output
+    runtimeClasspath += sourceSets["main"].output
+  }
+}
+
+configurations {
+  "jmhImplementation" {
+    extendsFrom(configurations["implementation"])
+  }
+}
+
 dependencies {
   implementation(group = "com.google.guava", name = "guava", version = "26.0-jre")
   testImplementation(group = "junit", name = "junit", version = "4.12")
+  "jmhImplementation"(group = "org.openjdk.jmh", name = "jmh-core", version = "1.21")
+  "jmhAnnotationProcessor"(group = "org.openjdk.jmh", name = "jmh-generator-annprocess", version = "1.21")
 }
 
 java {
@@ -28,3 +43,23 @@ tasks.test {
     events.add(TestLogEvent.SKIPPED)
   }
 }
+
+// run benchmarks with `./gradlew jmh`, optionally `-Pjmh.include=<regex>`
+// results are written as JSON so that runs can be diffed between releases
+tasks.register<JavaExec>("jmh") {
+  description = "Runs the JMH benchmarks."
+  group = "verification"
+
+  val results = file("$buildDir/reports/jmh/results.json")
+
+  classpath = sourceSets["jmh"].runtimeClasspath
+  main = "org.openjdk.jmh.Main"
+  args("-rf", "json", "-rff", results)
+  if (project.hasProperty("jmh.include")) {
+    args(project.property("jmh.include"))
+  }
+
+  doFirst {
+    results.parentFile.mkdirs()
+  }
+}
@@ -0,0 +1,65 @@
+package com.github.hubbards.data.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for {@link AVLTree}.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AVLTreeBenchmark {
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({Keys.SEQUENTIAL, Keys.RANDOM})
+    public String distribution;
+
+    private Integer[] values;
+    private AVLTree<Integer> tree;
+
+    @Setup
+    public void setUp() {
+        values = Keys.boxed(Keys.distinct(distribution, size));
+        tree = new AVLTree<Integer>();
+        for (int i = 0; i < size; i++) {
+            tree.insert(values[i]);
+        }
+    }
+
+    @Benchmark
+    public AVLTree<Integer> insert() {
+        AVLTree<Integer> result = new AVLTree<Integer>();
+        for (int i = 0; i < size; i++) {
+            result.insert(values[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Integer findMin() {
+        return tree.findMin();
+    }
+
+    @Benchmark
+    public Integer findMax() {
+        return tree.findMax();
+    }
+}
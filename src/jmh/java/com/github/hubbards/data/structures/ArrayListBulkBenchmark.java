@@ -0,0 +1,101 @@
+package com.github.hubbards.data.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for the bulk operations of
+ * {@link ArrayList} on large lists. Each bulk operation is compared with the
+ * same change made one element at a time.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArrayListBulkBenchmark {
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"100", "10000"})
+    public int count;
+
+    private Integer[] values;
+    private ArrayList<Integer> list;
+    private ArrayList<Integer> other;
+    private int middle;
+
+    /**
+     * Holds a fresh copy of the list for operations that shrink it.
+     */
+    @State(Scope.Thread)
+    public static class Copy {
+        private ArrayList<Integer> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(ArrayListBulkBenchmark benchmark) {
+            list = new ArrayList<Integer>(benchmark.size);
+            list.addAll(benchmark.list);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        values = Keys.boxed(Keys.distinct(Keys.RANDOM, size + count));
+        list = new ArrayList<Integer>(size + count);
+        for (int i = 0; i < size; i++) {
+            list.add(values[i]);
+        }
+        other = new ArrayList<Integer>(count);
+        for (int i = size; i < size + count; i++) {
+            other.add(values[i]);
+        }
+        middle = size / 2;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> addAllRemoveRange() {
+        list.addAll(middle, other);
+        list.removeRange(middle, middle + count);
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> addRemoveEach() {
+        for (int i = 0; i < count; i++) {
+            list.add(middle + i, other.get(i));
+        }
+        for (int i = 0; i < count; i++) {
+            list.remove(middle);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean removeIf(Copy copy) {
+        // removes about one element in count
+        return copy.list.removeIf(value -> value % count == 0);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> addAll() {
+        ArrayList<Integer> result = new ArrayList<Integer>();
+        result.addAll(list);
+        return result;
+    }
+}
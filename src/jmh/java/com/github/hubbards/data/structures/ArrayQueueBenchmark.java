@@ -0,0 +1,87 @@
+package com.github.hubbards.data.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for {@link ArrayQueue}.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArrayQueueBenchmark {
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Integer[] values;
+    private ArrayQueue<Integer> queue;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        values = Keys.boxed(Keys.distinct(Keys.SEQUENTIAL, size));
+        queue = new ArrayQueue<Integer>(size);
+        for (int i = 0; i < size / 2; i++) {
+            queue.enqueue(values[i]);
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public Integer enqueueDequeue() {
+        next++;
+        if (next == size) {
+            next = 0;
+        }
+        queue.enqueue(values[next]);
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public long fillAndDrain() {
+        ArrayQueue<Integer> result = new ArrayQueue<Integer>();
+        for (int i = 0; i < size; i++) {
+            result.enqueue(values[i]);
+        }
+        long sum = 0;
+        while (!result.isEmpty()) {
+            sum += result.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long burstAfterWrapAround() {
+        ArrayQueue<Integer> result = new ArrayQueue<Integer>(16);
+        // move the front to the middle of the array, so growth must unroll
+        // the ring
+        for (int i = 0; i < 8; i++) {
+            result.enqueue(values[i]);
+            result.dequeue();
+        }
+        for (int i = 0; i < size; i++) {
+            result.enqueue(values[i]);
+        }
+        long sum = 0;
+        while (!result.isEmpty()) {
+            sum += result.dequeue();
+        }
+        return sum + result.capacity();
+    }
+}
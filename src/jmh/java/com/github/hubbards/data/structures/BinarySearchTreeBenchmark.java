@@ -0,0 +1,84 @@
+package com.github.hubbards.data.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for {@link BinarySearchTree}. Sizes are kept
+ * small because sequential keys degenerate the (unbalanced) tree into a list
+ * and the recursive helper methods would overflow the stack.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BinarySearchTreeBenchmark {
+    // number of precomputed lookups (power of two)
+    private static final int LOOKUPS = 1024;
+
+    @Param({"1000", "5000"})
+    public int size;
+
+    @Param({Keys.SEQUENTIAL, Keys.RANDOM})
+    public String distribution;
+
+    @Param({"0.0", "0.5", "1.0"})
+    public double hitRatio;
+
+    private Integer[] values;
+    private BinarySearchTree<Integer> tree;
+    private Integer[] lookups;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        int[] keys = Keys.distinct(distribution, 2 * size);
+        values = Keys.boxed(keys);
+        tree = new BinarySearchTree<Integer>();
+        for (int i = 0; i < size; i++) {
+            tree.insert(values[i]);
+        }
+        lookups = Keys.boxed(Keys.lookups(keys, size, hitRatio, LOOKUPS));
+        next = 0;
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> insert() {
+        BinarySearchTree<Integer> result = new BinarySearchTree<Integer>();
+        for (int i = 0; i < size; i++) {
+            result.insert(values[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return tree.contains(lookups[next]);
+    }
+
+    @Benchmark
+    public void removeInsert() {
+        next = (next + 1) & (LOOKUPS - 1);
+        Integer value = lookups[next];
+        if (tree.contains(value)) {
+            tree.remove(value);
+            tree.insert(value);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.hubbards.data.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for {@link BinaryTree}.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BinaryTreeBenchmark {
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Integer[] values;
+    private BinaryTree<Integer> tree;
+
+    @Setup
+    public void setUp() {
+        values = Keys.boxed(Keys.distinct(Keys.RANDOM, size));
+        tree = new BinaryTree<Integer>(values);
+    }
+
+    @Benchmark
+    public BinaryTree<Integer> build() {
+        return new BinaryTree<Integer>(values);
+    }
+
+    @Benchmark
+    public List<Integer> preOrder() {
+        return tree.preOrder();
+    }
+
+    @Benchmark
+    public List<Integer> inOrder() {
+        return tree.inOrder();
+    }
+
+    @Benchmark
+    public List<Integer> postOrder() {
+        return tree.postOrder();
+    }
+
+    @Benchmark
+    public List<Integer> levelOrder() {
+        return tree.levelOrder();
+    }
+
+    @Benchmark
+    public int countLeaves() {
+        return tree.countLeaves();
+    }
+}
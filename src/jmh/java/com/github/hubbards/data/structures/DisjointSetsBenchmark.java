@@ -0,0 +1,54 @@
+package com.github.hubbards.data.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for {@link DisjointSets}.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DisjointSetsBenchmark {
+    @Param({"1000", "100000"})
+    public int size;
+
+    // random pairs of elements
+    private int[] pairs;
+
+    @Setup
+    public void setUp() {
+        pairs = Keys.indices(size, 2 * size);
+    }
+
+    @Benchmark
+    public int unionFind() {
+        DisjointSets sets = new DisjointSets(size);
+        int unions = 0;
+        for (int i = 0; i < pairs.length; i += 2) {
+            int root1 = sets.find(pairs[i]);
+            int root2 = sets.find(pairs[i + 1]);
+            if (root1 != root2) {
+                sets.union(root1, root2);
+                unions++;
+            }
+        }
+        return unions;
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.hubbards.data.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for {@link Heap}.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HeapBenchmark {
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({Keys.SEQUENTIAL, Keys.RANDOM})
+    public String distribution;
+
+    private Integer[] values;
+    private Heap<Integer> heap;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        values = Keys.boxed(Keys.distinct(distribution, size));
+        heap = new Heap<Integer>();
+        for (int i = 0; i < size; i++) {
+            heap.insert(values[i]);
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public Heap<Integer> insert() {
+        Heap<Integer> result = new Heap<Integer>();
+        for (int i = 0; i < size; i++) {
+            result.insert(values[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Integer insertDeleteMin() {
+        next++;
+        if (next == size) {
+            next = 0;
+        }
+        heap.insert(values[next]);
+        return heap.deleteMin();
+    }
+
+    @Benchmark
+    public long insertAllDeleteAll() {
+        Heap<Integer> result = new Heap<Integer>();
+        for (int i = 0; i < size; i++) {
+            result.insert(values[i]);
+        }
+        long sum = 0;
+        while (!result.isEmpty()) {
+            sum += result.deleteMin();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.hubbards.data.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for {@link IntArrayList} compared with an
+ * {@link ArrayList} of boxed values.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntArrayListBenchmark {
+    @Param({"1000", "100000"})
+    public int size;
+
+    private int[] values;
+    private ArrayList<Integer> boxed;
+    private IntArrayList primitive;
+
+    @Setup
+    public void setUp() {
+        values = Keys.distinct(Keys.RANDOM, size);
+        boxed = new ArrayList<Integer>(size);
+        primitive = new IntArrayList(size);
+        for (int i = 0; i < size; i++) {
+            boxed.add(values[i]);
+            primitive.add(values[i]);
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Integer> addBoxed() {
+        ArrayList<Integer> result = new ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            result.add(values[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public IntArrayList addPrimitive() {
+        IntArrayList result = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            result.add(values[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public IntArrayList addAllPrimitive() {
+        IntArrayList result = new IntArrayList();
+        result.addAll(values);
+        return result;
+    }
+
+    @Benchmark
+    public long iterateBoxed() {
+        long sum = 0;
+        for (Integer value : boxed) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iteratePrimitive() {
+        long sum = 0;
+        PrimitiveIterator.OfInt iterator = primitive.iterator();
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getPrimitive() {
+        long sum = 0;
+        for (int i = 0; i < primitive.size(); i++) {
+            sum += primitive.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.hubbards.data.structures;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * This utility class contains methods for generating benchmark keys. Keys are
+ * generated from a fixed seed so that results are comparable between runs.
+ * This class is noninstantiable.
+ *
+ * @author Spencer Hubbard
+ */
+public final class Keys {
+    /**
+     * Consecutive keys <code>0, 1, 2, ...</code>.
+     */
+    public static final String SEQUENTIAL = "sequential";
+
+    /**
+     * Uniformly distributed random keys.
+     */
+    public static final String RANDOM = "random";
+
+    /**
+     * Consecutive multiples of a power of two. These keys are adversarial for
+     * hash tables that index with the low bits of the hash code.
+     */
+    public static final String STRIDED = "strided";
+
+    // seed for random keys
+    private static final long SEED = 42L;
+    // stride for strided keys
+    private static final int STRIDE = 1024;
+
+    /*
+     * Suppress default constructor for noninstantiability. See item #4 in
+     * Effective Java, 2nd edition.
+     */
+    private Keys() {
+        throw new AssertionError("static class");
+    }
+
+    /**
+     * Generates a given number of distinct keys with a given distribution.
+     *
+     * @param distribution the given distribution
+     * @param n the given number of keys
+     *
+     * @return an array of distinct keys
+     *
+     * @throws IllegalArgumentException if the given distribution is unknown
+     */
+    public static int[] distinct(String distribution, int n) {
+        int[] keys = new int[n];
+        if (SEQUENTIAL.equals(distribution)) {
+            for (int i = 0; i < n; i++) {
+                keys[i] = i;
+            }
+        } else if (STRIDED.equals(distribution)) {
+            for (int i = 0; i < n; i++) {
+                keys[i] = i * STRIDE;
+            }
+        } else if (RANDOM.equals(distribution)) {
+            Random random = new Random(SEED);
+            Set<Integer> seen = new HashSet<Integer>();
+            int i = 0;
+            while (i < n) {
+                int key = random.nextInt();
+                if (seen.add(key)) {
+                    keys[i] = key;
+                    i++;
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("distribution: " + distribution);
+        }
+        return keys;
+    }
+
+    /**
+     * Generates a sequence of lookup keys. The first <code>present</code> keys
+     * in the given array are assumed to be contained in the structure under
+     * test and the remaining keys are assumed to be absent. A given fraction
+     * of the lookup keys are chosen from the present keys.
+     *
+     * @param keys the given array of keys
+     * @param present the number of present keys
+     * @param hitRatio the fraction of lookups that should hit
+     * @param count the number of lookup keys
+     *
+     * @return an array of lookup keys
+     *
+     * @throws IllegalArgumentException if the hit ratio is not between zero
+     * and one or there are not enough keys to choose from
+     */
+    public static int[] lookups(int[] keys, int present, double hitRatio, int count) {
+        if (hitRatio < 0.0 || hitRatio > 1.0) {
+            throw new IllegalArgumentException("hitRatio: " + hitRatio);
+        }
+        int absent = keys.length - present;
+        if ((hitRatio > 0.0 && present == 0) || (hitRatio < 1.0 && absent == 0)) {
+            throw new IllegalArgumentException("not enough keys");
+        }
+        Random random = new Random(SEED);
+        int[] lookups = new int[count];
+        for (int i = 0; i < count; i++) {
+            if (random.nextDouble() < hitRatio) {
+                lookups[i] = keys[random.nextInt(present)];
+            } else {
+                lookups[i] = keys[present + random.nextInt(absent)];
+            }
+        }
+        return lookups;
+    }
+
+    /**
+     * Generates a sequence of random indices between zero (inclusive) and a
+     * given bound (exclusive).
+     *
+     * @param bound the given bound
+     * @param count the number of indices
+     *
+     * @return an array of indices
+     */
+    public static int[] indices(int bound, int count) {
+        Random random = new Random(SEED);
+        int[] indices = new int[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = random.nextInt(bound);
+        }
+        return indices;
+    }
+
+    /**
+     * Boxes a given array of keys.
+     *
+     * @param keys the given array of keys
+     *
+     * @return an array of boxed keys
+     */
+    public static Integer[] boxed(int[] keys) {
+        Integer[] result = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = keys[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.hubbards.data.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for the implementations of {@link List}
+ * under editor-style workloads. Clustered edits insert and remove elements
+ * near a cursor that drifts slowly through the list, and random access reads
+ * elements at random indices.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListEditBenchmark {
+    // number of precomputed lookups (power of two)
+    private static final int LOOKUPS = 1024;
+
+    @Param({"array", "linked", "gap", "tree"})
+    public String implementation;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private List<Integer> list;
+    private int[] indices;
+    private int cursor;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        list = create();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        indices = Keys.indices(size, LOOKUPS);
+        cursor = size / 2;
+        next = 0;
+    }
+
+    @Benchmark
+    public void clusteredEdit() {
+        next = (next + 1) & (LOOKUPS - 1);
+        // drift the cursor by a few elements
+        cursor += (indices[next] & 7) - 3;
+        if (cursor < 0 || cursor >= size) {
+            cursor = size / 2;
+        }
+        list.add(cursor, next);
+        list.remove(cursor + 1);
+    }
+
+    @Benchmark
+    public Integer randomGet() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return list.get(indices[next]);
+    }
+
+    /*
+     * Constructs an empty list of the implementation under test.
+     */
+    private List<Integer> create() {
+        if ("array".equals(implementation)) {
+            return new ArrayList<Integer>();
+        } else if ("linked".equals(implementation)) {
+            return new LinkedList<Integer>();
+        } else if ("gap".equals(implementation)) {
+            return new GapList<Integer>();
+        } else if ("tree".equals(implementation)) {
+            return new TreeList<Integer>();
+        } else {
+            throw new IllegalArgumentException("implementation: " + implementation);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.hubbards.data.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a throughput benchmark for {@link MpmcArrayQueue} with four
+ * producer threads and two consumer threads. Consumers either poll one element
+ * at a time or drain batches of up to {@value #BATCH} elements; the score of
+ * <code>drain</code> counts batches, not elements. A failed attempt found the
+ * queue full or empty.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class MpmcArrayQueueBenchmark {
+    // maximum number of elements drained at once
+    private static final int BATCH = 64;
+
+    @Param({"1024", "65536"})
+    public int capacity;
+
+    private MpmcArrayQueue<Integer> queue;
+    private Integer value;
+
+    /**
+     * Holds the list each consumer drains into.
+     */
+    @State(Scope.Thread)
+    public static class Batch {
+        private ArrayList<Integer> list;
+
+        @Setup
+        public void setUp() {
+            list = new ArrayList<Integer>(BATCH);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        queue = new MpmcArrayQueue<Integer>(capacity);
+        value = 42;
+    }
+
+    @Benchmark
+    @Group("single")
+    @GroupThreads(4)
+    public boolean offer() {
+        return queue.offer(value);
+    }
+
+    @Benchmark
+    @Group("single")
+    @GroupThreads(2)
+    public Integer poll() {
+        return queue.poll();
+    }
+
+    @Benchmark
+    @Group("batch")
+    @GroupThreads(4)
+    public boolean offerBatch() {
+        return queue.offer(value);
+    }
+
+    @Benchmark
+    @Group("batch")
+    @GroupThreads(2)
+    public int drain(Batch batch) {
+        batch.list.clear();
+        return queue.drainTo(batch.list, BATCH);
+    }
+}
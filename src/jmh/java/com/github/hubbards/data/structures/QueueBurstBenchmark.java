@@ -0,0 +1,67 @@
+package com.github.hubbards.data.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for the unbounded implementations of
+ * {@link Queue} under bursts. Each invocation enqueues a burst of elements
+ * into a long-lived queue and then drains it, so a queue that keeps its memory
+ * between bursts avoids growing or allocating again. Run with
+ * <code>-prof gc</code> to compare allocation rates.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueueBurstBenchmark {
+    @Param({"array", "linked", "segmented"})
+    public String implementation;
+
+    @Param({"1000", "100000"})
+    public int burst;
+
+    private Integer[] values;
+    private Queue<Integer> queue;
+
+    @Setup
+    public void setUp() {
+        values = Keys.boxed(Keys.distinct(Keys.SEQUENTIAL, burst));
+        if ("array".equals(implementation)) {
+            queue = new ArrayQueue<Integer>(16);
+        } else if ("linked".equals(implementation)) {
+            queue = new LinkedList<Integer>();
+        } else if ("segmented".equals(implementation)) {
+            queue = new SegmentedQueue<Integer>();
+        } else {
+            throw new IllegalArgumentException("implementation: " + implementation);
+        }
+    }
+
+    @Benchmark
+    public long burstAndDrain() {
+        for (int i = 0; i < burst; i++) {
+            queue.enqueue(values[i]);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.hubbards.data.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a throughput benchmark for {@link SpscRingQueue} with one
+ * producer thread and one consumer thread. The scores of the
+ * <code>offer</code> and <code>poll</code> methods are the successful and
+ * failed attempts per second of each thread; a failed attempt found the queue
+ * full or empty. The same hand-off through an {@link ArrayQueue} guarded by a
+ * lock is measured for comparison.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class SpscRingQueueBenchmark {
+    @Param({"1024", "65536"})
+    public int capacity;
+
+    private SpscRingQueue<Integer> queue;
+    private ArrayQueue<Integer> locked;
+    private Integer value;
+
+    @Setup
+    public void setUp() {
+        queue = new SpscRingQueue<Integer>(capacity);
+        locked = new ArrayQueue<Integer>(capacity);
+        value = 42;
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public boolean offer() {
+        return queue.offer(value);
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public Integer poll() {
+        return queue.poll();
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public boolean offerLocked() {
+        synchronized (locked) {
+            if (locked.size() == capacity) {
+                return false;
+            }
+            locked.enqueue(value);
+            return true;
+        }
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public Integer pollLocked() {
+        synchronized (locked) {
+            return locked.isEmpty() ? null : locked.dequeue();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.hubbards.data.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for {@link ArrayStack} and
+ * {@link IntArrayStack} compared with the {@link LinkedList} implementation of
+ * {@link Stack}. Each invocation pushes a burst of values onto a long-lived
+ * stack and pops them all, like a depth-first traversal.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StackBenchmark {
+    @Param({"1000", "100000"})
+    public int size;
+
+    private int[] values;
+    private Integer[] boxed;
+    private LinkedList<Integer> linked;
+    private ArrayStack<Integer> array;
+    private IntArrayStack primitive;
+
+    @Setup
+    public void setUp() {
+        values = Keys.distinct(Keys.SEQUENTIAL, size);
+        boxed = Keys.boxed(values);
+        linked = new LinkedList<Integer>();
+        array = new ArrayStack<Integer>();
+        primitive = new IntArrayStack();
+    }
+
+    @Benchmark
+    public long pushPopLinked() {
+        for (int i = 0; i < size; i++) {
+            linked.push(boxed[i]);
+        }
+        long sum = 0;
+        while (!linked.isEmpty()) {
+            sum += linked.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long pushPopArray() {
+        for (int i = 0; i < size; i++) {
+            array.push(boxed[i]);
+        }
+        long sum = 0;
+        while (!array.isEmpty()) {
+            sum += array.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long pushPopPrimitive() {
+        for (int i = 0; i < size; i++) {
+            primitive.push(values[i]);
+        }
+        long sum = 0;
+        while (!primitive.isEmpty()) {
+            sum += primitive.pop();
+        }
+        return sum;
+    }
+}
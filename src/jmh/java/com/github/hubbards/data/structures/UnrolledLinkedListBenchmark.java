@@ -0,0 +1,113 @@
+package com.github.hubbards.data.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for {@link UnrolledLinkedList} as a list, a
+ * queue, and a stack. The benchmarks match {@link LinkedListBenchmark}.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UnrolledLinkedListBenchmark {
+    // number of precomputed lookups (power of two)
+    private static final int LOOKUPS = 1024;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({Keys.SEQUENTIAL, Keys.RANDOM})
+    public String distribution;
+
+    @Param({"0.0", "0.5", "1.0"})
+    public double hitRatio;
+
+    private Integer[] values;
+    private UnrolledLinkedList<Integer> list;
+    private int[] indices;
+    private Integer[] lookups;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        int[] keys = Keys.distinct(distribution, 2 * size);
+        values = Keys.boxed(keys);
+        list = new UnrolledLinkedList<Integer>();
+        for (int i = 0; i < size; i++) {
+            list.add(values[i]);
+        }
+        indices = Keys.indices(size, LOOKUPS);
+        lookups = Keys.boxed(Keys.lookups(keys, size, hitRatio, LOOKUPS));
+        next = 0;
+    }
+
+    @Benchmark
+    public UnrolledLinkedList<Integer> add() {
+        UnrolledLinkedList<Integer> result = new UnrolledLinkedList<Integer>();
+        for (int i = 0; i < size; i++) {
+            result.add(values[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Integer get() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return list.get(indices[next]);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return list.indexOf(lookups[next]);
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        next = (next + 1) & (LOOKUPS - 1);
+        list.push(values[next]);
+        return list.pop();
+    }
+
+    @Benchmark
+    public Integer enqueueDequeue() {
+        next = (next + 1) & (LOOKUPS - 1);
+        list.enqueue(values[next]);
+        return list.dequeue();
+    }
+
+    @Benchmark
+    public UnrolledLinkedList<Integer> addAtIndex() {
+        next = (next + 1) & (LOOKUPS - 1);
+        int index = indices[next];
+        list.add(index, values[index]);
+        list.remove(index);
+        return list;
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.hubbards.data.structures.cache;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for the {@link Cache} implementations on a
+ * skewed workload: each operation gets a key and puts it on a miss. Keys are
+ * drawn from a power-law distribution, so a few keys are popular and most are
+ * rare. The hit rate is the ratio of the <code>hits</code> counter to the sum
+ * of the <code>hits</code> and <code>misses</code> counters.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CacheBenchmark {
+    // number of precomputed keys (power of two)
+    private static final int KEYS = 1 << 16;
+    // number of distinct keys
+    private static final int UNIVERSE = 100000;
+
+    @Param({"lru", "tinylfu", "concurrent"})
+    public String policy;
+
+    @Param({"1000", "10000"})
+    public int capacity;
+
+    private Cache<Integer, Integer> cache;
+    private Integer[] keys;
+    private int next;
+
+    /**
+     * Counts hits and misses of the workload.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        if (policy.equals("lru")) {
+            cache = new LruCache<Integer, Integer>(capacity);
+        } else if (policy.equals("tinylfu")) {
+            cache = new TinyLfuCache<Integer, Integer>(capacity);
+        } else if (policy.equals("concurrent")) {
+            cache = new ConcurrentCache<Integer, Integer>(capacity, TinyLfuCache::new);
+        } else {
+            throw new IllegalArgumentException(policy);
+        }
+        Random random = new Random(42);
+        keys = new Integer[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = (int) (UNIVERSE * Math.pow(random.nextDouble(), 4));
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public Integer getOrPut(Counters counters) {
+        next = (next + 1) & (KEYS - 1);
+        Integer key = keys[next];
+        Integer value = cache.get(key);
+        if (value == null) {
+            counters.misses++;
+            cache.put(key, key);
+            return key;
+        }
+        counters.hits++;
+        return value;
+    }
+}
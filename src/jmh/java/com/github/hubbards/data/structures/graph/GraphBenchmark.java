@@ -0,0 +1,106 @@
+package com.github.hubbards.data.structures.graph;
+
+import com.github.hubbards.data.structures.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for {@link Graph}.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GraphBenchmark {
+    // number of precomputed lookups (power of two)
+    private static final int LOOKUPS = 1024;
+    // average out-degree of each vertex
+    private static final int DEGREE = 4;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"0.0", "0.5", "1.0"})
+    public double hitRatio;
+
+    private String[] names;
+    // tails and heads of distinct edges
+    private int[] tails;
+    private int[] heads;
+    private Graph graph;
+    private int[] lookups;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        names = new String[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = "v" + i;
+        }
+        // choose distinct random edges; the first half are added to the graph
+        int edges = DEGREE * size;
+        tails = new int[2 * edges];
+        heads = new int[2 * edges];
+        int[] candidates = Keys.indices(size, 8 * edges);
+        Set<Long> seen = new HashSet<Long>();
+        int i = 0;
+        for (int j = 0; i < tails.length; j += 2) {
+            int u = candidates[j];
+            int v = candidates[j + 1];
+            if (seen.add((long) u * size + v)) {
+                tails[i] = u;
+                heads[i] = v;
+                i++;
+            }
+        }
+        graph = new Graph();
+        for (String name : names) {
+            graph.addVertex(name);
+        }
+        for (int k = 0; k < edges; k++) {
+            graph.addEdge(names[tails[k]], names[heads[k]]);
+        }
+        int[] edgeIndices = new int[tails.length];
+        for (int k = 0; k < edgeIndices.length; k++) {
+            edgeIndices[k] = k;
+        }
+        lookups = Keys.lookups(edgeIndices, edges, hitRatio, LOOKUPS);
+        next = 0;
+    }
+
+    @Benchmark
+    public Graph build() {
+        Graph result = new Graph();
+        for (String name : names) {
+            result.addVertex(name);
+        }
+        for (int k = 0; k < tails.length / 2; k++) {
+            result.addEdge(names[tails[k]], names[heads[k]]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public boolean containsEdge() {
+        next = (next + 1) & (LOOKUPS - 1);
+        int k = lookups[next];
+        return graph.containsEdge(names[tails[k]], names[heads[k]]);
+    }
+}
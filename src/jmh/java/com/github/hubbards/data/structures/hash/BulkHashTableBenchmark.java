@@ -0,0 +1,128 @@
+package com.github.hubbards.data.structures.hash;
+
+import com.github.hubbards.data.structures.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite comparing the bulk operations of
+ * {@link HashTable} with loops over the single-element operations. Each
+ * invocation processes one batch of keys, so scores are per batch.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkHashTableBenchmark {
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"10000"})
+    public int batch;
+
+    @Param({Keys.SEQUENTIAL, Keys.RANDOM})
+    public String distribution;
+
+    private int[] keys;
+    private Integer[] boxed;
+    private int[] lookups;
+    private Integer[] boxedLookups;
+    private LinearProbingHashTable<Integer> generic;
+    private IntHashTable primitive;
+
+    @Setup
+    public void setUp() {
+        int[] all = Keys.distinct(distribution, 2 * size);
+        keys = new int[batch];
+        System.arraycopy(all, 0, keys, 0, batch);
+        boxed = Keys.boxed(keys);
+        generic = new LinearProbingHashTable<Integer>();
+        primitive = new IntHashTable();
+        for (int i = 0; i < size; i++) {
+            generic.insert(all[i]);
+            primitive.insert(all[i]);
+        }
+        lookups = Keys.lookups(all, size, 0.5, batch);
+        boxedLookups = Keys.boxed(lookups);
+    }
+
+    @Benchmark
+    public LinearProbingHashTable<Integer> insertLoopGeneric() {
+        LinearProbingHashTable<Integer> result = new LinearProbingHashTable<Integer>();
+        for (Integer key : boxed) {
+            result.insert(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public LinearProbingHashTable<Integer> insertAllGeneric() {
+        LinearProbingHashTable<Integer> result = new LinearProbingHashTable<Integer>();
+        result.insertAll(boxed);
+        return result;
+    }
+
+    @Benchmark
+    public IntHashTable insertLoopPrimitive() {
+        IntHashTable result = new IntHashTable();
+        for (int key : keys) {
+            result.insert(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public IntHashTable insertAllPrimitive() {
+        IntHashTable result = new IntHashTable();
+        result.insertAll(keys);
+        return result;
+    }
+
+    @Benchmark
+    public BitSet containsLoopGeneric() {
+        BitSet result = new BitSet(batch);
+        for (int i = 0; i < batch; i++) {
+            if (generic.contains(boxedLookups[i])) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public BitSet containsAllGeneric() {
+        return generic.containsAll(boxedLookups);
+    }
+
+    @Benchmark
+    public BitSet containsLoopPrimitive() {
+        BitSet result = new BitSet(batch);
+        for (int i = 0; i < batch; i++) {
+            if (primitive.contains(lookups[i])) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public BitSet containsAllPrimitive() {
+        return primitive.containsAll(lookups);
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.hubbards.data.structures.hash;
+
+import com.github.hubbards.data.structures.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a multi-threaded benchmark suite comparing
+ * {@link ConcurrentHashTable} with a {@link LinearProbingHashTable} behind a
+ * global lock. Each operation is a lookup or, with a given probability, an
+ * insertion or removal of a random key. The same workload is run with one,
+ * two, four, and eight threads to show how throughput scales.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentHashTableBenchmark {
+    @Param({"concurrent", "locked"})
+    public String implementation;
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"0", "10", "50"})
+    public int writePercent;
+
+    private Integer[] values;
+    private HashTable<Integer> table;
+
+    @Setup
+    public void setUp() {
+        values = Keys.boxed(Keys.distinct(Keys.RANDOM, 2 * size));
+        if ("concurrent".equals(implementation)) {
+            table = new ConcurrentHashTable<Integer>();
+        } else if ("locked".equals(implementation)) {
+            table = new LockedHashTable<Integer>(new LinearProbingHashTable<Integer>());
+        } else {
+            throw new IllegalArgumentException("implementation: " + implementation);
+        }
+        for (int i = 0; i < size; i++) {
+            table.insert(values[i]);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean threads1() {
+        return operation();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public boolean threads2() {
+        return operation();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean threads4() {
+        return operation();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean threads8() {
+        return operation();
+    }
+
+    /*
+     * Performs a random operation on a random key.
+     */
+    private boolean operation() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer value = values[random.nextInt(values.length)];
+        int dice = random.nextInt(100);
+        if (dice < writePercent) {
+            if ((dice & 1) == 0) {
+                table.insert(value);
+            } else {
+                table.remove(value);
+            }
+            return true;
+        }
+        return table.contains(value);
+    }
+
+    /*
+     * This nested class represents a hash table that serializes every
+     * operation with a global lock.
+     */
+    private static class LockedHashTable<E> implements HashTable<E> {
+        private final HashTable<E> table;
+
+        LockedHashTable(HashTable<E> table) {
+            this.table = table;
+        }
+
+        @Override
+        public synchronized int size() {
+            return table.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return table.isEmpty();
+        }
+
+        @Override
+        public synchronized boolean contains(E value) {
+            return table.contains(value);
+        }
+
+        @Override
+        public synchronized void insert(E value) {
+            table.insert(value);
+        }
+
+        @Override
+        public synchronized void remove(E value) {
+            table.remove(value);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.hubbards.data.structures.hash;
+
+import com.github.hubbards.data.structures.Keys;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for {@link BloomFilter}, {@link CuckooFilter}
+ * and {@link FilteredHashTable}. The measured false positive rate is the ratio
+ * of the <code>falsePositives</code> and <code>negatives</code> counters
+ * reported for <code>mightContain</code>, which also reports the bits per
+ * element and the expected false positive rate of the filter as the
+ * <code>bitsPerElement</code> and <code>expectedFalsePositiveRate</code>
+ * counters.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterBenchmark {
+    // number of precomputed lookups (power of two)
+    private static final int LOOKUPS = 1024;
+
+    @Param({"bloom", "cuckoo"})
+    public String filter;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"0.0", "0.1", "0.5"})
+    public double hitRatio;
+
+    private Filter<Integer> values;
+    private LinearProbingHashTable<Integer> unfiltered;
+    private FilteredHashTable<Integer> filtered;
+    private Integer[] lookups;
+    private boolean[] present;
+    private int next;
+
+    /**
+     * Counts lookups of absent values and how many of them the filter could
+     * not rule out.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long negatives;
+        public long falsePositives;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            negatives = 0;
+            falsePositives = 0;
+        }
+    }
+
+    /**
+     * Reports the bits per element and the expected false positive rate of the
+     * filter. The values are not normalized by time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FilterSize {
+        public double bitsPerElement;
+        public double expectedFalsePositiveRate;
+
+        @Setup(Level.Iteration)
+        public void record(FilterBenchmark benchmark) {
+            Filter<Integer> values = benchmark.values;
+            bitsPerElement = (double) values.bits() / values.size();
+            expectedFalsePositiveRate = values.expectedFalsePositiveRate();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        int[] keys = Keys.distinct(Keys.RANDOM, 2 * size);
+        values = create();
+        unfiltered = new LinearProbingHashTable<Integer>();
+        filtered = new FilteredHashTable<Integer>(new LinearProbingHashTable<Integer>(), create());
+        for (int i = 0; i < size; i++) {
+            values.add(keys[i]);
+            unfiltered.insert(keys[i]);
+            filtered.insert(keys[i]);
+        }
+        lookups = Keys.boxed(Keys.lookups(keys, size, hitRatio, LOOKUPS));
+        present = new boolean[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            present[i] = unfiltered.contains(lookups[i]);
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public boolean mightContain(Counters counters, FilterSize filterSize) {
+        next = (next + 1) & (LOOKUPS - 1);
+        boolean result = values.mightContain(lookups[next]);
+        if (!present[next]) {
+            counters.negatives++;
+            if (result) {
+                counters.falsePositives++;
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public boolean containsUnfiltered() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return unfiltered.contains(lookups[next]);
+    }
+
+    @Benchmark
+    public boolean containsFiltered() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return filtered.contains(lookups[next]);
+    }
+
+    /*
+     * Creates a filter of the benchmarked kind sized for the values.
+     */
+    private Filter<Integer> create() {
+        if (filter.equals("bloom")) {
+            return new BloomFilter<Integer>(size);
+        } else if (filter.equals("cuckoo")) {
+            return new CuckooFilter<Integer>(size);
+        } else {
+            throw new IllegalArgumentException(filter);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.hubbards.data.structures.hash;
+
+import com.github.hubbards.data.structures.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * This class is a benchmark suite comparing {@link LinearProbingHashMap} with
+ * {@link java.util.HashMap}. Run with <code>-prof gc</code> to compare
+ * allocation rates, since {@link java.util.HashMap} allocates a node per
+ * entry.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HashMapBenchmark {
+    // number of precomputed lookups (power of two)
+    private static final int LOOKUPS = 1024;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({Keys.SEQUENTIAL, Keys.RANDOM})
+    public String distribution;
+
+    @Param({"0.5", "1.0"})
+    public double hitRatio;
+
+    private Integer[] keys;
+    private LinearProbingHashMap<Integer, Integer> map;
+    private java.util.HashMap<Integer, Integer> reference;
+    private Integer[] lookups;
+    private boolean[] present;
+    private Function<Integer, Integer> function;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        int[] all = Keys.distinct(distribution, 2 * size);
+        keys = Keys.boxed(all);
+        map = new LinearProbingHashMap<Integer, Integer>();
+        reference = new java.util.HashMap<Integer, Integer>();
+        for (int i = 0; i < size; i++) {
+            map.put(keys[i], keys[i]);
+            reference.put(keys[i], keys[i]);
+        }
+        lookups = Keys.boxed(Keys.lookups(all, size, hitRatio, LOOKUPS));
+        present = new boolean[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            present[i] = reference.containsKey(lookups[i]);
+        }
+        function = k -> k;
+        next = 0;
+    }
+
+    @Benchmark
+    public LinearProbingHashMap<Integer, Integer> put() {
+        LinearProbingHashMap<Integer, Integer> result = new LinearProbingHashMap<Integer, Integer>();
+        for (int i = 0; i < size; i++) {
+            result.put(keys[i], keys[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public java.util.HashMap<Integer, Integer> putReference() {
+        java.util.HashMap<Integer, Integer> result = new java.util.HashMap<Integer, Integer>();
+        for (int i = 0; i < size; i++) {
+            result.put(keys[i], keys[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Integer get() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return map.get(lookups[next]);
+    }
+
+    @Benchmark
+    public Integer getReference() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return reference.get(lookups[next]);
+    }
+
+    @Benchmark
+    public Integer computeIfAbsent() {
+        next = (next + 1) & (LOOKUPS - 1);
+        Integer key = lookups[next];
+        Integer result = map.computeIfAbsent(key, function);
+        if (!present[next]) {
+            // keep the map at its original size
+            map.remove(key);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Integer computeIfAbsentReference() {
+        next = (next + 1) & (LOOKUPS - 1);
+        Integer key = lookups[next];
+        Integer result = reference.computeIfAbsent(key, function);
+        if (!present[next]) {
+            // keep the map at its original size
+            reference.remove(key);
+        }
+        return result;
+    }
+}
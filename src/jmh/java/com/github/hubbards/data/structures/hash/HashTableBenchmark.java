@@ -0,0 +1,108 @@
+package com.github.hubbards.data.structures.hash;
+
+import com.github.hubbards.data.structures.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for the implementations of
+ * {@link HashTable}.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HashTableBenchmark {
+    // number of precomputed lookups (power of two)
+    private static final int LOOKUPS = 1024;
+
+    @Param({"linear", "chaining", "robinhood", "swiss"})
+    public String implementation;
+
+    @Param({"PRIME", "POWER_OF_TWO"})
+    public Sizing sizing;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({Keys.SEQUENTIAL, Keys.RANDOM, Keys.STRIDED})
+    public String distribution;
+
+    @Param({"0.0", "0.5", "1.0"})
+    public double hitRatio;
+
+    private Integer[] values;
+    private HashTable<Integer> table;
+    private Integer[] lookups;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        int[] keys = Keys.distinct(distribution, 2 * size);
+        values = Keys.boxed(keys);
+        table = create();
+        for (int i = 0; i < size; i++) {
+            table.insert(values[i]);
+        }
+        lookups = Keys.boxed(Keys.lookups(keys, size, hitRatio, LOOKUPS));
+        next = 0;
+    }
+
+    @Benchmark
+    public HashTable<Integer> insert() {
+        HashTable<Integer> result = create();
+        for (int i = 0; i < size; i++) {
+            result.insert(values[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return table.contains(lookups[next]);
+    }
+
+    @Benchmark
+    public void removeInsert() {
+        next = (next + 1) & (LOOKUPS - 1);
+        Integer value = lookups[next];
+        if (table.contains(value)) {
+            table.remove(value);
+            table.insert(value);
+        }
+    }
+
+    /*
+     * Constructs an empty hash table of the implementation under test.
+     */
+    private HashTable<Integer> create() {
+        if ("linear".equals(implementation)) {
+            return new LinearProbingHashTable<Integer>(sizing);
+        } else if ("chaining".equals(implementation)) {
+            return new SeparateChainingHashTable<Integer>(sizing);
+        } else if ("robinhood".equals(implementation)) {
+            return new RobinHoodHashTable<Integer>(sizing);
+        } else if ("swiss".equals(implementation)) {
+            // number of buckets is always a power of two
+            return new SwissHashTable<Integer>();
+        } else {
+            throw new IllegalArgumentException("implementation: " + implementation);
+        }
+    }
+}
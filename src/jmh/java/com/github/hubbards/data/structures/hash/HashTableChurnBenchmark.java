@@ -0,0 +1,72 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for hash tables under insert/remove churn.
+ * The table holds a sliding window of keys: each operation removes the oldest
+ * key, inserts a new key, and looks up a key that is not in the table. Sample
+ * mode reports latency percentiles, so the tail of the lookup cost is visible
+ * as removed values accumulate.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HashTableChurnBenchmark {
+    @Param({"linear", "robinhood"})
+    public String implementation;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private HashTable<Integer> table;
+    // number of keys inserted so far
+    private int count;
+
+    @Setup
+    public void setUp() {
+        if ("linear".equals(implementation)) {
+            table = new LinearProbingHashTable<Integer>();
+        } else if ("robinhood".equals(implementation)) {
+            table = new RobinHoodHashTable<Integer>();
+        } else {
+            throw new IllegalArgumentException("implementation: " + implementation);
+        }
+        for (count = 0; count < size; count++) {
+            table.insert(key(count));
+        }
+    }
+
+    @Benchmark
+    public boolean churn() {
+        table.remove(key(count - size));
+        table.insert(key(count));
+        count++;
+        return table.contains(key(count));
+    }
+
+    /*
+     * Returns the key with a given sequence number. Multiplication by an odd
+     * constant is a bijection, so keys are distinct and spread out.
+     */
+    private static int key(int i) {
+        return i * 0x9E3779B9;
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.hubbards.data.structures.hash;
+
+import com.github.hubbards.data.structures.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite comparing {@link IntHashTable} with
+ * {@link LinearProbingHashTable} on <code>int</code> keys. Keys are boxed at
+ * the call site for the generic table.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntHashTableBenchmark {
+    // number of precomputed lookups (power of two)
+    private static final int LOOKUPS = 1024;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({Keys.SEQUENTIAL, Keys.RANDOM, Keys.STRIDED})
+    public String distribution;
+
+    @Param({"0.0", "0.5", "1.0"})
+    public double hitRatio;
+
+    private int[] values;
+    private LinearProbingHashTable<Integer> generic;
+    private IntHashTable primitive;
+    private int[] lookups;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        values = Keys.distinct(distribution, 2 * size);
+        generic = new LinearProbingHashTable<Integer>();
+        primitive = new IntHashTable();
+        for (int i = 0; i < size; i++) {
+            generic.insert(values[i]);
+            primitive.insert(values[i]);
+        }
+        lookups = Keys.lookups(values, size, hitRatio, LOOKUPS);
+        next = 0;
+    }
+
+    @Benchmark
+    public LinearProbingHashTable<Integer> insertGeneric() {
+        LinearProbingHashTable<Integer> result = new LinearProbingHashTable<Integer>();
+        for (int i = 0; i < size; i++) {
+            result.insert(values[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public IntHashTable insertPrimitive() {
+        IntHashTable result = new IntHashTable();
+        for (int i = 0; i < size; i++) {
+            result.insert(values[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public boolean containsGeneric() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return generic.contains(lookups[next]);
+    }
+
+    @Benchmark
+    public boolean containsPrimitive() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return primitive.contains(lookups[next]);
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.hubbards.data.structures.hash;
+
+import com.github.hubbards.data.structures.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite comparing {@link LongHashTable} with
+ * {@link LinearProbingHashTable} on <code>long</code> keys. Keys are boxed at
+ * the call site for the generic table, as they would be by a caller holding
+ * primitive identifiers. Lookups in the off-heap {@link MappedLongHashTable}
+ * are measured as well. Run with <code>-prof gc</code> to compare allocation
+ * rates.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LongHashTableBenchmark {
+    // number of precomputed lookups (power of two)
+    private static final int LOOKUPS = 1024;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({Keys.SEQUENTIAL, Keys.RANDOM, Keys.STRIDED})
+    public String distribution;
+
+    @Param({"0.0", "0.5", "1.0"})
+    public double hitRatio;
+
+    private long[] values;
+    private LinearProbingHashTable<Long> generic;
+    private LongHashTable primitive;
+    private Path file;
+    private MappedLongHashTable mapped;
+    private long[] lookups;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        int[] keys = Keys.distinct(distribution, 2 * size);
+        values = widen(keys);
+        generic = new LinearProbingHashTable<Long>();
+        primitive = new LongHashTable();
+        file = Files.createTempFile("benchmark", ".table");
+        mapped = new MappedLongHashTable(file, 2 * size);
+        for (int i = 0; i < size; i++) {
+            generic.insert(values[i]);
+            primitive.insert(values[i]);
+            mapped.insert(values[i]);
+        }
+        lookups = widen(Keys.lookups(keys, size, hitRatio, LOOKUPS));
+        next = 0;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mapped.close();
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public LinearProbingHashTable<Long> insertGeneric() {
+        LinearProbingHashTable<Long> result = new LinearProbingHashTable<Long>();
+        for (int i = 0; i < size; i++) {
+            result.insert(values[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public LongHashTable insertPrimitive() {
+        LongHashTable result = new LongHashTable();
+        for (int i = 0; i < size; i++) {
+            result.insert(values[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public boolean containsGeneric() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return generic.contains(lookups[next]);
+    }
+
+    @Benchmark
+    public boolean containsPrimitive() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return primitive.contains(lookups[next]);
+    }
+
+    @Benchmark
+    public boolean containsMapped() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return mapped.contains(lookups[next]);
+    }
+
+    /*
+     * Spreads given keys over the range of long so that values do not fit in
+     * an int.
+     */
+    private static long[] widen(int[] keys) {
+        long[] result = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = ((long) keys[i] << 32) | (keys[i] & 0xFFFFFFFFL);
+        }
+        return result;
+    }
+}
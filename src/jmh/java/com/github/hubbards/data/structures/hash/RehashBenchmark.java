@@ -0,0 +1,77 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a benchmark suite for the latency of insertion into a growing
+ * hash table with immediate and incremental rehashing. Each operation inserts
+ * a new key, and the table is replaced once it holds a given number of keys.
+ * Sample mode reports latency percentiles, so the pauses caused by immediate
+ * rehashing show up in the tail.
+ *
+ * @author Spencer Hubbard
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RehashBenchmark {
+    @Param({"linear", "chaining"})
+    public String implementation;
+
+    @Param({"IMMEDIATE", "INCREMENTAL"})
+    public Rehashing rehashing;
+
+    @Param({"1000000"})
+    public int limit;
+
+    private HashTable<Integer> table;
+    // number of keys inserted into the table
+    private int count;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        table = create();
+        count = 0;
+    }
+
+    @Benchmark
+    public HashTable<Integer> insert() {
+        if (count == limit) {
+            table = create();
+            count = 0;
+        }
+        // multiplication by an odd constant gives distinct, spread out keys
+        table.insert(count * 0x9E3779B9);
+        count++;
+        return table;
+    }
+
+    /*
+     * Constructs an empty hash table of the implementation under test.
+     */
+    private HashTable<Integer> create() {
+        if ("linear".equals(implementation)) {
+            return new LinearProbingHashTable<Integer>(LinearProbingHashTable.DEFAULT_PRIME, Sizing.POWER_OF_TWO, rehashing);
+        } else if ("chaining".equals(implementation)) {
+            return new SeparateChainingHashTable<Integer>(SeparateChainingHashTable.DEFAULT_PRIME, Sizing.POWER_OF_TWO, rehashing);
+        } else {
+            throw new IllegalArgumentException("implementation: " + implementation);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.github.hubbards.data.structures;
 
+import java.util.LinkedList;
+import java.util.List;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -15,6 +18,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public class AVLTree<E extends Comparable<E>> {
     // root node of tree
     private Node root;
+    // number of elements in tree
+    private int size;
 
     /**
      * Constructs an empty tree.
@@ -23,6 +28,51 @@ public class AVLTree<E extends Comparable<E>> {
         clear();
     }
 
+    /**
+     * Returns the number of elements in this tree.
+     *
+     * @return the number of elements in this tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if this tree is empty.
+     *
+     * @return <code>true</code> if this tree is empty, otherwise
+     * <code>false</code>
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Checks if this tree contains a given value.
+     *
+     * @param value the given value
+     *
+     * @return <code>true</code> if this tree contains the given value,
+     * otherwise <code>false</code>
+     */
+    public boolean contains(E value) {
+        Node node = root;
+        while (node != null) {
+            int temp = value.compareTo(node.data);
+            if (temp < 0) {
+                // check left subtree
+                node = node.left;
+            } else if (temp > 0) {
+                // check right subtree
+                node = node.right;
+            } else {
+                // value at node
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Finds the minimum value in this tree.
      *
@@ -84,6 +134,7 @@ public class AVLTree<E extends Comparable<E>> {
      */
     public void clear() {
         root = null;
+        size = 0;
     }
 
     /**
@@ -99,6 +150,7 @@ public class AVLTree<E extends Comparable<E>> {
     private Node insert(Node node, E value) {
         if (node == null) {
             // add at root
+            size++;
             return new Node(value);
         }
         int temp = value.compareTo(node.data);
@@ -137,7 +189,13 @@ public class AVLTree<E extends Comparable<E>> {
         return node;
     }
 
-    // TODO: document
+    /**
+     * Removes a given value from this tree if it belongs to this tree.
+     *
+     * @param value the value to remove
+     *
+     * @throws UnderflowException if this tree is empty
+     */
     public void remove(E value) {
         if (root == null) {
             throw new UnderflowException("empty tree");
@@ -146,8 +204,76 @@ public class AVLTree<E extends Comparable<E>> {
     }
 
     private Node remove(Node node, E value) {
-        // TODO: implement
-        throw new RuntimeException("method not implemented");
+        if (node == null) {
+            // value not in tree
+            return null;
+        }
+        int temp = value.compareTo(node.data);
+        if (temp < 0) {
+            // remove value from left subtree
+            node.left = remove(node.left, value);
+        } else if (temp > 0) {
+            // remove value from right subtree
+            node.right = remove(node.right, value);
+        } else if (node.left != null && node.right != null) {
+            // node has two children; replace with minimum in right tree
+            node.data = findMin(node.right);
+            node.right = remove(node.right, node.data);
+        } else {
+            // node has at most one child; replace with child (or null)
+            size--;
+            return node.left != null ? node.left : node.right;
+        }
+        return balance(node);
+    }
+
+    /**
+     * Returns the elements of this tree in ascending order.
+     *
+     * @return the elements of this tree in ascending order
+     */
+    public List<E> inOrder() {
+        List<E> list = new LinkedList<E>();
+        inOrder(root, list);
+        return list;
+    }
+
+    /*
+     * Helper method for in-order traversal.
+     */
+    private void inOrder(Node node, List<E> list) {
+        if (node != null) {
+            inOrder(node.left, list);
+            list.add(node.data);
+            inOrder(node.right, list);
+        }
+    }
+
+    /*
+     * Restores the balance condition at a given node after a removal from one
+     * of its subtrees and updates its height.
+     */
+    private Node balance(Node node) {
+        if (height(node.left) - height(node.right) == 2) {
+            if (height(node.left.left) >= height(node.left.right)) {
+                // left subtree of left child is at least as deep
+                node = singleL(node);
+            } else {
+                // right subtree of left child is deeper
+                node = doubleLR(node);
+            }
+        } else if (height(node.right) - height(node.left) == 2) {
+            if (height(node.right.right) >= height(node.right.left)) {
+                // right subtree of right child is at least as deep
+                node = singleR(node);
+            } else {
+                // left subtree of right child is deeper
+                node = doubleRL(node);
+            }
+        }
+        // update height
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        return node;
     }
 
     /*
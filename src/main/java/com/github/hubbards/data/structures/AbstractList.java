@@ -1,5 +1,8 @@
 package com.github.hubbards.data.structures;
 
+import java.util.Iterator;
+import java.util.function.Predicate;
+
 /**
  * This abstract class represents a generic abstract class for the list ADT.
  *
@@ -16,6 +19,44 @@ public abstract class AbstractList<E> implements List<E> {
         return indexOf(value) >= 0;
     }
 
+    @Override
+    public void addAll(int index, List<E> other) {
+        checkPosition(index);
+        // copy values first in case the other list is this list
+        Object[] values = new Object[other.size()];
+        int i = 0;
+        for (E value : other) {
+            values[i] = value;
+            i++;
+        }
+        for (i = 0; i < values.length; i++) {
+            @SuppressWarnings("unchecked")
+            E value = (E) values[i];
+            add(index + i, value);
+        }
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            remove(from);
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        boolean removed = false;
+        Iterator<E> iterator = iterator();
+        while (iterator.hasNext()) {
+            if (filter.test(iterator.next())) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
     /*
      * Throws an exception if a given index is illegal.
      */
@@ -24,4 +65,22 @@ public abstract class AbstractList<E> implements List<E> {
             throw new IndexOutOfBoundsException("index: " + index);
         }
     }
+
+    /*
+     * Throws an exception if a given index is illegal for insertion.
+     */
+    protected void checkPosition(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+    }
+
+    /*
+     * Throws an exception if a given range of indices is illegal.
+     */
+    protected void checkRange(int from, int to) {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to);
+        }
+    }
 }
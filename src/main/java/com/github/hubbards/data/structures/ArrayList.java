@@ -3,6 +3,7 @@ package com.github.hubbards.data.structures;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 /**
  * This class represents a generic array implementation of the list ADT.
@@ -86,34 +87,100 @@ public class ArrayList<E> extends AbstractList<E> {
 
     @Override
     public void add(int index, E value) {
-        checkIndex(index);
+        checkPosition(index);
         ensureCapacity(size + 1);
-        for (int i = size; i >= index + 1; i--) {
-            elementData[i] = elementData[i - 1];
-        }
+        // block copy operation
+        System.arraycopy(elementData, index, elementData, index + 1, size - index);
         elementData[index] = value;
         size++;
     }
 
     @Override
     public void addAll(List<E> other) {
-        ensureCapacity(size + other.size());
-        for (E value : other) {
-            add(value);
+        addAll(size, other);
+    }
+
+    @Override
+    public void addAll(int index, List<E> other) {
+        checkPosition(index);
+        int n = other.size();
+        ensureCapacity(size + n);
+        if (other instanceof ArrayList) {
+            // copy values first in case the other list is this list
+            E[] values = ((ArrayList<E>) other).elementData;
+            if (values == elementData) {
+                values = Arrays.copyOf(elementData, n);
+            }
+            // block copy operations
+            System.arraycopy(elementData, index, elementData, index + n, size - index);
+            System.arraycopy(values, 0, elementData, index, n);
+        } else {
+            // block copy operation
+            System.arraycopy(elementData, index, elementData, index + n, size - index);
+            int i = index;
+            for (E value : other) {
+                elementData[i] = value;
+                i++;
+            }
         }
+        size += n;
     }
 
     @Override
     public void remove(int index) {
         checkIndex(index);
-        for (int i = index; i < size - 1; i++) {
-            elementData[i] = elementData[i + 1];
-        }
+        // block copy operation
+        System.arraycopy(elementData, index + 1, elementData, index, size - index - 1);
         // remove reference for garbage collection
         elementData[size - 1] = null;
         size--;
     }
 
+    @Override
+    public void removeRange(int from, int to) {
+        checkRange(from, to);
+        // block copy operation
+        System.arraycopy(elementData, to, elementData, from, size - to);
+        int newSize = size - (to - from);
+        // remove references for garbage collection
+        Arrays.fill(elementData, newSize, size, null);
+        size = newSize;
+    }
+
+    /**
+     * Removes the elements of this list that satisfy a given predicate. The
+     * remaining elements are compacted in a single pass. If the predicate
+     * throws an exception, the elements it has not yet tested are kept.
+     *
+     * @param filter the given predicate
+     *
+     * @return <code>true</code> if any elements were removed, otherwise
+     * <code>false</code>
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        // index of next element to test and index to move it to
+        int i = 0;
+        int j = 0;
+        try {
+            for (; i < size; i++) {
+                E value = elementData[i];
+                if (!filter.test(value)) {
+                    elementData[j] = value;
+                    j++;
+                }
+            }
+        } finally {
+            // block copy operation for untested elements
+            System.arraycopy(elementData, i, elementData, j, size - i);
+            int newSize = j + size - i;
+            // remove references for garbage collection
+            Arrays.fill(elementData, newSize, size, null);
+            size = newSize;
+        }
+        return i != j;
+    }
+
     @Override
     public void set(int index, E value) {
         checkIndex(index);
@@ -122,10 +189,8 @@ public class ArrayList<E> extends AbstractList<E> {
 
     @Override
     public void clear() {
-        for (int i = 0; i < size; i++) {
-            // remove reference for garbage collection
-            elementData[i] = null;
-        }
+        // remove references for garbage collection
+        Arrays.fill(elementData, 0, size, null);
         size = 0;
     }
 
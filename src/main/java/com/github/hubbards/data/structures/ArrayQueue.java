@@ -1,10 +1,9 @@
 package com.github.hubbards.data.structures;
 
-import java.util.Arrays;
-
 /**
  * This class represents a generic circular array implementation of the queue
- * ADT.
+ * ADT. The array grows when it is full, and shrinks by half when at most a
+ * quarter of it is used, but never below the capacity given at construction.
  *
  * @author Spencer Hubbard
  */
@@ -15,8 +14,10 @@ public class ArrayQueue<E> implements Queue<E> {
     private E[] elementData;
     // index of front of queue
     private int front;
-    // index of back of queue
-    private int back;
+    // number of elements in queue
+    private int size;
+    // capacity below which the array does not shrink
+    private final int minCapacity;
 
     /**
      * Constructs an empty queue with default capacity.
@@ -40,7 +41,8 @@ public class ArrayQueue<E> implements Queue<E> {
         }
         elementData = (E[]) new Object[capacity];
         front = 0;
-        back = -1;
+        size = 0;
+        minCapacity = capacity;
     }
 
     @Override
@@ -50,10 +52,10 @@ public class ArrayQueue<E> implements Queue<E> {
         }
         StringBuilder builder = new StringBuilder();
         builder.append('[');
-        builder.append(elementData[front % elementData.length]);
-        for (int i = 1; i < size(); i++) {
+        builder.append(elementData[front]);
+        for (int i = 1; i < size; i++) {
             builder.append(", ");
-            builder.append(elementData[(front + i) % elementData.length]);
+            builder.append(elementData[slot(i)]);
         }
         builder.append(']');
         return builder.toString();
@@ -61,7 +63,7 @@ public class ArrayQueue<E> implements Queue<E> {
 
     @Override
     public boolean isEmpty() {
-        return back == front - 1;
+        return size == 0;
     }
 
     /**
@@ -70,14 +72,24 @@ public class ArrayQueue<E> implements Queue<E> {
      * @return the number of elements in this array queue
      */
     public int size() {
-        return back - front + 1;
+        return size;
+    }
+
+    /**
+     * Returns the number of elements this array queue can hold without
+     * growing.
+     *
+     * @return the capacity of this array queue
+     */
+    public int capacity() {
+        return elementData.length;
     }
 
     @Override
     public void enqueue(E value) {
-        ensureCapacity(size() + 1);
-        back++;
-        elementData[back % elementData.length] = value;
+        ensureCapacity(size + 1);
+        elementData[slot(size)] = value;
+        size++;
     }
 
     @Override
@@ -85,8 +97,19 @@ public class ArrayQueue<E> implements Queue<E> {
         if (isEmpty()) {
             throw new UnderflowException("empty queue");
         }
-        E result = elementData[front % elementData.length];
+        E result = elementData[front];
+        // remove reference for garbage collection
+        elementData[front] = null;
         front++;
+        if (front == elementData.length) {
+            front = 0;
+        }
+        size--;
+        // shrink by half at a quarter full, so a burst is not followed by
+        // repeated growing and shrinking
+        if (4 * size <= elementData.length && elementData.length / 2 >= minCapacity) {
+            resize(elementData.length / 2);
+        }
         return result;
     }
 
@@ -95,7 +118,7 @@ public class ArrayQueue<E> implements Queue<E> {
         if (isEmpty()) {
             throw new UnderflowException("empty queue");
         }
-        return elementData[front % elementData.length];
+        return elementData[front];
     }
 
     /**
@@ -110,8 +133,41 @@ public class ArrayQueue<E> implements Queue<E> {
             if (capacity > newCapacity) {
                 newCapacity = capacity;
             }
-            // block copy operation
-            elementData = Arrays.copyOf(elementData, newCapacity);
+            resize(newCapacity);
         }
     }
+
+    /**
+     * Reduces the capacity of this queue to the number of elements in this
+     * queue, or to one if this queue is empty.
+     */
+    public void trimToSize() {
+        int capacity = Math.max(size, 1);
+        if (capacity < elementData.length) {
+            resize(capacity);
+        }
+    }
+
+    /*
+     * Returns the array index of the element a given distance from the front.
+     */
+    private int slot(int i) {
+        int j = front + i;
+        return j < elementData.length ? j : j - elementData.length;
+    }
+
+    /*
+     * Moves the elements in order to the start of a new array with a given
+     * length, which is at least the number of elements.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        E[] temp = (E[]) new Object[capacity];
+        // block copy operations; the elements may wrap around the end
+        int first = Math.min(size, elementData.length - front);
+        System.arraycopy(elementData, front, temp, 0, first);
+        System.arraycopy(elementData, 0, temp, first, size - first);
+        elementData = temp;
+        front = 0;
+    }
 }
@@ -0,0 +1,134 @@
+package com.github.hubbards.data.structures;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * This class represents a generic array implementation of the stack ADT. The
+ * top of the stack is the end of the array, so pushing and popping do not
+ * allocate except when the array grows, which doubles its capacity.
+ *
+ * @author Spencer Hubbard
+ */
+public class ArrayStack<E> implements Stack<E> {
+    public static final int DEFAULT_CAPACITY = 100;
+
+    // array for stack with bottom at index zero
+    private Object[] elementData;
+    // number of elements in stack
+    private int size;
+
+    /**
+     * Constructs an empty stack with default capacity.
+     */
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty stack with a given capacity.
+     *
+     * @param capacity the given capacity
+     *
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public ArrayStack(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        elementData = new Object[capacity];
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        if (!isEmpty()) {
+            builder.append(elementData[0]);
+            for (int i = 1; i < size; i++) {
+                builder.append(", ");
+                builder.append(elementData[i]);
+            }
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this stack.
+     *
+     * @return the number of elements in this stack
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void push(E value) {
+        ensureCapacity(size + 1);
+        elementData[size] = value;
+        size++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E pop() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        size--;
+        E result = (E) elementData[size];
+        // remove reference for garbage collection
+        elementData[size] = null;
+        return result;
+    }
+
+    /**
+     * Returns the value at the top of this stack without removing it.
+     *
+     * @return the value at the top of this stack
+     *
+     * @throws EmptyStackException if this stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return (E) elementData[size - 1];
+    }
+
+    /**
+     * Removes all of the elements from this stack. Only the slots that held
+     * elements are cleared, so the time is proportional to the size of this
+     * stack rather than its capacity.
+     */
+    public void clear() {
+        // remove references for garbage collection
+        Arrays.fill(elementData, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Increases the capacity of this stack if a given capacity is greater than
+     * the current capacity.
+     *
+     * @param capacity the given capacity
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > elementData.length) {
+            int newCapacity = elementData.length * 2 + 1;
+            if (capacity > newCapacity) {
+                newCapacity = capacity;
+            }
+            // block copy operation
+            elementData = Arrays.copyOf(elementData, newCapacity);
+        }
+    }
+}
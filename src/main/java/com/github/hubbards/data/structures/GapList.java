@@ -0,0 +1,266 @@
+package com.github.hubbards.data.structures;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * This class represents a generic gap buffer implementation of the list ADT.
+ * The elements are stored in an array with a gap of unused slots, and the gap
+ * is moved to the index of each insertion or removal. Moving the gap copies
+ * only the elements between its old and new positions, so a run of edits near
+ * the same index takes amortized constant time each, as in a text editor.
+ * Random access takes constant time.
+ *
+ * @author Spencer Hubbard
+ */
+public class GapList<E> extends AbstractList<E> {
+    public static final int DEFAULT_CAPACITY = 100;
+
+    // values stored in list before and after the gap
+    private Object[] elementData;
+    // index of first slot of the gap
+    private int gapStart;
+    // index of first slot after the gap
+    private int gapEnd;
+
+    /**
+     * Constructs an empty list with default capacity.
+     */
+    public GapList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with a given capacity.
+     *
+     * @param capacity the given capacity
+     *
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public GapList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        elementData = new Object[capacity];
+        gapStart = 0;
+        gapEnd = capacity;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        String separator = "";
+        for (E value : this) {
+            builder.append(separator);
+            builder.append(value);
+            separator = ", ";
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    @Override
+    public int size() {
+        return elementData.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return elementAt(slot(index));
+    }
+
+    @Override
+    public int indexOf(E value) {
+        for (int i = 0; i < gapStart; i++) {
+            if (elementData[i].equals(value)) {
+                return i;
+            }
+        }
+        for (int i = gapEnd; i < elementData.length; i++) {
+            if (elementData[i].equals(value)) {
+                return i - (gapEnd - gapStart);
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void add(E value) {
+        add(size(), value);
+    }
+
+    @Override
+    public void add(int index, E value) {
+        checkPosition(index);
+        moveGap(index, 1);
+        elementData[gapStart] = value;
+        gapStart++;
+    }
+
+    @Override
+    public void addAll(List<E> other) {
+        addAll(size(), other);
+    }
+
+    @Override
+    public void addAll(int index, List<E> other) {
+        checkPosition(index);
+        int n = other.size();
+        if (other == this) {
+            // copy values first, because moving the gap reorders the array
+            Object[] values = new Object[n];
+            System.arraycopy(elementData, 0, values, 0, gapStart);
+            System.arraycopy(elementData, gapEnd, values, gapStart, elementData.length - gapEnd);
+            moveGap(index, n);
+            System.arraycopy(values, 0, elementData, gapStart, n);
+            gapStart += n;
+        } else {
+            moveGap(index, n);
+            for (E value : other) {
+                elementData[gapStart] = value;
+                gapStart++;
+            }
+        }
+    }
+
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+        moveGap(index, 0);
+        // remove reference for garbage collection
+        elementData[gapEnd] = null;
+        gapEnd++;
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        checkRange(from, to);
+        moveGap(from, 0);
+        // remove references for garbage collection
+        Arrays.fill(elementData, gapEnd, gapEnd + (to - from), null);
+        gapEnd += to - from;
+    }
+
+    @Override
+    public void set(int index, E value) {
+        checkIndex(index);
+        elementData[slot(index)] = value;
+    }
+
+    @Override
+    public void clear() {
+        // remove references for garbage collection
+        Arrays.fill(elementData, null);
+        gapStart = 0;
+        gapEnd = elementData.length;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new GapListIterator();
+    }
+
+    /**
+     * Increases the capacity of this list if a given capacity is greater than
+     * the current capacity.
+     *
+     * @param capacity the given capacity
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > elementData.length) {
+            int newCapacity = elementData.length * 2 + 1;
+            if (capacity > newCapacity) {
+                newCapacity = capacity;
+            }
+            // block copy operations; the gap absorbs the new slots
+            Object[] temp = new Object[newCapacity];
+            int tail = elementData.length - gapEnd;
+            System.arraycopy(elementData, 0, temp, 0, gapStart);
+            System.arraycopy(elementData, gapEnd, temp, newCapacity - tail, tail);
+            elementData = temp;
+            gapEnd = newCapacity - tail;
+        }
+    }
+
+    /*
+     * Moves the gap to a given index and makes it hold at least a given number
+     * of slots.
+     */
+    private void moveGap(int index, int n) {
+        ensureCapacity(size() + n);
+        if (index < gapStart) {
+            // block copy operation; elements before the gap move after it
+            int count = gapStart - index;
+            System.arraycopy(elementData, index, elementData, gapEnd - count, count);
+            Arrays.fill(elementData, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            // block copy operation; elements after the gap move before it
+            int count = index - gapStart;
+            System.arraycopy(elementData, gapEnd, elementData, gapStart, count);
+            Arrays.fill(elementData, Math.max(gapEnd, index), gapEnd + count, null);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    /*
+     * Returns the array index of the element at a given index.
+     */
+    private int slot(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    /*
+     * Returns the element at a given array index.
+     */
+    @SuppressWarnings("unchecked")
+    private E elementAt(int i) {
+        return (E) elementData[i];
+    }
+
+    /*
+     * This inner class represents an iterator used for a gap list.
+     */
+    private class GapListIterator implements Iterator<E> {
+        // next element
+        private int position;
+        // legal state for remove
+        private boolean removeOK;
+
+        public GapListIterator() {
+            position = 0;
+            removeOK = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < size();
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E result = elementAt(slot(position));
+            position++;
+            removeOK = true;
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            if (!removeOK) {
+                throw new IllegalStateException();
+            }
+            GapList.this.remove(position - 1);
+            position--;
+            removeOK = false;
+        }
+    }
+}
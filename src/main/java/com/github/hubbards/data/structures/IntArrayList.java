@@ -0,0 +1,304 @@
+package com.github.hubbards.data.structures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * This class represents an array implementation of the list ADT for primitive
+ * <code>int</code> values. It mirrors {@link ArrayList}, but the values are
+ * stored in an <code>int</code> array, so adding, finding, and iterating over
+ * values does not box them. The iterator is a primitive iterator, so a loop
+ * over {@link PrimitiveIterator.OfInt#nextInt()} does not allocate.
+ *
+ * @author Spencer Hubbard
+ */
+public class IntArrayList implements Iterable<Integer> {
+    public static final int DEFAULT_CAPACITY = 100;
+
+    // values stored in list
+    private int[] elementData;
+    // number of elements in list
+    private int size;
+
+    /**
+     * Constructs an empty list with default capacity.
+     */
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with a given capacity.
+     *
+     * @param capacity the given capacity
+     *
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public IntArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        elementData = new int[capacity];
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        if (!isEmpty()) {
+            builder.append(elementData[0]);
+            for (int i = 1; i < size; i++) {
+                builder.append(", ");
+                builder.append(elementData[i]);
+            }
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if this list is empty.
+     *
+     * @return <code>true</code> if this list is empty, otherwise
+     * <code>false</code>
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Finds the element at a given index in this list.
+     *
+     * @param index the index of the element to find
+     *
+     * @return the element at the given index in this list
+     *
+     * @throws IndexOutOfBoundsException if the given index is negative or at
+     * least the size of this list
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return elementData[index];
+    }
+
+    /**
+     * Finds the index of the first occurrence of a given value in this list.
+     *
+     * @param value the value to find
+     *
+     * @return the index of the first occurrence of the given value or
+     * <code>-1</code> if this list does not contain the given value
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elementData[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if this list contains a given value.
+     *
+     * @param value the value to check
+     *
+     * @return <code>true</code> if this list contains the given value,
+     * otherwise <code>false</code>
+     */
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Adds a given value to the end of this list.
+     *
+     * @param value the value to add
+     */
+    public void add(int value) {
+        ensureCapacity(size + 1);
+        elementData[size] = value;
+        size++;
+    }
+
+    /**
+     * Adds a given value at a given index in this list.
+     *
+     * @param index the given index
+     * @param value the value to add
+     *
+     * @throws IndexOutOfBoundsException if the given index is negative or
+     * greater than the size of this list
+     */
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+        ensureCapacity(size + 1);
+        // block copy operation
+        System.arraycopy(elementData, index, elementData, index + 1, size - index);
+        elementData[index] = value;
+        size++;
+    }
+
+    /**
+     * Appends the values of a given array to the end of this list.
+     *
+     * @param values the values to add
+     */
+    public void addAll(int[] values) {
+        ensureCapacity(size + values.length);
+        // block copy operation
+        System.arraycopy(values, 0, elementData, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Appends the elements of a given list to the end of this list.
+     *
+     * @param other the other list to add
+     */
+    public void addAll(IntArrayList other) {
+        int n = other.size;
+        ensureCapacity(size + n);
+        // block copy operation; the other list may be this list
+        System.arraycopy(other.elementData, 0, elementData, size, n);
+        size += n;
+    }
+
+    /**
+     * Removes the element at a given index in this list.
+     *
+     * @param index the given index
+     *
+     * @throws IndexOutOfBoundsException if the given index is negative or at
+     * least the size of this list
+     */
+    public void remove(int index) {
+        checkIndex(index);
+        // block copy operation
+        System.arraycopy(elementData, index + 1, elementData, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * Sets the value of the element at a given index in this list to a given
+     * value.
+     *
+     * @param index the given index
+     * @param value the value to set
+     *
+     * @throws IndexOutOfBoundsException if the given index is negative or at
+     * least the size of this list
+     */
+    public void set(int index, int value) {
+        checkIndex(index);
+        elementData[index] = value;
+    }
+
+    /**
+     * Removes all elements from this list. The capacity is unchanged.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns a new array holding the elements of this list in order.
+     *
+     * @return an array of the elements of this list
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    /**
+     * Returns a primitive iterator over the elements of this list. Calling
+     * {@link PrimitiveIterator.OfInt#nextInt()} does not allocate, unlike
+     * {@link PrimitiveIterator.OfInt#next()}.
+     *
+     * @return an iterator over the elements of this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntArrayListIterator();
+    }
+
+    /**
+     * Increases the capacity of this list if a given capacity is greater than
+     * the current capacity.
+     *
+     * @param capacity the given capacity
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > elementData.length) {
+            int newCapacity = elementData.length * 2 + 1;
+            if (capacity > newCapacity) {
+                newCapacity = capacity;
+            }
+            // block copy operation
+            elementData = Arrays.copyOf(elementData, newCapacity);
+        }
+    }
+
+    /*
+     * Throws an exception if a given index is illegal.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+    }
+
+    /*
+     * This inner class represents a primitive iterator used for an array list.
+     */
+    private class IntArrayListIterator implements PrimitiveIterator.OfInt {
+        // next element
+        private int position;
+        // legal state for remove
+        private boolean removeOK;
+
+        public IntArrayListIterator() {
+            position = 0;
+            removeOK = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int result = elementData[position];
+            position++;
+            removeOK = true;
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            if (!removeOK) {
+                throw new IllegalStateException();
+            }
+            IntArrayList.this.remove(position - 1);
+            position--;
+            removeOK = false;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.hubbards.data.structures;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * This class represents an array implementation of the stack ADT for
+ * primitive <code>int</code> values. It mirrors {@link ArrayStack}, but the
+ * values are stored in an <code>int</code> array, so pushing and popping do
+ * not box them.
+ *
+ * @author Spencer Hubbard
+ */
+public class IntArrayStack {
+    public static final int DEFAULT_CAPACITY = 100;
+
+    // array for stack with bottom at index zero
+    private int[] elementData;
+    // number of elements in stack
+    private int size;
+
+    /**
+     * Constructs an empty stack with default capacity.
+     */
+    public IntArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty stack with a given capacity.
+     *
+     * @param capacity the given capacity
+     *
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public IntArrayStack(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        elementData = new int[capacity];
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        if (!isEmpty()) {
+            builder.append(elementData[0]);
+            for (int i = 1; i < size; i++) {
+                builder.append(", ");
+                builder.append(elementData[i]);
+            }
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    /**
+     * Checks if this stack is empty.
+     *
+     * @return <code>true</code> if this stack is empty, otherwise
+     * <code>false</code>
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this stack.
+     *
+     * @return the number of elements in this stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a given value to the top of this stack.
+     *
+     * @param value the value to add
+     */
+    public void push(int value) {
+        ensureCapacity(size + 1);
+        elementData[size] = value;
+        size++;
+    }
+
+    /**
+     * Returns and removes the value at the top of this stack.
+     *
+     * @return the value at the top of this stack
+     *
+     * @throws EmptyStackException if this stack is empty
+     */
+    public int pop() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        size--;
+        return elementData[size];
+    }
+
+    /**
+     * Returns the value at the top of this stack without removing it.
+     *
+     * @return the value at the top of this stack
+     *
+     * @throws EmptyStackException if this stack is empty
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return elementData[size - 1];
+    }
+
+    /**
+     * Removes all of the elements from this stack in constant time.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Increases the capacity of this stack if a given capacity is greater than
+     * the current capacity.
+     *
+     * @param capacity the given capacity
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > elementData.length) {
+            int newCapacity = elementData.length * 2 + 1;
+            if (capacity > newCapacity) {
+                newCapacity = capacity;
+            }
+            // block copy operation
+            elementData = Arrays.copyOf(elementData, newCapacity);
+        }
+    }
+}
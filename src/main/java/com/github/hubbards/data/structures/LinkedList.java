@@ -7,6 +7,12 @@ import java.util.Iterator;
 /**
  * This class represents a generic doubly linked list implementation of the list
  * ADT. This class also implements the queue and stack ADTs.
+ * <p>
+ * The list remembers the node of the last index it looked up, and a later
+ * lookup walks from that node when it is closer than either end of the list,
+ * so a loop over increasing indices takes constant time per step. For edits
+ * at a sequence of positions, use a {@link ListCursor} from
+ * {@link #cursor(int)}.
  *
  * @author Spencer Hubbard
  */
@@ -17,6 +23,10 @@ public class LinkedList<E> extends AbstractList<E> implements Queue<E>, Stack<E>
     private final Node back;
     // number of elements in list
     private int size;
+    // node of the last index looked up, or a dummy node
+    private Node finger;
+    // index of finger, where the dummy nodes have indices -1 and size
+    private int fingerIndex;
 
     /**
      * Constructs an empty list.
@@ -85,13 +95,48 @@ public class LinkedList<E> extends AbstractList<E> implements Queue<E>, Stack<E>
         current.next = newNode;
         newNode.next.prev = newNode;
         size++;
+        inserted(index, 1);
     }
 
     @Override
     public void addAll(List<E> other) {
+        addAll(size, other);
+    }
+
+    @Override
+    public void addAll(int index, List<E> other) {
+        checkPosition(index);
+        // copy values first in case the other list is this list
+        Object[] values = new Object[other.size()];
+        int i = 0;
         for (E value : other) {
-            add(value);
+            values[i] = value;
+            i++;
+        }
+        // find the insertion point once and link the values after it
+        Node current = nodeAt(index - 1);
+        for (i = 0; i < values.length; i++) {
+            @SuppressWarnings("unchecked")
+            E value = (E) values[i];
+            Node newNode = new Node(value, current.next, current);
+            current.next = newNode;
+            newNode.next.prev = newNode;
+            current = newNode;
         }
+        size += values.length;
+        inserted(index, values.length);
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        checkRange(from, to);
+        // unlink the range in one step
+        Node first = nodeAt(from - 1);
+        Node last = nodeAt(to);
+        first.next = last;
+        last.prev = first;
+        size -= to - from;
+        removed(from, to, first);
     }
 
     @Override
@@ -101,6 +146,7 @@ public class LinkedList<E> extends AbstractList<E> implements Queue<E>, Stack<E>
         current.next = current.next.next;
         current.next.prev = current;
         size--;
+        removed(index, index + 1, current);
     }
 
     @Override
@@ -115,6 +161,32 @@ public class LinkedList<E> extends AbstractList<E> implements Queue<E>, Stack<E>
         front.next = back;
         back.prev = front;
         size = 0;
+        finger = front;
+        fingerIndex = -1;
+    }
+
+    /**
+     * Returns a cursor positioned at the first element of this list.
+     *
+     * @return a cursor over this list
+     */
+    public ListCursor<E> cursor() {
+        return cursor(0);
+    }
+
+    /**
+     * Returns a cursor positioned at a given index in this list.
+     *
+     * @param index the given index
+     *
+     * @return a cursor over this list
+     *
+     * @throws IndexOutOfBoundsException if the given index is negative or
+     * greater than the size of this list
+     */
+    public ListCursor<E> cursor(int index) {
+        checkPosition(index);
+        return new NodeCursor(nodeAt(index), index);
     }
 
     @Override
@@ -164,15 +236,29 @@ public class LinkedList<E> extends AbstractList<E> implements Queue<E>, Stack<E>
         front.next = front.next.next;
         front.next.prev = front;
         size--;
+        removed(0, 1, front);
         return value;
     }
 
     /*
-     * Returns the node at a given index, otherwise throws an exception.
+     * Returns the node at a given index from -1 to the size of this list,
+     * where the dummy nodes have indices -1 and size. The walk starts from the
+     * nearest of the dummy nodes and the finger, and the finger is moved to the
+     * returned node.
      */
     private Node nodeAt(int index) {
         Node current;
-        if (index < size / 2) {
+        int distance = Math.abs(index - fingerIndex);
+        if (distance <= index + 1 && distance <= size - index) {
+            // start from finger
+            current = finger;
+            for (int i = fingerIndex; i < index; i++) {
+                current = current.next;
+            }
+            for (int i = fingerIndex; i > index; i--) {
+                current = current.prev;
+            }
+        } else if (index < size / 2) {
             // start from front of list
             current = front;
             for (int i = 0; i <= index; i++) {
@@ -185,9 +271,36 @@ public class LinkedList<E> extends AbstractList<E> implements Queue<E>, Stack<E>
                 current = current.prev;
             }
         }
+        finger = current;
+        fingerIndex = index;
         return current;
     }
 
+    /*
+     * Updates the finger after a given number of values were inserted at a
+     * given index.
+     */
+    private void inserted(int index, int count) {
+        if (fingerIndex >= index) {
+            fingerIndex += count;
+        }
+    }
+
+    /*
+     * Updates the finger after the elements with indices from a given index,
+     * inclusive, to another given index, exclusive, were removed. The given
+     * node precedes the removed elements.
+     */
+    private void removed(int from, int to, Node before) {
+        if (fingerIndex >= to) {
+            fingerIndex -= to - from;
+        } else if (fingerIndex >= from) {
+            // finger was removed
+            finger = before;
+            fingerIndex = from - 1;
+        }
+    }
+
     /*
      * This inner class represents a node used in a doubly linked list.
      */
@@ -222,11 +335,14 @@ public class LinkedList<E> extends AbstractList<E> implements Queue<E>, Stack<E>
     private class NodeIterator implements Iterator<E> {
         // next element
         private Node current;
+        // index of next element
+        private int index;
         // legal state for remove
         private boolean removeOK;
 
         public NodeIterator() {
             current = front.next;
+            index = 0;
             removeOK = false;
         }
 
@@ -242,6 +358,7 @@ public class LinkedList<E> extends AbstractList<E> implements Queue<E>, Stack<E>
             }
             E result = current.data;
             current = current.next;
+            index++;
             removeOK = true;
             return result;
         }
@@ -255,7 +372,108 @@ public class LinkedList<E> extends AbstractList<E> implements Queue<E>, Stack<E>
             prev2.next = current;
             current.prev = prev2;
             size--;
+            index--;
+            removed(index, index + 1, prev2);
             removeOK = false;
         }
     }
+
+    /*
+     * This inner class represents a cursor used for a linked list.
+     */
+    private class NodeCursor implements ListCursor<E> {
+        // node at cursor, or last dummy node at end of list
+        private Node current;
+        // index of node at cursor
+        private int index;
+
+        public NodeCursor(Node current, int index) {
+            this.current = current;
+            this.index = index;
+        }
+
+        @Override
+        public int index() {
+            return index;
+        }
+
+        @Override
+        public boolean hasElement() {
+            return current != back;
+        }
+
+        @Override
+        public E get() {
+            checkElement();
+            return current.data;
+        }
+
+        @Override
+        public void set(E value) {
+            checkElement();
+            current.data = value;
+        }
+
+        @Override
+        public void move(int offset) {
+            moveTo(index + offset);
+        }
+
+        @Override
+        public void moveTo(int target) {
+            checkPosition(target);
+            if (Math.abs(target - index) > Math.min(target + 1, size - target)) {
+                // an end of the list is closer
+                current = nodeAt(target);
+            } else {
+                for (; index < target; index++) {
+                    current = current.next;
+                }
+                for (; index > target; index--) {
+                    current = current.prev;
+                }
+            }
+            index = target;
+        }
+
+        @Override
+        public void insertBefore(E value) {
+            Node newNode = new Node(value, current, current.prev);
+            current.prev.next = newNode;
+            current.prev = newNode;
+            size++;
+            inserted(index, 1);
+            index++;
+        }
+
+        @Override
+        public void insertAfter(E value) {
+            checkElement();
+            Node newNode = new Node(value, current.next, current);
+            current.next.prev = newNode;
+            current.next = newNode;
+            size++;
+            inserted(index + 1, 1);
+        }
+
+        @Override
+        public void remove() {
+            checkElement();
+            Node before = current.prev;
+            before.next = current.next;
+            current.next.prev = before;
+            current = current.next;
+            size--;
+            removed(index, index + 1, before);
+        }
+
+        /*
+         * Throws an exception if this cursor is at the end of the list.
+         */
+        private void checkElement() {
+            if (current == back) {
+                throw new NoSuchElementException();
+            }
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package com.github.hubbards.data.structures;
 
+import java.util.function.Predicate;
+
 /**
  * This interface represents a generic interface for the list ADT.
  *
@@ -82,6 +84,19 @@ public interface List<E> extends Iterable<E> {
      */
     void addAll(List<E> other);
 
+    /**
+     * Inserts the elements of a given list at a given index in this list. The
+     * element at the given index and the elements after it are moved after the
+     * inserted elements.
+     *
+     * @param index the given index
+     * @param other the other list to add
+     *
+     * @throws IndexOutOfBoundsException if the given index is negative or
+     * greater than the size of this list
+     */
+    void addAll(int index, List<E> other);
+
     /**
      * Removes the element at a given index in this list.
      *
@@ -92,6 +107,30 @@ public interface List<E> extends Iterable<E> {
      */
     void remove(int index);
 
+    /**
+     * Removes the elements with indices from a given index, inclusive, to
+     * another given index, exclusive, in this list.
+     *
+     * @param from the index of the first element to remove
+     * @param to the index after the last element to remove
+     *
+     * @throws IndexOutOfBoundsException if <code>from</code> is negative,
+     * <code>to</code> is greater than the size of this list, or
+     * <code>from</code> is greater than <code>to</code>
+     */
+    void removeRange(int from, int to);
+
+    /**
+     * Removes the elements of this list that satisfy a given predicate. The
+     * order of the remaining elements is unchanged.
+     *
+     * @param filter the given predicate
+     *
+     * @return <code>true</code> if any elements were removed, otherwise
+     * <code>false</code>
+     */
+    boolean removeIf(Predicate<? super E> filter);
+
     /**
      * Sets the value of the element at a given index in this list to a given
      * value.
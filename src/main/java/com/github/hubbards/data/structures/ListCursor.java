@@ -0,0 +1,102 @@
+package com.github.hubbards.data.structures;
+
+/**
+ * This interface represents a generic interface for cursors over a list. A
+ * cursor is positioned at an element of the list or at the end of the list,
+ * after the last element. Moving a cursor by a small offset and editing the
+ * list at a cursor take constant time in a linked list, so a sequence of
+ * positional edits does not search for each position from the start.
+ * <p>
+ * A cursor is invalid after the list is changed other than through the cursor.
+ *
+ * @param <E> the element type of the list
+ *
+ * @author Spencer Hubbard
+ */
+public interface ListCursor<E> {
+    /**
+     * Returns the index of the position of this cursor. The index is the size
+     * of the list if this cursor is at the end of the list.
+     *
+     * @return the index of this cursor
+     */
+    int index();
+
+    /**
+     * Checks if this cursor is positioned at an element.
+     *
+     * @return <code>true</code> if this cursor is positioned at an element, or
+     * <code>false</code> if this cursor is at the end of the list
+     */
+    boolean hasElement();
+
+    /**
+     * Returns the element at this cursor.
+     *
+     * @return the element at this cursor
+     *
+     * @throws java.util.NoSuchElementException if this cursor is at the end of
+     * the list
+     */
+    E get();
+
+    /**
+     * Sets the value of the element at this cursor to a given value.
+     *
+     * @param value the value to set
+     *
+     * @throws java.util.NoSuchElementException if this cursor is at the end of
+     * the list
+     */
+    void set(E value);
+
+    /**
+     * Moves this cursor by a given number of positions, which is negative to
+     * move toward the front of the list.
+     *
+     * @param offset the given number of positions
+     *
+     * @throws IndexOutOfBoundsException if the new index is negative or
+     * greater than the size of the list
+     */
+    void move(int offset);
+
+    /**
+     * Moves this cursor to a given index.
+     *
+     * @param index the given index
+     *
+     * @throws IndexOutOfBoundsException if the given index is negative or
+     * greater than the size of the list
+     */
+    void moveTo(int index);
+
+    /**
+     * Inserts a given value before the position of this cursor. This cursor
+     * stays at the same element, whose index increases by one. If this cursor
+     * is at the end of the list, the value is appended to the list.
+     *
+     * @param value the value to insert
+     */
+    void insertBefore(E value);
+
+    /**
+     * Inserts a given value after the element at this cursor. This cursor
+     * stays at the same element.
+     *
+     * @param value the value to insert
+     *
+     * @throws java.util.NoSuchElementException if this cursor is at the end of
+     * the list
+     */
+    void insertAfter(E value);
+
+    /**
+     * Removes the element at this cursor. This cursor moves to the following
+     * element, whose index is the same as the index of the removed element.
+     *
+     * @throws java.util.NoSuchElementException if this cursor is at the end of
+     * the list
+     */
+    void remove();
+}
@@ -0,0 +1,383 @@
+package com.github.hubbards.data.structures;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * This class represents a generic bounded lock-free implementation of the
+ * queue ADT for any number of producer and consumer threads, following Dmitry
+ * Vyukov's bounded MPMC queue.
+ * <p>
+ * The elements are stored in a circular array whose length is a power of two,
+ * and each slot has a sequence number that tells whose turn it is. A slot
+ * whose sequence equals the tail is free for the producer that claims that
+ * tail, and a slot whose sequence is one more than the head holds the element
+ * for the consumer that claims that head. Producers and consumers claim a
+ * position with a compare and set on the padded tail or head sequence, write
+ * or read the slot with plain accesses, and publish the slot by an ordered
+ * write of its sequence. Threads contend only on the head or the tail, never
+ * on each other's slots.
+ * <p>
+ * {@link #drainTo(List, int)} claims a batch of consecutive elements with a
+ * single compare and set, so a consumer pays for synchronization once per
+ * batch. The blocking and timed methods wait by spinning, then yielding, then
+ * parking for short intervals; they do not use locks. Null elements are not
+ * permitted.
+ *
+ * @author Spencer Hubbard
+ */
+public class MpmcArrayQueue<E> implements Queue<E> {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // maximum capacity
+    private static final int MAX_CAPACITY = 1 << 30;
+    // number of attempts to spin and then to yield before parking
+    private static final int SPINS = 64;
+    private static final int YIELDS = 64;
+    // time to park between attempts in nanoseconds
+    private static final long PARK_NANOS = 10000L;
+
+    // circular array for queue
+    private final Object[] elementData;
+    // sequence of each slot
+    private final AtomicLongArray sequences;
+    // length of array minus one
+    private final int mask;
+    // sequence of next element to dequeue
+    private final Sequence head;
+    // sequence of next element to enqueue
+    private final Sequence tail;
+
+    /**
+     * Constructs an empty queue with default capacity.
+     */
+    public MpmcArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty queue with a capacity between a given capacity and
+     * twice the given capacity. The capacity is a power of two and at least
+     * two.
+     *
+     * @param capacity the given capacity
+     *
+     * @throws IllegalArgumentException if capacity is nonpositive or greater
+     * than <code>2<sup>30</sup></code>
+     */
+    public MpmcArrayQueue(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        // a single slot cannot tell a full queue from an empty one
+        int length = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        elementData = new Object[length];
+        sequences = new AtomicLongArray(length);
+        for (int i = 0; i < length; i++) {
+            sequences.set(i, i);
+        }
+        mask = length - 1;
+        head = new Sequence(0);
+        tail = new Sequence(0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        String separator = "";
+        long h = head.get();
+        long t = tail.get();
+        for (long i = h; i < t; i++) {
+            Object value = elementData[(int) i & mask];
+            if (value != null) {
+                builder.append(separator);
+                builder.append(value);
+                separator = ", ";
+            }
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements in this queue. The result is exact only
+     * if no producer or consumer is running.
+     *
+     * @return the number of elements in this queue
+     */
+    public int size() {
+        // read head first, so the difference is never negative
+        long h = head.get();
+        long t = tail.get();
+        return (int) Math.min(t - h, elementData.length);
+    }
+
+    /**
+     * Returns the maximum number of elements in this queue.
+     *
+     * @return the capacity of this queue
+     */
+    public int capacity() {
+        return elementData.length;
+    }
+
+    /**
+     * Adds a given value to the back of this queue if this queue is not full.
+     *
+     * @param value the value to add
+     *
+     * @return <code>true</code> if the value was added, or <code>false</code>
+     * if this queue is full
+     */
+    public boolean offer(E value) {
+        checkNotNull(value);
+        long t = tail.get();
+        while (true) {
+            int i = (int) t & mask;
+            long difference = sequences.get(i) - t;
+            if (difference == 0) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    elementData[i] = value;
+                    // publish element to consumers
+                    sequences.lazySet(i, t + 1);
+                    return true;
+                }
+                t = tail.get();
+            } else if (difference < 0) {
+                // slot still holds the element from the previous lap
+                return false;
+            } else {
+                // another producer claimed this position
+                t = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Adds a given value to the back of this queue, waiting up to a given time
+     * for space to become available.
+     *
+     * @param value the value to add
+     * @param timeout the given time to wait
+     * @param unit the unit of the given time
+     *
+     * @return <code>true</code> if the value was added, or <code>false</code>
+     * if this queue was still full when the time elapsed
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     * waiting
+     */
+    public boolean offer(E value, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (int attempt = 0; !offer(value); attempt++) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            backOff(attempt);
+        }
+        return true;
+    }
+
+    /**
+     * Adds a given value to the back of this queue, waiting for space to
+     * become available.
+     *
+     * @param value the value to add
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     * waiting
+     */
+    public void put(E value) throws InterruptedException {
+        for (int attempt = 0; !offer(value); attempt++) {
+            backOff(attempt);
+        }
+    }
+
+    /**
+     * Removes and returns the value at the front of this queue if this queue
+     * is not empty.
+     *
+     * @return the value at the front of this queue, or <code>null</code> if
+     * this queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long h = head.get();
+        while (true) {
+            int i = (int) h & mask;
+            long difference = sequences.get(i) - (h + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(h, h + 1)) {
+                    E result = (E) elementData[i];
+                    // remove reference for garbage collection
+                    elementData[i] = null;
+                    // release slot to the producer of the next lap
+                    sequences.lazySet(i, h + elementData.length);
+                    return result;
+                }
+                h = head.get();
+            } else if (difference < 0) {
+                // slot is not yet published
+                return null;
+            } else {
+                // another consumer claimed this position
+                h = head.get();
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the value at the front of this queue, waiting up to
+     * a given time for an element to become available.
+     *
+     * @param timeout the given time to wait
+     * @param unit the unit of the given time
+     *
+     * @return the value at the front of this queue, or <code>null</code> if
+     * this queue was still empty when the time elapsed
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     * waiting
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        E result;
+        for (int attempt = 0; (result = poll()) == null; attempt++) {
+            if (System.nanoTime() - deadline >= 0) {
+                return null;
+            }
+            backOff(attempt);
+        }
+        return result;
+    }
+
+    /**
+     * Removes and returns the value at the front of this queue, waiting for an
+     * element to become available.
+     *
+     * @return the value at the front of this queue
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     * waiting
+     */
+    public E take() throws InterruptedException {
+        E result;
+        for (int attempt = 0; (result = poll()) == null; attempt++) {
+            backOff(attempt);
+        }
+        return result;
+    }
+
+    /**
+     * Removes up to a given number of values from the front of this queue and
+     * adds them in order to the end of a given list. The values are claimed
+     * with a single compare and set.
+     *
+     * @param list the list to add the values to
+     * @param max the maximum number of values to remove
+     *
+     * @return the number of values removed
+     *
+     * @throws IllegalArgumentException if max is negative
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(List<? super E> list, int max) {
+        checkNotNull(list);
+        if (max < 0) {
+            throw new IllegalArgumentException("max: " + max);
+        }
+        max = Math.min(max, elementData.length);
+        long h;
+        int n;
+        do {
+            h = head.get();
+            // count published elements from the head
+            n = 0;
+            while (n < max && sequences.get((int) (h + n) & mask) == h + n + 1) {
+                n++;
+            }
+            if (n == 0) {
+                return 0;
+            }
+        } while (!head.compareAndSet(h, h + n));
+        for (int k = 0; k < n; k++) {
+            int i = (int) (h + k) & mask;
+            E value = (E) elementData[i];
+            // remove reference for garbage collection
+            elementData[i] = null;
+            // release slot to the producer of the next lap
+            sequences.lazySet(i, h + k + elementData.length);
+            list.add(value);
+        }
+        return n;
+    }
+
+    /**
+     * Adds a given value to the back of this queue.
+     *
+     * @param value the value to add
+     *
+     * @throws IllegalStateException if this queue is full
+     */
+    @Override
+    public void enqueue(E value) {
+        if (!offer(value)) {
+            throw new IllegalStateException("full queue");
+        }
+    }
+
+    @Override
+    public E dequeue() {
+        E result = poll();
+        if (result == null) {
+            throw new UnderflowException("empty queue");
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        while (true) {
+            long h = head.get();
+            int i = (int) h & mask;
+            long difference = sequences.get(i) - (h + 1);
+            if (difference < 0) {
+                throw new UnderflowException("empty queue");
+            } else if (difference == 0) {
+                E result = (E) elementData[i];
+                if (result != null && head.get() == h) {
+                    // element was not claimed before it was read
+                    return result;
+                }
+            }
+        }
+    }
+
+    /*
+     * Waits before a given attempt to retry an operation. Throws an exception
+     * if the current thread is interrupted.
+     */
+    private static void backOff(int attempt) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (attempt < SPINS) {
+            // retry immediately
+            return;
+        } else if (attempt < SPINS + YIELDS) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+}
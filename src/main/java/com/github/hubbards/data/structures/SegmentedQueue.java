@@ -0,0 +1,216 @@
+package com.github.hubbards.data.structures;
+
+/**
+ * This class represents a generic segmented implementation of the queue ADT.
+ * The elements are stored in a linked list of fixed-size array segments, so
+ * the queue grows one segment at a time without copying its elements, and
+ * every operation takes constant time in the worst case. Segments that are
+ * drained are kept in a small pool and reused by later bursts instead of being
+ * allocated again.
+ *
+ * @author Spencer Hubbard
+ */
+public class SegmentedQueue<E> implements Queue<E> {
+    // default number of elements in a segment
+    public static final int DEFAULT_SEGMENT_SIZE = 256;
+    // default maximum number of pooled segments
+    public static final int DEFAULT_MAX_POOLED = 4;
+
+    // number of elements in a segment
+    private final int segmentSize;
+    // maximum number of pooled segments
+    private final int maxPooled;
+    // segment holding front of queue
+    private Segment head;
+    // index of front of queue in head segment
+    private int headIndex;
+    // segment holding back of queue
+    private Segment tail;
+    // index after back of queue in tail segment
+    private int tailIndex;
+    // number of elements in queue
+    private int size;
+    // stack of drained segments linked through next
+    private Segment pool;
+    // number of pooled segments
+    private int pooled;
+
+    /**
+     * Constructs an empty queue with the default segment size.
+     */
+    public SegmentedQueue() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructs an empty queue with a given segment size.
+     *
+     * @param segmentSize the given number of elements in a segment
+     */
+    public SegmentedQueue(int segmentSize) {
+        this(segmentSize, DEFAULT_MAX_POOLED);
+    }
+
+    /**
+     * Constructs an empty queue with a given segment size and a given maximum
+     * number of pooled segments.
+     *
+     * @param segmentSize the given number of elements in a segment
+     * @param maxPooled the given maximum number of pooled segments
+     *
+     * @throws IllegalArgumentException if segmentSize is nonpositive or
+     * maxPooled is negative
+     */
+    public SegmentedQueue(int segmentSize, int maxPooled) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize: " + segmentSize);
+        }
+        if (maxPooled < 0) {
+            throw new IllegalArgumentException("maxPooled: " + maxPooled);
+        }
+        this.segmentSize = segmentSize;
+        this.maxPooled = maxPooled;
+        head = new Segment(segmentSize);
+        tail = head;
+        headIndex = 0;
+        tailIndex = 0;
+        size = 0;
+        pool = null;
+        pooled = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        String separator = "";
+        Segment segment = head;
+        int i = headIndex;
+        for (int k = 0; k < size; k++) {
+            if (i == segmentSize) {
+                segment = segment.next;
+                i = 0;
+            }
+            builder.append(separator);
+            builder.append(segment.values[i]);
+            separator = ", ";
+            i++;
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this queue.
+     *
+     * @return the number of elements in this queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of drained segments kept for reuse.
+     *
+     * @return the number of pooled segments
+     */
+    public int pooled() {
+        return pooled;
+    }
+
+    @Override
+    public void enqueue(E value) {
+        if (tailIndex == segmentSize) {
+            // link a new segment after the tail
+            Segment segment = obtain();
+            tail.next = segment;
+            tail = segment;
+            tailIndex = 0;
+        }
+        tail.values[tailIndex] = value;
+        tailIndex++;
+        size++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E dequeue() {
+        if (isEmpty()) {
+            throw new UnderflowException("empty queue");
+        }
+        E result = (E) head.values[headIndex];
+        // remove reference for garbage collection
+        head.values[headIndex] = null;
+        headIndex++;
+        size--;
+        if (size == 0) {
+            // reuse the remaining segment from its start
+            headIndex = 0;
+            tailIndex = 0;
+        } else if (headIndex == segmentSize) {
+            // unlink the drained head segment
+            Segment drained = head;
+            head = head.next;
+            headIndex = 0;
+            recycle(drained);
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        if (isEmpty()) {
+            throw new UnderflowException("empty queue");
+        }
+        return (E) head.values[headIndex];
+    }
+
+    /*
+     * Returns a pooled segment, or a new segment if the pool is empty.
+     */
+    private Segment obtain() {
+        if (pool == null) {
+            return new Segment(segmentSize);
+        }
+        Segment segment = pool;
+        pool = segment.next;
+        segment.next = null;
+        pooled--;
+        return segment;
+    }
+
+    /*
+     * Adds a given drained segment to the pool unless the pool is full. The
+     * elements of the segment were cleared as they were dequeued.
+     */
+    private void recycle(Segment segment) {
+        if (pooled < maxPooled) {
+            segment.next = pool;
+            pool = segment;
+            pooled++;
+        } else {
+            segment.next = null;
+        }
+    }
+
+    /*
+     * This inner class represents a segment of the queue.
+     */
+    private static class Segment {
+        // elements of segment
+        public final Object[] values;
+        // link to next segment toward the back of the queue
+        public Segment next;
+
+        public Segment(int size) {
+            values = new Object[size];
+            next = null;
+        }
+    }
+}
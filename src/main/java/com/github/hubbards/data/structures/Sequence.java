@@ -0,0 +1,75 @@
+package com.github.hubbards.data.structures;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * This class represents a counter shared between threads that is padded to
+ * fill cache lines of its own, so that writes to one sequence do not
+ * invalidate the cache line holding another sequence (false sharing). The
+ * padding is declared in superclasses and a subclass, because the JVM keeps
+ * the fields of a superclass before the fields of its subclasses but may
+ * reorder the fields within a class.
+ * <p>
+ * The owner of a sequence may also keep a cached copy of another sequence in
+ * {@link #cached}, which is read and written only by the owner.
+ *
+ * @author Spencer Hubbard
+ */
+final class Sequence extends SequenceValue {
+    // padding after the value
+    long p9, p10, p11, p12, p13, p14, p15;
+
+    // owner's cached copy of another sequence
+    long cached;
+
+    /*
+     * Constructs a sequence with a given initial value.
+     */
+    Sequence(long initial) {
+        value = initial;
+        cached = initial;
+    }
+
+    /*
+     * Reads the value with acquire semantics.
+     */
+    long get() {
+        return value;
+    }
+
+    /*
+     * Writes the value with release semantics, which is cheaper than a
+     * volatile write because it does not wait for the store buffer to drain.
+     */
+    void lazySet(long newValue) {
+        UPDATER.lazySet(this, newValue);
+    }
+
+    /*
+     * Sets the value to a given new value if it equals a given expected value.
+     * Returns true if the value was set.
+     */
+    boolean compareAndSet(long expected, long newValue) {
+        return UPDATER.compareAndSet(this, expected, newValue);
+    }
+}
+
+/**
+ * This class holds the padding before the value of a {@link Sequence}.
+ */
+abstract class SequencePadding {
+    // padding before the value
+    long p1, p2, p3, p4, p5, p6, p7;
+}
+
+/**
+ * This class holds the value of a {@link Sequence}.
+ */
+abstract class SequenceValue extends SequencePadding {
+    // updater for ordered writes and compare and set
+    static final AtomicLongFieldUpdater<SequenceValue> UPDATER =
+            AtomicLongFieldUpdater.newUpdater(SequenceValue.class, "value");
+
+    // value of sequence
+    volatile long value;
+}
@@ -0,0 +1,198 @@
+package com.github.hubbards.data.structures;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * This class represents a generic bounded lock-free implementation of the
+ * queue ADT for a single producer thread and a single consumer thread, such as
+ * a hand-off buffer between two stages of a pipeline.
+ * <p>
+ * The elements are stored in a circular array whose length is a power of two,
+ * so the slot of a sequence number is found with a mask instead of a
+ * remainder. The producer owns the tail sequence and the consumer owns the
+ * head sequence. Each side writes an element or clears a slot with a plain
+ * write and then publishes its sequence with an ordered write, which the other
+ * side reads with a volatile read. The sequences are padded onto cache lines of
+ * their own, and each side caches the last value it read of the other side's
+ * sequence, so the two threads rarely touch the same cache line.
+ * <p>
+ * Only one thread may call {@link #offer(Object)} and {@link #enqueue(Object)},
+ * and only one thread may call {@link #poll()}, {@link #dequeue()}, and
+ * {@link #peek()}. The other methods may be called from any thread and return
+ * a snapshot. Null elements are not permitted.
+ *
+ * @author Spencer Hubbard
+ */
+public class SpscRingQueue<E> implements Queue<E> {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // maximum capacity
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // circular array for queue
+    private final Object[] elementData;
+    // length of array minus one
+    private final int mask;
+    // sequence of next element to dequeue, owned by the consumer
+    private final Sequence head;
+    // sequence of next element to enqueue, owned by the producer
+    private final Sequence tail;
+
+    /**
+     * Constructs an empty queue with default capacity.
+     */
+    public SpscRingQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty queue with a capacity between a given capacity and
+     * twice the given capacity. The capacity is a power of two.
+     *
+     * @param capacity the given capacity
+     *
+     * @throws IllegalArgumentException if capacity is nonpositive or greater
+     * than <code>2<sup>30</sup></code>
+     */
+    public SpscRingQueue(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        elementData = new Object[length];
+        mask = length - 1;
+        head = new Sequence(0);
+        tail = new Sequence(0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        String separator = "";
+        long h = head.get();
+        long t = tail.get();
+        for (long i = h; i < t; i++) {
+            Object value = elementData[(int) i & mask];
+            if (value != null) {
+                builder.append(separator);
+                builder.append(value);
+                separator = ", ";
+            }
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements in this queue. The result is exact only
+     * if neither the producer nor the consumer is running.
+     *
+     * @return the number of elements in this queue
+     */
+    public int size() {
+        // read head first, so the difference is never negative
+        long h = head.get();
+        long t = tail.get();
+        return (int) Math.min(t - h, elementData.length);
+    }
+
+    /**
+     * Returns the maximum number of elements in this queue.
+     *
+     * @return the capacity of this queue
+     */
+    public int capacity() {
+        return elementData.length;
+    }
+
+    /**
+     * Adds a given value to the back of this queue if this queue is not full.
+     * This method may only be called by the producer thread.
+     *
+     * @param value the value to add
+     *
+     * @return <code>true</code> if the value was added, or <code>false</code>
+     * if this queue is full
+     */
+    public boolean offer(E value) {
+        checkNotNull(value);
+        long t = tail.value;
+        if (t - tail.cached >= elementData.length) {
+            // cached head is stale, so read the head of the consumer
+            tail.cached = head.get();
+            if (t - tail.cached >= elementData.length) {
+                return false;
+            }
+        }
+        elementData[(int) t & mask] = value;
+        // publish element to consumer
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Removes and returns the value at the front of this queue if this queue
+     * is not empty. This method may only be called by the consumer thread.
+     *
+     * @return the value at the front of this queue, or <code>null</code> if
+     * this queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long h = head.value;
+        if (h >= head.cached) {
+            // cached tail is stale, so read the tail of the producer
+            head.cached = tail.get();
+            if (h >= head.cached) {
+                return null;
+            }
+        }
+        int i = (int) h & mask;
+        E result = (E) elementData[i];
+        // remove reference for garbage collection
+        elementData[i] = null;
+        // release slot to producer
+        head.lazySet(h + 1);
+        return result;
+    }
+
+    /**
+     * Adds a given value to the back of this queue. This method may only be
+     * called by the producer thread.
+     *
+     * @param value the value to add
+     *
+     * @throws IllegalStateException if this queue is full
+     */
+    @Override
+    public void enqueue(E value) {
+        if (!offer(value)) {
+            throw new IllegalStateException("full queue");
+        }
+    }
+
+    @Override
+    public E dequeue() {
+        E result = poll();
+        if (result == null) {
+            throw new UnderflowException("empty queue");
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        long h = head.value;
+        if (h >= tail.get()) {
+            throw new UnderflowException("empty queue");
+        }
+        return (E) elementData[(int) h & mask];
+    }
+}
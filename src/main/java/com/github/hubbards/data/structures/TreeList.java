@@ -0,0 +1,427 @@
+package com.github.hubbards.data.structures;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * This class represents a generic rope implementation of the list ADT. The
+ * elements are stored in order in chunks of up to {@value #CHUNK} elements,
+ * and the chunks are the nodes of an AVL tree ordered by position. Each node
+ * records the number of elements in its subtree, so the chunk holding an index
+ * is found in logarithmic time.
+ * <p>
+ * Access, insertion, and removal at any index take logarithmic time, plus time
+ * proportional to the chunk size to shift elements within a chunk. A full chunk
+ * is split in two, and an empty chunk is removed from the tree. Iteration
+ * visits the chunks in order and takes constant amortized time per element.
+ *
+ * @author Spencer Hubbard
+ */
+public class TreeList<E> extends AbstractList<E> {
+    // maximum number of elements in a chunk
+    public static final int CHUNK = 64;
+
+    // root of tree of chunks
+    private Node root;
+
+    /**
+     * Constructs an empty list.
+     */
+    public TreeList() {
+        root = null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        String separator = "";
+        for (E value : this) {
+            builder.append(separator);
+            builder.append(value);
+            separator = ", ";
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    @Override
+    public int size() {
+        return count(root);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        Node node = root;
+        while (true) {
+            int leftCount = count(node.left);
+            if (index < leftCount) {
+                node = node.left;
+            } else if (index < leftCount + node.size) {
+                return (E) node.values[index - leftCount];
+            } else {
+                index -= leftCount + node.size;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int indexOf(E value) {
+        int i = 0;
+        for (E element : this) {
+            if (element.equals(value)) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    @Override
+    public void add(E value) {
+        add(size(), value);
+    }
+
+    @Override
+    public void add(int index, E value) {
+        checkPosition(index);
+        root = insert(root, index, value);
+    }
+
+    @Override
+    public void addAll(List<E> other) {
+        addAll(size(), other);
+    }
+
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+        root = remove(root, index);
+    }
+
+    @Override
+    public void set(int index, E value) {
+        checkIndex(index);
+        Node node = root;
+        while (true) {
+            int leftCount = count(node.left);
+            if (index < leftCount) {
+                node = node.left;
+            } else if (index < leftCount + node.size) {
+                node.values[index - leftCount] = value;
+                return;
+            } else {
+                index -= leftCount + node.size;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new TreeListIterator();
+    }
+
+    /**
+     * Returns the height of the tree of chunks of this list or
+     * <code>-1</code> if this list is empty.
+     *
+     * @return the height of the tree of chunks
+     */
+    public int height() {
+        return height(root);
+    }
+
+    /*
+     * Inserts a given value at a given index in the subtree rooted at a given
+     * node. Returns the new root of the subtree.
+     */
+    private Node insert(Node node, int index, E value) {
+        if (node == null) {
+            Node result = new Node();
+            result.values[0] = value;
+            result.size = 1;
+            result.update();
+            return result;
+        }
+        int leftCount = count(node.left);
+        if (index < leftCount) {
+            node.left = insert(node.left, index, value);
+        } else if (index <= leftCount + node.size) {
+            if (node.size == CHUNK) {
+                // move upper half of full chunk to a new chunk after this one
+                Node upper = new Node();
+                upper.size = CHUNK / 2;
+                System.arraycopy(node.values, CHUNK / 2, upper.values, 0, CHUNK / 2);
+                Arrays.fill(node.values, CHUNK / 2, CHUNK, null);
+                node.size = CHUNK / 2;
+                upper.update();
+                node.right = insertFirst(node.right, upper);
+                // value now fits in this chunk or the new chunk
+                return insert(balance(node), index, value);
+            }
+            int i = index - leftCount;
+            // block copy operation
+            System.arraycopy(node.values, i, node.values, i + 1, node.size - i);
+            node.values[i] = value;
+            node.size++;
+        } else {
+            node.right = insert(node.right, index - leftCount - node.size, value);
+        }
+        return balance(node);
+    }
+
+    /*
+     * Inserts a given node before every node of the subtree rooted at another
+     * given node. Returns the new root of the subtree.
+     */
+    private Node insertFirst(Node node, Node first) {
+        if (node == null) {
+            return first;
+        }
+        node.left = insertFirst(node.left, first);
+        return balance(node);
+    }
+
+    /*
+     * Removes the value at a given index in the subtree rooted at a given node.
+     * Returns the new root of the subtree.
+     */
+    private Node remove(Node node, int index) {
+        int leftCount = count(node.left);
+        if (index < leftCount) {
+            node.left = remove(node.left, index);
+        } else if (index < leftCount + node.size) {
+            int i = index - leftCount;
+            // block copy operation
+            System.arraycopy(node.values, i + 1, node.values, i, node.size - i - 1);
+            node.size--;
+            // remove reference for garbage collection
+            node.values[node.size] = null;
+            if (node.size == 0) {
+                // remove empty chunk from tree
+                if (node.left == null) {
+                    return node.right;
+                } else if (node.right == null) {
+                    return node.left;
+                }
+                Node successor = node.right;
+                while (successor.left != null) {
+                    successor = successor.left;
+                }
+                successor.right = removeFirst(node.right);
+                successor.left = node.left;
+                return balance(successor);
+            }
+        } else {
+            node.right = remove(node.right, index - leftCount - node.size);
+        }
+        return balance(node);
+    }
+
+    /*
+     * Removes the first node of the subtree rooted at a given node. Returns the
+     * new root of the subtree.
+     */
+    private Node removeFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeFirst(node.left);
+        return balance(node);
+    }
+
+    /*
+     * Restores the balance of the subtree rooted at a given node whose
+     * children are balanced. Returns the new root of the subtree.
+     */
+    private Node balance(Node node) {
+        node.update();
+        int difference = height(node.left) - height(node.right);
+        if (difference > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (difference < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /*
+     * Rotates the subtree rooted at a given node to the right. Returns the new
+     * root of the subtree.
+     */
+    private Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    /*
+     * Rotates the subtree rooted at a given node to the left. Returns the new
+     * root of the subtree.
+     */
+    private Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+
+    /*
+     * Returns the number of elements in the subtree rooted at a given node.
+     */
+    private static int count(Node node) {
+        return node == null ? 0 : node.count;
+    }
+
+    /*
+     * Returns the height of the subtree rooted at a given node.
+     */
+    private static int height(Node node) {
+        return node == null ? -1 : node.height;
+    }
+
+    /*
+     * This inner class represents a chunk of elements in the tree.
+     */
+    private static class Node {
+        // elements of chunk
+        private final Object[] values;
+        // number of elements in chunk
+        private int size;
+        // number of elements in subtree
+        private int count;
+        // height of subtree
+        private int height;
+        // left subtree
+        private Node left;
+        // right subtree
+        private Node right;
+
+        public Node() {
+            values = new Object[CHUNK];
+        }
+
+        /*
+         * Recomputes the count and height of this node from its children.
+         */
+        private void update() {
+            count = count(left) + size + count(right);
+            height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /*
+     * This inner class represents an iterator used for a tree list. It keeps
+     * the path of chunks whose elements are not yet visited.
+     */
+    private class TreeListIterator implements Iterator<E> {
+        // chunks not yet visited, with the current chunk on top
+        private final Deque<Node> path;
+        // index of next element in current chunk
+        private int offset;
+        // next element
+        private int position;
+        // legal state for remove
+        private boolean removeOK;
+
+        public TreeListIterator() {
+            path = new ArrayDeque<Node>();
+            seek(0);
+            removeOK = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < size();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node node = path.peek();
+            E result = (E) node.values[offset];
+            offset++;
+            position++;
+            if (offset == node.size) {
+                // advance to next chunk in order
+                path.pop();
+                pushLeft(node.right);
+                offset = 0;
+            }
+            removeOK = true;
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            if (!removeOK) {
+                throw new IllegalStateException();
+            }
+            TreeList.this.remove(position - 1);
+            position--;
+            // removal may rebalance the tree, so find the path again
+            seek(position);
+            removeOK = false;
+        }
+
+        /*
+         * Finds the path to the element at a given index.
+         */
+        private void seek(int index) {
+            path.clear();
+            position = index;
+            Node node = root;
+            while (node != null) {
+                int leftCount = count(node.left);
+                if (index < leftCount) {
+                    path.push(node);
+                    node = node.left;
+                } else if (index < leftCount + node.size) {
+                    path.push(node);
+                    offset = index - leftCount;
+                    return;
+                } else {
+                    index -= leftCount + node.size;
+                    node = node.right;
+                }
+            }
+            offset = 0;
+        }
+
+        /*
+         * Pushes a given node and its left descendants.
+         */
+        private void pushLeft(Node node) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+    }
+}
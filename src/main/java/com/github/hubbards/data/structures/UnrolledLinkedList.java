@@ -0,0 +1,410 @@
+package com.github.hubbards.data.structures;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * This class represents a generic unrolled linked list implementation of the
+ * list ADT. This class also implements the queue and stack ADTs.
+ * <p>
+ * Each node of the doubly linked list holds a chunk of consecutive elements in
+ * an array, so the per-element overhead of the links is shared by the chunk
+ * and iteration reads elements from contiguous memory. The elements of a chunk
+ * occupy a contiguous range of its array that can grow at either end, so
+ * adding or removing at either end of the list takes constant time. A full
+ * chunk is split in two for an insertion in its middle, and a chunk that
+ * becomes sparse is merged with the next chunk.
+ *
+ * @author Spencer Hubbard
+ */
+public class UnrolledLinkedList<E> extends AbstractList<E> implements Queue<E>, Stack<E> {
+    // default number of elements in a chunk
+    public static final int DEFAULT_CHUNK = 32;
+
+    // first dummy node
+    private final Node front;
+    // last dummy node
+    private final Node back;
+    // maximum number of elements in a chunk
+    private final int chunk;
+    // number of elements in list
+    private int size;
+
+    /**
+     * Constructs an empty list with the default chunk size.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_CHUNK);
+    }
+
+    /**
+     * Constructs an empty list with a given maximum number of elements in a
+     * chunk.
+     *
+     * @param chunk the given chunk size
+     *
+     * @throws IllegalArgumentException if chunk is less than two
+     */
+    public UnrolledLinkedList(int chunk) {
+        if (chunk < 2) {
+            throw new IllegalArgumentException("chunk: " + chunk);
+        }
+        this.chunk = chunk;
+        front = new Node(0);
+        back = new Node(0);
+        clear();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        Node node = front.next;
+        while (index >= node.count) {
+            index -= node.count;
+            node = node.next;
+        }
+        return node.get(index);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        String separator = "";
+        for (E value : this) {
+            builder.append(separator);
+            builder.append(value);
+            separator = ", ";
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    @Override
+    public int indexOf(E value) {
+        int index = 0;
+        for (Node node = front.next; node != back; node = node.next) {
+            for (int i = node.start; i < node.start + node.count; i++) {
+                if (node.values[i].equals(value)) {
+                    return index + i - node.start;
+                }
+            }
+            index += node.count;
+        }
+        return -1;
+    }
+
+    @Override
+    public void add(E value) {
+        Node last = back.prev;
+        insert(last, last.count, value);
+    }
+
+    @Override
+    public void add(int index, E value) {
+        checkPosition(index);
+        if (index == size) {
+            add(value);
+            return;
+        }
+        Node node = front.next;
+        while (index >= node.count) {
+            index -= node.count;
+            node = node.next;
+        }
+        insert(node, index, value);
+    }
+
+    @Override
+    public void addAll(List<E> other) {
+        addAll(size, other);
+    }
+
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+        Node node = front.next;
+        while (index >= node.count) {
+            index -= node.count;
+            node = node.next;
+        }
+        delete(node, index);
+    }
+
+    @Override
+    public void set(int index, E value) {
+        checkIndex(index);
+        Node node = front.next;
+        while (index >= node.count) {
+            index -= node.count;
+            node = node.next;
+        }
+        node.values[node.start + index] = value;
+    }
+
+    @Override
+    public void clear() {
+        front.next = back;
+        back.prev = front;
+        size = 0;
+    }
+
+    @Override
+    public void push(E value) {
+        insert(front.next, 0, value);
+    }
+
+    @Override
+    public E pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return removeFirst();
+    }
+
+    @Override
+    public void enqueue(E value) {
+        add(value);
+    }
+
+    @Override
+    public E dequeue() {
+        if (size == 0) {
+            throw new UnderflowException("empty queue");
+        }
+        return removeFirst();
+    }
+
+    @Override
+    public E peek() {
+        if (size == 0) {
+            throw new UnderflowException("empty queue");
+        }
+        return front.next.get(0);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ChunkIterator();
+    }
+
+    /**
+     * Returns the number of chunks in this list. This method runs in time
+     * proportional to the number of chunks.
+     *
+     * @return the number of chunks
+     */
+    public int chunks() {
+        int result = 0;
+        for (Node node = front.next; node != back; node = node.next) {
+            result++;
+        }
+        return result;
+    }
+
+    /*
+     * Removes the element at the head of this list.
+     */
+    private E removeFirst() {
+        Node first = front.next;
+        E value = first.get(0);
+        delete(first, 0);
+        return value;
+    }
+
+    /*
+     * Inserts a given value at a given offset in the chunk of a given node. The
+     * node may be the last dummy node if the offset is zero.
+     */
+    private void insert(Node node, int offset, E value) {
+        if (node == back || node == front || node.count == chunk) {
+            if (offset == 0 && node != front) {
+                // start a chunk before this one that grows toward the front
+                Node newNode = linkBefore(node);
+                newNode.start = chunk;
+                node = newNode;
+            } else if (offset == node.count) {
+                // start a chunk after this one that grows toward the back
+                node = linkBefore(node.next);
+                offset = 0;
+            } else {
+                // move upper half of full chunk to a new chunk after this one
+                Node upper = linkBefore(node.next);
+                int half = node.count / 2;
+                upper.count = node.count - half;
+                System.arraycopy(node.values, node.start + half, upper.values, 0, upper.count);
+                Arrays.fill(node.values, node.start + half, node.start + node.count, null);
+                node.count = half;
+                if (offset > half) {
+                    node = upper;
+                    offset -= half;
+                }
+            }
+        }
+        Object[] values = node.values;
+        if (offset == 0 && node.start > 0) {
+            // grow toward the front
+            node.start--;
+        } else if (node.start + node.count == chunk) {
+            // block copy operation; shift the elements before the offset back
+            System.arraycopy(values, node.start, values, node.start - 1, offset);
+            node.start--;
+        } else {
+            // block copy operation; shift the elements after the offset forward
+            int i = node.start + offset;
+            System.arraycopy(values, i, values, i + 1, node.count - offset);
+        }
+        values[node.start + offset] = value;
+        node.count++;
+        size++;
+    }
+
+    /*
+     * Removes the element at a given offset in the chunk of a given node.
+     */
+    private void delete(Node node, int offset) {
+        Object[] values = node.values;
+        if (offset == 0) {
+            // shrink from the front
+            values[node.start] = null;
+            node.start++;
+        } else {
+            // block copy operation; shift the elements after the offset back
+            int i = node.start + offset;
+            System.arraycopy(values, i + 1, values, i, node.count - offset - 1);
+            values[node.start + node.count - 1] = null;
+        }
+        node.count--;
+        size--;
+        if (node.count == 0) {
+            // unlink empty chunk
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+        } else if (node.next != back && node.count + node.next.count <= chunk / 2) {
+            // merge sparse chunk with next chunk
+            Node next = node.next;
+            System.arraycopy(values, node.start, values, 0, node.count);
+            Arrays.fill(values, node.count, node.start + node.count, null);
+            node.start = 0;
+            System.arraycopy(next.values, next.start, values, node.count, next.count);
+            node.count += next.count;
+            node.next = next.next;
+            next.next.prev = node;
+        }
+    }
+
+    /*
+     * Links a new empty node before a given node and returns it.
+     */
+    private Node linkBefore(Node node) {
+        Node newNode = new Node(chunk);
+        newNode.next = node;
+        newNode.prev = node.prev;
+        node.prev.next = newNode;
+        node.prev = newNode;
+        return newNode;
+    }
+
+    /*
+     * This inner class represents a node holding a chunk of elements.
+     */
+    private class Node {
+        // elements of chunk from start, inclusive, to start plus count
+        public final Object[] values;
+        // index of first element of chunk
+        public int start;
+        // number of elements in chunk
+        public int count;
+        // link to next node in list
+        public Node next;
+        // link to previous node in list
+        public Node prev;
+
+        /*
+         * Constructs an empty node with a given capacity.
+         */
+        public Node(int capacity) {
+            values = new Object[capacity];
+            start = 0;
+            count = 0;
+        }
+
+        /*
+         * Returns the element at a given offset in this chunk.
+         */
+        @SuppressWarnings("unchecked")
+        public E get(int offset) {
+            return (E) values[start + offset];
+        }
+    }
+
+    /*
+     * This inner class represents an iterator used for an unrolled linked list.
+     */
+    private class ChunkIterator implements Iterator<E> {
+        // chunk of next element
+        private Node current;
+        // offset of next element in chunk
+        private int offset;
+        // chunk of last element returned
+        private Node last;
+        // legal state for remove
+        private boolean removeOK;
+
+        public ChunkIterator() {
+            current = front.next;
+            offset = 0;
+            removeOK = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != back;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E result = current.get(offset);
+            last = current;
+            offset++;
+            if (offset == current.count) {
+                current = current.next;
+                offset = 0;
+            }
+            removeOK = true;
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            if (!removeOK) {
+                throw new IllegalStateException();
+            }
+            // the next element follows the last element in its chunk, also
+            // after the chunk is merged with the next chunk
+            int lastOffset = last == current ? offset - 1 : last.count - 1;
+            delete(last, lastOffset);
+            if (last.count == 0) {
+                current = last.next;
+                offset = 0;
+            } else if (lastOffset < last.count) {
+                current = last;
+                offset = lastOffset;
+            } else {
+                current = last.next;
+                offset = 0;
+            }
+            removeOK = false;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.hubbards.data.structures.cache;
+
+/**
+ * This interface represents a generic interface for bounded caches. A cache
+ * associates keys with values like a map, but holds at most a fixed number of
+ * keys and evicts keys to make room for new keys. Keys and values must not be
+ * <code>null</code>.
+ *
+ * @param <K> the key type of this cache
+ * @param <V> the value type of this cache
+ *
+ * @author Spencer Hubbard
+ */
+public interface Cache<K, V> {
+    /**
+     * Returns the value associated with a given key and records a hit, or
+     * records a miss if the given key does not belong to this cache.
+     *
+     * @param key the given key
+     *
+     * @return the value associated with the given key or <code>null</code> if
+     * the given key does not belong to this cache
+     */
+    V get(K key);
+
+    /**
+     * Associates a given value with a given key, replacing any value already
+     * associated with the given key. A key may be evicted to make room for the
+     * given key, and the given key itself may not be admitted.
+     *
+     * @param key the given key
+     * @param value the given value
+     *
+     * @throws NullPointerException if the given key or value is
+     * <code>null</code>
+     */
+    void put(K key, V value);
+
+    /**
+     * Removes a given key and its value from this cache if this cache contains
+     * the given key.
+     *
+     * @param key the given key
+     *
+     * @return the value previously associated with the given key or
+     * <code>null</code> if the given key did not belong to this cache
+     */
+    V remove(K key);
+
+    /**
+     * Returns the number of keys in this cache.
+     *
+     * @return the number of keys in this cache
+     */
+    int size();
+
+    /**
+     * Returns the maximum number of keys in this cache.
+     *
+     * @return the capacity of this cache
+     */
+    int capacity();
+
+    /**
+     * Returns the number of lookups that found a value.
+     *
+     * @return the number of hits
+     */
+    long hits();
+
+    /**
+     * Returns the number of lookups that did not find a value.
+     *
+     * @return the number of misses
+     */
+    long misses();
+
+    /**
+     * Returns the number of keys evicted to make room for other keys.
+     *
+     * @return the number of evictions
+     */
+    long evictions();
+
+    /**
+     * Returns the ratio of hits to lookups or zero if there were no lookups.
+     *
+     * @return the hit rate of this cache
+     */
+    default double hitRate() {
+        long lookups = hits() + misses();
+        return lookups == 0 ? 0.0 : (double) hits() / lookups;
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.hubbards.data.structures.cache;
+
+import java.util.function.IntFunction;
+
+/**
+ * This class represents a thread-safe bounded cache that partitions its keys
+ * among several segments. Each segment is an independent cache guarded by its
+ * own lock, so threads using keys of different segments do not contend. The
+ * segment of a key is selected by the high bits of its mixed hash code, and
+ * each segment evicts keys according to its own policy.
+ *
+ * @param <K> the key type of this cache
+ * @param <V> the value type of this cache
+ *
+ * @author Spencer Hubbard
+ */
+public class ConcurrentCache<K, V> implements Cache<K, V> {
+    // default number of segments
+    public static final int DEFAULT_CONCURRENCY = 16;
+
+    // segments of this cache
+    private final Cache<K, V>[] segments;
+    // number of bits selecting a segment
+    private final int bits;
+
+    /**
+     * Constructs an empty cache with a given capacity and the default number
+     * of segments, each created by a given factory from its capacity.
+     *
+     * @param capacity the given capacity
+     * @param factory the given factory, e.g., <code>LruCache::new</code>
+     */
+    public ConcurrentCache(int capacity, IntFunction<Cache<K, V>> factory) {
+        this(capacity, DEFAULT_CONCURRENCY, factory);
+    }
+
+    /**
+     * Constructs an empty cache with a given capacity and at least a given
+     * number of segments, each created by a given factory from its capacity.
+     * The number of segments is a power of two and at most the capacity.
+     *
+     * @param capacity the given capacity
+     * @param concurrency the given number of segments
+     * @param factory the given factory, e.g., <code>LruCache::new</code>
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentCache(int capacity, int concurrency, IntFunction<Cache<K, V>> factory) {
+        if (capacity < 1 || concurrency < 1 || factory == null) {
+            throw new IllegalArgumentException();
+        }
+        int n = 1;
+        while (n < concurrency && 2 * n <= capacity) {
+            n *= 2;
+        }
+        segments = (Cache<K, V>[]) new Cache<?, ?>[n];
+        bits = Integer.numberOfTrailingZeros(n);
+        for (int i = 0; i < n; i++) {
+            // spread remainder over the first segments
+            segments[i] = factory.apply(capacity / n + (i < capacity % n ? 1 : 0));
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        Cache<K, V> segment = segment(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Cache<K, V> segment = segment(key);
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        Cache<K, V> segment = segment(key);
+        synchronized (segment) {
+            return segment.remove(key);
+        }
+    }
+
+    @Override
+    public int size() {
+        int sum = 0;
+        for (Cache<K, V> segment : segments) {
+            synchronized (segment) {
+                sum += segment.size();
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public int capacity() {
+        int sum = 0;
+        for (Cache<K, V> segment : segments) {
+            sum += segment.capacity();
+        }
+        return sum;
+    }
+
+    @Override
+    public long hits() {
+        long sum = 0;
+        for (Cache<K, V> segment : segments) {
+            synchronized (segment) {
+                sum += segment.hits();
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public long misses() {
+        long sum = 0;
+        for (Cache<K, V> segment : segments) {
+            synchronized (segment) {
+                sum += segment.misses();
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public long evictions() {
+        long sum = 0;
+        for (Cache<K, V> segment : segments) {
+            synchronized (segment) {
+                sum += segment.evictions();
+            }
+        }
+        return sum;
+    }
+
+    /*
+     * Returns the segment of a given key.
+     */
+    private Cache<K, V> segment(K key) {
+        if (bits == 0) {
+            return segments[0];
+        }
+        int h = key.hashCode() * 0x9E3779B9;
+        return segments[(h ^ (h >>> 16)) >>> (32 - bits)];
+    }
+}
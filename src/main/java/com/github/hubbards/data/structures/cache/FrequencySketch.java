@@ -0,0 +1,110 @@
+package com.github.hubbards.data.structures.cache;
+
+/**
+ * This class represents a count-min sketch of 4-bit counters that estimates
+ * how often keys were accessed recently. Each key has one counter in each of
+ * four rows, and its frequency is estimated by the smallest of its counters.
+ * Sixteen counters are packed in a <code>long</code>. After a number of
+ * accesses proportional to the capacity of the cache, every counter is halved
+ * so that old accesses are forgotten.
+ *
+ * @author Spencer Hubbard
+ */
+final class FrequencySketch {
+    // maximum value of a counter
+    static final int MAX_FREQUENCY = 15;
+
+    // clears the high bit of each counter after shifting
+    private static final long RESET_MASK = 0x7777777777777777L;
+    // seeds of the hash functions of the rows
+    private static final int[] SEEDS = {0x97cb3127, 0xc4ceb9fe, 0x1b873593, 0x85ebca6b};
+
+    // counters, sixteen per element
+    private final long[] table;
+    // number of elements of table minus one
+    private final int mask;
+    // number of accesses between resets
+    private final int sampleSize;
+    // number of accesses since the last reset
+    private int additions;
+
+    /*
+     * Constructs a sketch for a cache with a given capacity.
+     */
+    FrequencySketch(int capacity) {
+        int n = Math.max(capacity, 16);
+        table = new long[Integer.highestOneBit(n - 1) << 1];
+        mask = table.length - 1;
+        sampleSize = 10 * Math.max(capacity, 16);
+        additions = 0;
+    }
+
+    /*
+     * Returns the estimated number of recent accesses of a given key, which is
+     * at most 15.
+     */
+    int frequency(Object key) {
+        int h = spread(key.hashCode());
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int x = index(h, i);
+            int shift = offset(x);
+            frequency = Math.min(frequency, (int) ((table[x & mask] >>> shift) & 0xF));
+        }
+        return frequency;
+    }
+
+    /*
+     * Records an access of a given key.
+     */
+    void increment(Object key) {
+        int h = spread(key.hashCode());
+        for (int i = 0; i < SEEDS.length; i++) {
+            int x = index(h, i);
+            int shift = offset(x);
+            if (((table[x & mask] >>> shift) & 0xF) < MAX_FREQUENCY) {
+                table[x & mask] += 1L << shift;
+            }
+        }
+        additions++;
+        if (additions == sampleSize) {
+            reset();
+        }
+    }
+
+    /*
+     * Halves every counter.
+     */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    /*
+     * Mixes the bits of a given hash code.
+     */
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x45d9f3b;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /*
+     * Returns the hash of a given spread hash code for a given row. The low
+     * bits select the element and the high bits select the counter.
+     */
+    private static int index(int h, int i) {
+        int x = (h ^ SEEDS[i]) * 0x9E3779B9;
+        return x ^ (x >>> 17);
+    }
+
+    /*
+     * Returns the bit offset of a counter in its element for a given hash.
+     */
+    private static int offset(int x) {
+        return (x >>> 28) << 2;
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.hubbards.data.structures.cache;
+
+import com.github.hubbards.data.structures.hash.LinearProbingHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * This class represents a bounded cache that evicts the least recently used
+ * key. Keys are indexed by a {@link LinearProbingHashMap} from keys to the
+ * nodes of an intrusive linked list in order of recency, so getting and
+ * putting a key take constant expected time. The node of an evicted key is
+ * reused for the new key.
+ *
+ * @param <K> the key type of this cache
+ * @param <V> the value type of this cache
+ *
+ * @author Spencer Hubbard
+ */
+public class LruCache<K, V> implements Cache<K, V> {
+    // maximum capacity, so that the index fits in an array
+    public static final int MAX_CAPACITY = 1 << 28;
+
+    // maximum number of keys
+    private final int capacity;
+    // nodes of keys
+    private final LinearProbingHashMap<K, NodeList.Node<K, V>> index;
+    // nodes from most to least recently used
+    private final NodeList<K, V> list;
+    // statistics
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs an empty cache with a given capacity.
+     *
+     * @param capacity the given capacity
+     *
+     * @throws IllegalArgumentException if the given capacity is not positive
+     * or more than {@link #MAX_CAPACITY}
+     */
+    public LruCache(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        this.capacity = capacity;
+        // more than four buckets per key, so rehashing only discards removed keys
+        int buckets = (int) Math.min(4L * capacity + 1, LinearProbingHashMap.MAX_CAPACITY);
+        index = new LinearProbingHashMap<K, NodeList.Node<K, V>>(buckets);
+        list = new NodeList<K, V>();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    @Override
+    public V get(K key) {
+        NodeList.Node<K, V> node = index.get(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        list.moveToFront(node);
+        return node.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        checkNotNull(key);
+        checkNotNull(value);
+        NodeList.Node<K, V> node = index.get(key);
+        if (node != null) {
+            // replace value of key
+            node.value = value;
+            list.moveToFront(node);
+            return;
+        }
+        if (list.size() == capacity) {
+            // evict least recently used key and reuse its node
+            node = list.last();
+            list.remove(node);
+            index.remove(node.key);
+            evictions++;
+            node.key = key;
+            node.value = value;
+        } else {
+            node = new NodeList.Node<K, V>(key, value);
+        }
+        list.addFirst(node);
+        index.put(key, node);
+    }
+
+    @Override
+    public V remove(K key) {
+        NodeList.Node<K, V> node = index.remove(key);
+        if (node == null) {
+            return null;
+        }
+        list.remove(node);
+        return node.value;
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public long hits() {
+        return hits;
+    }
+
+    @Override
+    public long misses() {
+        return misses;
+    }
+
+    @Override
+    public long evictions() {
+        return evictions;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        list.append(builder);
+        builder.append(']');
+        return builder.toString();
+    }
+}
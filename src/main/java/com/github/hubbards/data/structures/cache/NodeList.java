@@ -0,0 +1,115 @@
+package com.github.hubbards.data.structures.cache;
+
+/**
+ * This class represents an intrusive doubly linked list of cache entries with
+ * dummy nodes at the front and the back, like
+ * {@link com.github.hubbards.data.structures.LinkedList}. Entries are linked
+ * and unlinked in constant time given their nodes, which are held by the index
+ * of a cache, and a node can move between lists without allocating.
+ *
+ * @param <K> the key type of the entries
+ * @param <V> the value type of the entries
+ *
+ * @author Spencer Hubbard
+ */
+final class NodeList<K, V> {
+    // first dummy node
+    private final Node<K, V> front;
+    // last dummy node
+    private final Node<K, V> back;
+    // number of nodes in list
+    private int size;
+
+    /*
+     * Constructs an empty list.
+     */
+    NodeList() {
+        front = new Node<K, V>(null, null);
+        back = new Node<K, V>(null, null);
+        front.next = back;
+        back.prev = front;
+        size = 0;
+    }
+
+    /*
+     * Returns the number of nodes in this list.
+     */
+    int size() {
+        return size;
+    }
+
+    /*
+     * Returns the node at the back of this list, i.e., the least recently
+     * added or moved node, or null if this list is empty.
+     */
+    Node<K, V> last() {
+        return size == 0 ? null : back.prev;
+    }
+
+    /*
+     * Links a given node at the front of this list.
+     */
+    void addFirst(Node<K, V> node) {
+        node.prev = front;
+        node.next = front.next;
+        front.next.prev = node;
+        front.next = node;
+        size++;
+    }
+
+    /*
+     * Unlinks a given node of this list.
+     */
+    void remove(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        size--;
+    }
+
+    /*
+     * Moves a given node of this list to the front.
+     */
+    void moveToFront(Node<K, V> node) {
+        remove(node);
+        addFirst(node);
+    }
+
+    /*
+     * Appends the entries of this list from front to back to a given builder.
+     */
+    void append(StringBuilder builder) {
+        for (Node<K, V> node = front.next; node != back; node = node.next) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(node.key);
+            builder.append('=');
+            builder.append(node.value);
+        }
+    }
+
+    /*
+     * This class represents a cache entry linked into a list.
+     */
+    static final class Node<K, V> {
+        // key of entry
+        K key;
+        // value of entry
+        V value;
+        // links to neighbours in list
+        Node<K, V> prev;
+        Node<K, V> next;
+        // list holding this node, for caches with several lists
+        int queue;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+            prev = null;
+            next = null;
+            queue = 0;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.github.hubbards.data.structures.cache;
+
+import com.github.hubbards.data.structures.hash.LinearProbingHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * This class represents a bounded cache with the W-TinyLFU eviction policy.
+ * New keys enter a small window that evicts the least recently used key. A
+ * key evicted from the window is admitted to the main space only if it was
+ * accessed more often recently than the key the main space would evict, as
+ * estimated by a {@link FrequencySketch}. The main space is a segmented LRU:
+ * keys start in a probation segment and move to a protected segment when they
+ * are accessed again. The window holds one percent of the capacity and the
+ * protected segment holds eighty percent of the main space.
+ * <p>
+ * Keys are indexed by a {@link LinearProbingHashMap} from keys to the nodes
+ * of intrusive linked lists, so getting and putting a key take constant
+ * expected time. The policy resists scans: a burst of keys accessed once
+ * cannot evict keys that are accessed often.
+ *
+ * @param <K> the key type of this cache
+ * @param <V> the value type of this cache
+ *
+ * @author Spencer Hubbard
+ */
+public class TinyLfuCache<K, V> implements Cache<K, V> {
+    // maximum capacity, so that the index fits in an array
+    public static final int MAX_CAPACITY = 1 << 28;
+
+    // lists holding nodes
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    // maximum number of keys
+    private final int capacity;
+    // maximum number of keys in window and protected segment
+    private final int windowCapacity;
+    private final int protectedCapacity;
+    // nodes of keys
+    private final LinearProbingHashMap<K, NodeList.Node<K, V>> index;
+    // nodes of each segment from most to least recently used
+    private final NodeList<K, V> window;
+    private final NodeList<K, V> probation;
+    private final NodeList<K, V> protectedSegment;
+    // recent access frequencies
+    private final FrequencySketch sketch;
+    // statistics
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs an empty cache with a given capacity.
+     *
+     * @param capacity the given capacity
+     *
+     * @throws IllegalArgumentException if the given capacity is not positive
+     * or more than {@link #MAX_CAPACITY}
+     */
+    public TinyLfuCache(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        this.capacity = capacity;
+        windowCapacity = Math.max(1, capacity / 100);
+        protectedCapacity = 4 * (capacity - windowCapacity) / 5;
+        // more than four buckets per key, so rehashing only discards removed keys
+        int buckets = (int) Math.min(4L * capacity + 1, LinearProbingHashMap.MAX_CAPACITY);
+        index = new LinearProbingHashMap<K, NodeList.Node<K, V>>(buckets);
+        window = new NodeList<K, V>();
+        probation = new NodeList<K, V>();
+        protectedSegment = new NodeList<K, V>();
+        sketch = new FrequencySketch(capacity);
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    @Override
+    public V get(K key) {
+        sketch.increment(key);
+        NodeList.Node<K, V> node = index.get(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        access(node);
+        return node.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        checkNotNull(key);
+        checkNotNull(value);
+        sketch.increment(key);
+        NodeList.Node<K, V> node = index.get(key);
+        if (node != null) {
+            // replace value of key
+            node.value = value;
+            access(node);
+            return;
+        }
+        node = new NodeList.Node<K, V>(key, value);
+        node.queue = WINDOW;
+        window.addFirst(node);
+        index.put(key, node);
+        if (window.size() > windowCapacity) {
+            // move least recently used key of window to probation
+            NodeList.Node<K, V> candidate = window.last();
+            window.remove(candidate);
+            candidate.queue = PROBATION;
+            probation.addFirst(candidate);
+            if (probation.size() + protectedSegment.size() > capacity - windowCapacity) {
+                evict(candidate);
+            }
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        NodeList.Node<K, V> node = index.remove(key);
+        if (node == null) {
+            return null;
+        }
+        list(node).remove(node);
+        return node.value;
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public long hits() {
+        return hits;
+    }
+
+    @Override
+    public long misses() {
+        return misses;
+    }
+
+    @Override
+    public long evictions() {
+        return evictions;
+    }
+
+    /*
+     * Moves a given node after an access: within the window, from probation to
+     * the protected segment, or within the protected segment.
+     */
+    private void access(NodeList.Node<K, V> node) {
+        if (node.queue == PROBATION) {
+            // promote to protected segment
+            probation.remove(node);
+            node.queue = PROTECTED;
+            protectedSegment.addFirst(node);
+            if (protectedSegment.size() > protectedCapacity) {
+                // demote least recently used key of protected segment
+                NodeList.Node<K, V> demoted = protectedSegment.last();
+                protectedSegment.remove(demoted);
+                demoted.queue = PROBATION;
+                probation.addFirst(demoted);
+            }
+        } else {
+            list(node).moveToFront(node);
+        }
+    }
+
+    /*
+     * Evicts either a given candidate that just entered probation or the least
+     * recently used key of probation, whichever was accessed less often.
+     */
+    private void evict(NodeList.Node<K, V> candidate) {
+        NodeList.Node<K, V> victim = probation.last();
+        NodeList.Node<K, V> evicted;
+        if (victim != candidate && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+            evicted = victim;
+        } else {
+            evicted = candidate;
+        }
+        probation.remove(evicted);
+        index.remove(evicted.key);
+        evictions++;
+    }
+
+    /*
+     * Returns the list holding a given node.
+     */
+    private NodeList<K, V> list(NodeList.Node<K, V> node) {
+        if (node.queue == WINDOW) {
+            return window;
+        } else if (node.queue == PROBATION) {
+            return probation;
+        } else {
+            return protectedSegment;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        window.append(builder);
+        protectedSegment.append(builder);
+        probation.append(builder);
+        builder.append(']');
+        return builder.toString();
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.hubbards.data.structures.hash;
+
+/**
+ * This class represents a Bloom filter. A value is added by setting the bits
+ * at several indices derived from its hash code, and a value might be
+ * contained if all of its bits are set. The indices are computed by double
+ * hashing from the two halves of a 64-bit mixed hash code, and the number of
+ * bits is prime so that the indices are spread evenly. Values cannot be
+ * removed.
+ *
+ * @param <E> the element type of this filter
+ *
+ * @author Spencer Hubbard
+ */
+public class BloomFilter<E> implements Filter<E> {
+    // default false positive rate
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+    // maximum number of bits
+    private static final int MAX_BITS = 1 << 30;
+
+    // bits of this filter
+    private final long[] words;
+    // number of bits
+    private final int length;
+    // number of bits set for each value
+    private final int hashes;
+    // number of values added to this filter
+    private int size;
+
+    /**
+     * Constructs a filter for a given number of values with the default false
+     * positive rate.
+     *
+     * @param n the given number of values
+     */
+    public BloomFilter(int n) {
+        this(n, DEFAULT_FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Constructs a filter for a given number of values with a given false
+     * positive rate. The rate is exceeded if more values are added.
+     *
+     * @param n the given number of values
+     * @param rate the given false positive rate
+     */
+    public BloomFilter(int n, double rate) {
+        if (n < 1 || !(rate > 0.0 && rate < 1.0)) {
+            throw new IllegalArgumentException();
+        }
+        double m = -n * Math.log(rate) / (Math.log(2) * Math.log(2));
+        length = Sieve.nextPrime((int) Math.max(2, Math.min(Math.ceil(m), MAX_BITS)));
+        hashes = (int) Math.max(1, Math.round((double) length / n * Math.log(2)));
+        words = new long[(length + 63) >>> 6];
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean mightContain(E value) {
+        long h = Sizing.mix((long) value.hashCode());
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32);
+        for (int i = 0; i < hashes; i++) {
+            int j = index(h1 + i * h2);
+            if ((words[j >>> 6] & (1L << j)) == 0) {
+                // bit is not set, so value was not added
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean add(E value) {
+        long h = Sizing.mix((long) value.hashCode());
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32);
+        for (int i = 0; i < hashes; i++) {
+            int j = index(h1 + i * h2);
+            words[j >>> 6] |= 1L << j;
+        }
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean supportsRemove() {
+        return false;
+    }
+
+    /**
+     * Values cannot be removed from a Bloom filter, because the bits of a
+     * value may be shared with other values.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean remove(E value) {
+        throw new UnsupportedOperationException("bloom filter");
+    }
+
+    @Override
+    public long bits() {
+        return length;
+    }
+
+    @Override
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1.0 - Math.exp(-(double) hashes * size / length), hashes);
+    }
+
+    /**
+     * Returns the number of bits set for each value.
+     *
+     * @return the number of hash functions of this filter
+     */
+    public int hashes() {
+        return hashes;
+    }
+
+    /*
+     * Returns the index of the bit for a given combined hash.
+     */
+    private int index(int h) {
+        return (h & Integer.MAX_VALUE) % length;
+    }
+}
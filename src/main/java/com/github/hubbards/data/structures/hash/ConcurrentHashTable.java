@@ -0,0 +1,381 @@
+package com.github.hubbards.data.structures.hash;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class represents a generic thread-safe implementation of the hash table
+ * ADT using separate chaining to avoid collisions. The number of buckets is a
+ * power of two and hash codes are mixed as with {@link Sizing#POWER_OF_TWO}.
+ * <p>
+ * Searches do not lock. Insertion into an empty bucket is a single
+ * compare-and-set, and other insertions and removals lock only the first node
+ * of their bucket, so writes to different buckets do not contend.
+ * <p>
+ * Resizing is cooperative and incremental. When the load factor is more than
+ * three quarters, a table with twice as many buckets is allocated and each
+ * subsequent insertion or removal moves a bounded number of buckets from the
+ * old table to the new table. A moved bucket is replaced with a forwarding node
+ * that redirects searches and writes to the new table, so both tables are in
+ * use until every bucket has been moved.
+ *
+ * @param <E> the element type of this hash table
+ *
+ * @author Spencer Hubbard
+ */
+public class ConcurrentHashTable<E> implements HashTable<E> {
+    // default number of buckets
+    public static final int DEFAULT_CAPACITY = 16;
+
+    // maximum number of buckets, which is never doubled
+    static final int MAX_CAPACITY = 1 << 30;
+
+    // number of buckets moved by each write during a resize
+    private static final int STRIDE = 16;
+
+    // hash of forwarding nodes; hashes of elements are nonnegative
+    private static final int MOVED = -1;
+
+    // buckets of this hash table
+    private volatile AtomicReferenceArray<Node<E>> table;
+    // resize in progress or null
+    private volatile Resize resize;
+    // number of elements in this hash table
+    private final LongAdder size;
+    // lock for starting and finishing a resize
+    private final Object resizeLock;
+
+    /**
+     * Constructs a hash table with the default number of buckets.
+     */
+    public ConcurrentHashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a hash table with some number of buckets between a given
+     * number and twice the given number.
+     *
+     * @param n the given number
+     */
+    public ConcurrentHashTable(int n) {
+        if (n <= 1) {
+            throw new IllegalArgumentException();
+        }
+        table = new AtomicReferenceArray<Node<E>>(Sizing.POWER_OF_TWO.capacity(n));
+        resize = null;
+        size = new LongAdder();
+        resizeLock = new Object();
+    }
+
+    @Override
+    public int size() {
+        long sum = size.sum();
+        if (sum < 0) {
+            return 0;
+        }
+        return sum > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) sum;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(E value) {
+        int h = spread(value.hashCode());
+        AtomicReferenceArray<Node<E>> tab = table;
+        Node<E> node = tab.get(h & (tab.length() - 1));
+        while (node != null) {
+            if (node.hash == MOVED) {
+                // bucket was moved to the next table
+                tab = ((Forward<E>) node).table;
+                node = tab.get(h & (tab.length() - 1));
+            } else if (node.hash == h && node.data.equals(value)) {
+                return true;
+            } else {
+                node = node.next;
+            }
+        }
+        // value is not contained in this table
+        return false;
+    }
+
+    @Override
+    public void insert(E value) {
+        int h = spread(value.hashCode());
+        AtomicReferenceArray<Node<E>> tab = table;
+        while (true) {
+            int i = h & (tab.length() - 1);
+            Node<E> first = tab.get(i);
+            if (first == null) {
+                // empty bucket
+                if (tab.compareAndSet(i, null, new Node<E>(h, value, null))) {
+                    break;
+                }
+            } else if (first.hash == MOVED) {
+                // bucket was moved to the next table
+                tab = ((Forward<E>) first).table;
+            } else {
+                boolean inserted = false;
+                synchronized (first) {
+                    if (tab.get(i) == first) {
+                        // separate chaining to avoid collisions
+                        Node<E> node = first;
+                        while (!(node.hash == h && node.data.equals(value))) {
+                            if (node.next == null) {
+                                node.next = new Node<E>(h, value, null);
+                                inserted = true;
+                                break;
+                            }
+                            node = node.next;
+                        }
+                        if (!inserted) {
+                            // value is already contained in this table
+                            return;
+                        }
+                    }
+                }
+                if (inserted) {
+                    break;
+                }
+            }
+        }
+        size.increment();
+        afterWrite();
+    }
+
+    @Override
+    public void remove(E value) {
+        int h = spread(value.hashCode());
+        AtomicReferenceArray<Node<E>> tab = table;
+        while (true) {
+            int i = h & (tab.length() - 1);
+            Node<E> first = tab.get(i);
+            if (first == null) {
+                // value is not contained in this table
+                return;
+            } else if (first.hash == MOVED) {
+                // bucket was moved to the next table
+                tab = ((Forward<E>) first).table;
+            } else {
+                synchronized (first) {
+                    if (tab.get(i) == first) {
+                        Node<E> prev = null;
+                        Node<E> node = first;
+                        while (node != null && !(node.hash == h && node.data.equals(value))) {
+                            prev = node;
+                            node = node.next;
+                        }
+                        if (node == null) {
+                            // value is not contained in this table
+                            return;
+                        }
+                        // unlink node; searches at node can still continue
+                        if (prev == null) {
+                            tab.set(i, node.next);
+                        } else {
+                            prev.next = node.next;
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        size.decrement();
+        afterWrite();
+    }
+
+    /*
+     * Helps with a resize in progress or starts a resize if the load factor is
+     * more than three quarters and the table is not at the maximum capacity.
+     */
+    private void afterWrite() {
+        Resize r = resize;
+        if (r != null) {
+            r.help();
+            return;
+        }
+        AtomicReferenceArray<Node<E>> tab = table;
+        if (overloaded(tab.length(), size.sum())) {
+            synchronized (resizeLock) {
+                if (resize == null && table == tab) {
+                    resize = new Resize(tab);
+                }
+            }
+        }
+    }
+
+    /*
+     * Checks if a table with a given number of buckets holding a given number
+     * of elements should be doubled. A table at the maximum capacity keeps
+     * lengthening its chains instead.
+     */
+    static boolean overloaded(int length, long size) {
+        return length < MAX_CAPACITY && 3L * length < 4L * size;
+    }
+
+    /*
+     * Finishes a given resize after all buckets have been moved.
+     */
+    private void finish(Resize r) {
+        synchronized (resizeLock) {
+            table = r.next;
+            resize = null;
+        }
+    }
+
+    /*
+     * Mixes a given hash code and clears the sign bit, so that hashes of
+     * elements are distinct from the hash of forwarding nodes.
+     */
+    private static int spread(int h) {
+        return Sizing.mix(h) & Integer.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        AtomicReferenceArray<Node<E>> tab = table;
+        for (int i = 0; i < tab.length(); i++) {
+            append(builder, tab, i);
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    /*
+     * Appends the elements in the bucket at a given index in a given table.
+     */
+    private void append(StringBuilder builder, AtomicReferenceArray<Node<E>> tab, int i) {
+        Node<E> node = tab.get(i);
+        if (node != null && node.hash == MOVED) {
+            AtomicReferenceArray<Node<E>> next = ((Forward<E>) node).table;
+            append(builder, next, i);
+            append(builder, next, i + tab.length());
+            return;
+        }
+        while (node != null) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(node.data);
+            node = node.next;
+        }
+    }
+
+    /*
+     * This nested class represents a node in a singly linked list used for
+     * separate chaining. The data of a node never changes, so searches see
+     * each node in a consistent state without locking.
+     */
+    private static class Node<E> {
+        final int hash;
+        final E data;
+        volatile Node<E> next;
+
+        Node(int hash, E data, Node<E> next) {
+            this.hash = hash;
+            this.data = data;
+            this.next = next;
+        }
+    }
+
+    /*
+     * This nested class represents a forwarding node that replaces a bucket
+     * that was moved to the next table.
+     */
+    private static final class Forward<E> extends Node<E> {
+        final AtomicReferenceArray<Node<E>> table;
+
+        Forward(AtomicReferenceArray<Node<E>> table) {
+            super(MOVED, null, null);
+            this.table = table;
+        }
+    }
+
+    /*
+     * This inner class represents a resize in progress. Writers claim strides
+     * of buckets by counting down the transfer index, so each bucket is moved
+     * by exactly one thread.
+     */
+    private final class Resize {
+        // old and new tables
+        final AtomicReferenceArray<Node<E>> prev;
+        final AtomicReferenceArray<Node<E>> next;
+        // forwarding node for moved buckets
+        final Forward<E> forward;
+        // number of buckets that have not been claimed
+        final AtomicInteger transferIndex;
+        // number of buckets that have been moved
+        final AtomicInteger moved;
+
+        Resize(AtomicReferenceArray<Node<E>> prev) {
+            this.prev = prev;
+            // resizes start only below the maximum capacity
+            next = new AtomicReferenceArray<Node<E>>(Math.min(2 * prev.length(), MAX_CAPACITY));
+            forward = new Forward<E>(next);
+            transferIndex = new AtomicInteger(prev.length());
+            moved = new AtomicInteger(0);
+        }
+
+        /*
+         * Claims and moves one stride of buckets if any are left.
+         */
+        void help() {
+            int bound;
+            int index;
+            do {
+                index = transferIndex.get();
+                if (index <= 0) {
+                    return;
+                }
+                bound = Math.max(index - STRIDE, 0);
+            } while (!transferIndex.compareAndSet(index, bound));
+            for (int i = index - 1; i >= bound; i--) {
+                transfer(i);
+            }
+            if (moved.addAndGet(index - bound) == prev.length()) {
+                finish(this);
+            }
+        }
+
+        /*
+         * Moves the bucket at a given index to the next table. The nodes of the
+         * bucket are copied, so searches in the old bucket are not disturbed.
+         */
+        private void transfer(int i) {
+            int n = prev.length();
+            while (true) {
+                Node<E> first = prev.get(i);
+                if (first == null) {
+                    if (prev.compareAndSet(i, null, forward)) {
+                        return;
+                    }
+                } else {
+                    synchronized (first) {
+                        if (prev.get(i) == first) {
+                            // split bucket into low and high buckets
+                            Node<E> low = null;
+                            Node<E> high = null;
+                            for (Node<E> node = first; node != null; node = node.next) {
+                                if ((node.hash & n) == 0) {
+                                    low = new Node<E>(node.hash, node.data, low);
+                                } else {
+                                    high = new Node<E>(node.hash, node.data, high);
+                                }
+                            }
+                            next.set(i, low);
+                            next.set(i + n, high);
+                            prev.set(i, forward);
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
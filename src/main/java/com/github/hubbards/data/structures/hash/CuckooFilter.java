@@ -0,0 +1,199 @@
+package com.github.hubbards.data.structures.hash;
+
+import java.util.Random;
+
+/**
+ * This class represents a cuckoo filter, which supports removal unlike a
+ * {@link BloomFilter}. A 16-bit fingerprint of each value is stored in one of
+ * two buckets of four slots. The second bucket is computed from the first
+ * bucket and the fingerprint (partial-key cuckoo hashing), so a fingerprint can
+ * be moved to its other bucket without knowing the value. The number of
+ * buckets is a power of two so that the two buckets are related by exclusive
+ * or.
+ * <p>
+ * If a value cannot be placed after a bounded number of moves, the last
+ * displaced fingerprint is kept aside so that no value is lost, and further
+ * values cannot be added until a value is removed.
+ *
+ * @param <E> the element type of this filter
+ *
+ * @author Spencer Hubbard
+ */
+public class CuckooFilter<E> implements Filter<E> {
+    // number of slots in a bucket
+    private static final int SLOTS = 4;
+    // fraction of slots that can be filled before insertions start to fail
+    private static final double MAX_LOAD = 0.95;
+    // number of fingerprints moved before the filter is considered full
+    private static final int MAX_KICKS = 500;
+    // maximum number of buckets
+    private static final int MAX_BUCKETS = 1 << 28;
+    // fingerprint to indicate empty slots
+    private static final char EMPTY = 0;
+
+    // fingerprints in buckets of four slots; char is an unsigned 16-bit value
+    private final char[] slots;
+    // number of buckets minus one
+    private final int mask;
+    // number of values in this filter
+    private int size;
+    // fingerprint that could not be placed, or empty
+    private char victim;
+    // bucket of fingerprint that could not be placed
+    private int victimIndex;
+    // chooses slots to move fingerprints from
+    private final Random random;
+
+    /**
+     * Constructs a filter for a given number of values.
+     *
+     * @param n the given number of values
+     */
+    public CuckooFilter(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException();
+        }
+        int buckets = (int) Math.min(Math.ceil(n / (SLOTS * MAX_LOAD)), MAX_BUCKETS);
+        buckets = buckets <= 2 ? 2 : Integer.highestOneBit(buckets - 1) << 1;
+        slots = new char[buckets * SLOTS];
+        mask = buckets - 1;
+        size = 0;
+        victim = EMPTY;
+        victimIndex = 0;
+        random = new Random(42);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean mightContain(E value) {
+        long h = Sizing.mix((long) value.hashCode());
+        char f = fingerprint(h);
+        int i1 = (int) h & mask;
+        int i2 = alternate(i1, f);
+        return find(i1, f) >= 0 || find(i2, f) >= 0
+                || (victim == f && (victimIndex == i1 || victimIndex == i2));
+    }
+
+    @Override
+    public boolean add(E value) {
+        if (victim != EMPTY) {
+            // filter is full
+            return false;
+        }
+        long h = Sizing.mix((long) value.hashCode());
+        char f = fingerprint(h);
+        int i1 = (int) h & mask;
+        int i2 = alternate(i1, f);
+        size++;
+        if (put(i1, f) || put(i2, f)) {
+            return true;
+        }
+        // move fingerprints to their other buckets to make room
+        int i = random.nextBoolean() ? i1 : i2;
+        for (int kick = 0; kick < MAX_KICKS; kick++) {
+            int j = i * SLOTS + random.nextInt(SLOTS);
+            char temp = slots[j];
+            slots[j] = f;
+            f = temp;
+            i = alternate(i, f);
+            if (put(i, f)) {
+                return true;
+            }
+        }
+        // keep displaced fingerprint aside so that no value is lost
+        victim = f;
+        victimIndex = i;
+        return true;
+    }
+
+    @Override
+    public boolean supportsRemove() {
+        return true;
+    }
+
+    @Override
+    public boolean remove(E value) {
+        long h = Sizing.mix((long) value.hashCode());
+        char f = fingerprint(h);
+        int i1 = (int) h & mask;
+        int i2 = alternate(i1, f);
+        int j = find(i1, f);
+        if (j < 0) {
+            j = find(i2, f);
+        }
+        if (j >= 0) {
+            slots[j] = EMPTY;
+            size--;
+            if (victim != EMPTY && (put(victimIndex, victim) || put(alternate(victimIndex, victim), victim))) {
+                // freed slot made room for displaced fingerprint
+                victim = EMPTY;
+            }
+            return true;
+        }
+        if (victim == f && (victimIndex == i1 || victimIndex == i2)) {
+            victim = EMPTY;
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public long bits() {
+        return 16L * slots.length;
+    }
+
+    @Override
+    public double expectedFalsePositiveRate() {
+        // a lookup compares against the slots of two buckets
+        double load = (double) size / slots.length;
+        return 1.0 - Math.pow(1.0 - 1.0 / Character.MAX_VALUE, 2 * SLOTS * load);
+    }
+
+    /*
+     * Returns the nonempty fingerprint for a given mixed hash code. The
+     * fingerprint is taken from the high bits, which do not select the bucket.
+     */
+    private static char fingerprint(long h) {
+        char f = (char) (h >>> 48);
+        return f == EMPTY ? 1 : f;
+    }
+
+    /*
+     * Returns the other bucket for a given fingerprint in a given bucket.
+     */
+    private int alternate(int i, char f) {
+        return (i ^ Sizing.mix((int) f)) & mask;
+    }
+
+    /*
+     * Returns the index of the slot holding a given fingerprint in a given
+     * bucket or -1 if the bucket does not hold the fingerprint.
+     */
+    private int find(int i, char f) {
+        for (int j = i * SLOTS; j < (i + 1) * SLOTS; j++) {
+            if (slots[j] == f) {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * Puts a given fingerprint in an empty slot of a given bucket. Returns
+     * true if the bucket had an empty slot.
+     */
+    private boolean put(int i, char f) {
+        for (int j = i * SLOTS; j < (i + 1) * SLOTS; j++) {
+            if (slots[j] == EMPTY) {
+                slots[j] = f;
+                return true;
+            }
+        }
+        return false;
+    }
+}
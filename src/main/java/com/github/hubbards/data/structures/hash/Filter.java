@@ -0,0 +1,79 @@
+package com.github.hubbards.data.structures.hash;
+
+/**
+ * This interface represents a generic interface for approximate membership
+ * filters. A filter may report that it contains a value that was never added,
+ * which is called a false positive, but never reports that it does not contain
+ * a value that was added. A filter uses far less memory than a hash table
+ * holding the same values.
+ *
+ * @param <E> the element type of this filter
+ *
+ * @author Spencer Hubbard
+ */
+public interface Filter<E> {
+    /**
+     * Returns the number of values added to this filter and not removed.
+     *
+     * @return the number of values in this filter
+     */
+    int size();
+
+    /**
+     * Checks if a given value might be contained in this filter.
+     *
+     * @param value the value to check for
+     *
+     * @return <code>false</code> if the given value was definitely not added to
+     * this filter, otherwise <code>true</code>
+     */
+    boolean mightContain(E value);
+
+    /**
+     * Adds a given value to this filter.
+     *
+     * @param value the value to add
+     *
+     * @return <code>true</code> if the given value was added, or
+     * <code>false</code> if this filter is full
+     */
+    boolean add(E value);
+
+    /**
+     * Checks if values can be removed from this filter.
+     *
+     * @return <code>true</code> if {@link #remove(Object)} is supported,
+     * otherwise <code>false</code>
+     */
+    boolean supportsRemove();
+
+    /**
+     * Removes a given value that was added to this filter (optional
+     * operation). Removing a value that was not added may remove another value
+     * and cause false negatives.
+     *
+     * @param value the value to remove
+     *
+     * @return <code>true</code> if a matching entry was removed, otherwise
+     * <code>false</code>
+     *
+     * @throws UnsupportedOperationException if removal is not supported
+     */
+    boolean remove(E value);
+
+    /**
+     * Returns the number of bits of memory used for the entries of this
+     * filter.
+     *
+     * @return the number of bits used by this filter
+     */
+    long bits();
+
+    /**
+     * Returns the false positive rate of this filter predicted from its
+     * current size.
+     *
+     * @return the expected false positive rate of this filter
+     */
+    double expectedFalsePositiveRate();
+}
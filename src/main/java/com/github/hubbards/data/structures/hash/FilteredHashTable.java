@@ -0,0 +1,94 @@
+package com.github.hubbards.data.structures.hash;
+
+/**
+ * This class represents a hash table guarded by a {@link Filter}. A lookup of
+ * a value that the filter has never seen returns without probing the hash
+ * table, which makes misses cheap when most lookups are misses. Values removed
+ * from the hash table are removed from the filter if the filter supports
+ * removal; otherwise they remain in the filter and only make the filter less
+ * selective.
+ * <p>
+ * If the filter becomes full, the filter is no longer consulted and every
+ * lookup probes the hash table.
+ *
+ * @param <E> the element type of this hash table
+ *
+ * @author Spencer Hubbard
+ */
+public class FilteredHashTable<E> implements HashTable<E> {
+    // values in this hash table
+    private final HashTable<E> table;
+    // filter holding every value in this hash table
+    private final Filter<E> filter;
+    // false if the filter became full and may miss values
+    private boolean filtering;
+
+    /**
+     * Constructs a hash table that guards a given empty hash table with a
+     * given empty filter.
+     *
+     * @param table the given hash table
+     * @param filter the given filter
+     */
+    public FilteredHashTable(HashTable<E> table, Filter<E> filter) {
+        if (table == null || filter == null || !table.isEmpty() || filter.size() != 0) {
+            throw new IllegalArgumentException();
+        }
+        this.table = table;
+        this.filter = filter;
+        filtering = true;
+    }
+
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.isEmpty();
+    }
+
+    @Override
+    public boolean contains(E value) {
+        if (filtering && !filter.mightContain(value)) {
+            // value was never inserted
+            return false;
+        }
+        return table.contains(value);
+    }
+
+    @Override
+    public void insert(E value) {
+        int before = table.size();
+        table.insert(value);
+        if (filtering && table.size() > before && !filter.add(value)) {
+            // filter is full, so it may miss values from now on
+            filtering = false;
+        }
+    }
+
+    @Override
+    public void remove(E value) {
+        int before = table.size();
+        table.remove(value);
+        if (filtering && table.size() < before && filter.supportsRemove()) {
+            filter.remove(value);
+        }
+    }
+
+    /**
+     * Checks if the filter is consulted by lookups.
+     *
+     * @return <code>true</code> if the filter has held every inserted value,
+     * otherwise <code>false</code>
+     */
+    public boolean isFiltering() {
+        return filtering;
+    }
+
+    @Override
+    public String toString() {
+        return table.toString();
+    }
+}
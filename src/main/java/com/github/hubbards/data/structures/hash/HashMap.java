@@ -0,0 +1,92 @@
+package com.github.hubbards.data.structures.hash;
+
+import java.util.function.Function;
+
+/**
+ * This interface represents a generic interface for the map ADT implemented
+ * with a hash table. A map associates keys with values, and each key is
+ * associated with at most one value. Keys and values must not be
+ * <code>null</code>, so <code>null</code> is returned to indicate that a key
+ * has no value.
+ *
+ * @param <K> the key type of this map
+ * @param <V> the value type of this map
+ *
+ * @author Spencer Hubbard
+ */
+public interface HashMap<K, V> {
+    /**
+     * Returns the number of keys in this map.
+     *
+     * @return the number of keys in this map
+     */
+    int size();
+
+    /**
+     * Checks if this map is empty.
+     *
+     * @return <code>true</code> if this map is empty, otherwise
+     * <code>false</code>
+     */
+    boolean isEmpty();
+
+    /**
+     * Checks if a given key is associated with a value in this map.
+     *
+     * @param key the key to check for
+     *
+     * @return <code>true</code> if the given key belongs to this map, otherwise
+     * <code>false</code>
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Returns the value associated with a given key.
+     *
+     * @param key the given key
+     *
+     * @return the value associated with the given key or <code>null</code> if
+     * the given key does not belong to this map
+     */
+    V get(K key);
+
+    /**
+     * Associates a given value with a given key, replacing any value already
+     * associated with the given key.
+     *
+     * @param key the given key
+     * @param value the given value
+     *
+     * @return the value previously associated with the given key or
+     * <code>null</code> if the given key did not belong to this map
+     *
+     * @throws NullPointerException if the given key or value is
+     * <code>null</code>
+     */
+    V put(K key, V value);
+
+    /**
+     * Removes a given key and its value from this map if this map contains the
+     * given key.
+     *
+     * @param key the given key
+     *
+     * @return the value previously associated with the given key or
+     * <code>null</code> if the given key did not belong to this map
+     */
+    V remove(K key);
+
+    /**
+     * Returns the value associated with a given key, or computes a value with
+     * a given function and associates it with the given key if the given key
+     * does not belong to this map. Nothing is associated with the given key if
+     * the function returns <code>null</code>.
+     *
+     * @param key the given key
+     * @param function the given function
+     *
+     * @return the value associated with the given key or <code>null</code> if
+     * the function returned <code>null</code>
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> function);
+}
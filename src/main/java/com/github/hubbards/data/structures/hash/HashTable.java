@@ -1,5 +1,7 @@
 package com.github.hubbards.data.structures.hash;
 
+import java.util.BitSet;
+
 /**
  * This interface represents a generic interface for the hash table ADT.
  *
@@ -51,4 +53,47 @@ public interface HashTable<E> {
      * @param value the value to remove
      */
     void remove(E value);
+
+    /**
+     * Inserts the values in a given array into this hash table. Implementations
+     * may resize the hash table once for the whole array and probe for several
+     * values at a time, so inserting many values this way can be faster than
+     * inserting them one at a time.
+     *
+     * @param values the values to insert
+     */
+    default void insertAll(E[] values) {
+        for (E value : values) {
+            insert(value);
+        }
+    }
+
+    /**
+     * Checks which values in a given array are contained in this hash table.
+     *
+     * @param values the values to check for
+     *
+     * @return a bitmap in which bit <code>i</code> is set if and only if the
+     * value at index <code>i</code> belongs to this hash table
+     */
+    default BitSet containsAll(E[] values) {
+        BitSet result = new BitSet(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (contains(values[i])) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the values in a given array from this hash table.
+     *
+     * @param values the values to remove
+     */
+    default void removeAll(E[] values) {
+        for (E value : values) {
+            remove(value);
+        }
+    }
 }
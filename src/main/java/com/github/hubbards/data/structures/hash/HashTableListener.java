@@ -0,0 +1,33 @@
+package com.github.hubbards.data.structures.hash;
+
+/**
+ * This interface represents a listener for events of a hash table, which can
+ * be used to export metrics. The methods are called by the thread operating on
+ * the hash table, so they should return quickly. Both methods do nothing by
+ * default.
+ *
+ * @author Spencer Hubbard
+ */
+public interface HashTableListener {
+    /**
+     * Called after a hash table moves its elements to a new array of buckets.
+     * For an incremental rehash, the duration covers allocating the new array
+     * but not moving the elements.
+     *
+     * @param oldLength the number of buckets before resizing
+     * @param newLength the number of buckets after resizing
+     * @param nanos the duration of resizing in nanoseconds
+     */
+    default void resized(int oldLength, int newLength, long nanos) {
+    }
+
+    /**
+     * Called for a sample of the operations of a hash table with the number of
+     * buckets (or list nodes) examined beyond the first before the operation
+     * found the value or found that the value is absent.
+     *
+     * @param length the probe length of the operation
+     */
+    default void probed(int length) {
+    }
+}
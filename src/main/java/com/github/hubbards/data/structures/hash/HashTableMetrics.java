@@ -0,0 +1,129 @@
+package com.github.hubbards.data.structures.hash;
+
+/**
+ * This class represents a {@link HashTableListener} that accumulates the
+ * events of a hash table in counters. Probe lengths are recorded in a
+ * histogram whose last bin also counts longer probes.
+ *
+ * @author Spencer Hubbard
+ */
+public class HashTableMetrics implements HashTableListener {
+    // number of bins in probe length histogram
+    public static final int BINS = 32;
+
+    // number of sampled operations with each probe length
+    private final long[] probes;
+    // number of sampled operations
+    private long samples;
+    // number of resizes
+    private long resizes;
+    // total and maximum duration of resizes in nanoseconds
+    private long resizeNanos;
+    private long maxResizeNanos;
+
+    /**
+     * Constructs metrics with no recorded events.
+     */
+    public HashTableMetrics() {
+        probes = new long[BINS];
+        reset();
+    }
+
+    @Override
+    public void resized(int oldLength, int newLength, long nanos) {
+        resizes++;
+        resizeNanos += nanos;
+        maxResizeNanos = Math.max(maxResizeNanos, nanos);
+    }
+
+    @Override
+    public void probed(int length) {
+        probes[Math.min(length, BINS - 1)]++;
+        samples++;
+    }
+
+    /**
+     * Returns the number of sampled operations.
+     *
+     * @return the number of sampled operations
+     */
+    public long samples() {
+        return samples;
+    }
+
+    /**
+     * Returns a histogram of the probe lengths of the sampled operations.
+     * Element <code>k</code> of the histogram is the number of operations with
+     * probe length <code>k</code>, except that the last element also counts
+     * longer probes.
+     *
+     * @return the histogram of probe lengths
+     */
+    public long[] probeLengthHistogram() {
+        return probes.clone();
+    }
+
+    /**
+     * Returns the average probe length of the sampled operations or zero if no
+     * operations were sampled. Probes longer than the histogram are counted as
+     * the length of the last bin.
+     *
+     * @return the average probe length
+     */
+    public double averageProbeLength() {
+        if (samples == 0) {
+            return 0.0;
+        }
+        long sum = 0;
+        for (int k = 0; k < BINS; k++) {
+            sum += k * probes[k];
+        }
+        return (double) sum / samples;
+    }
+
+    /**
+     * Returns the number of resizes.
+     *
+     * @return the number of resizes
+     */
+    public long resizes() {
+        return resizes;
+    }
+
+    /**
+     * Returns the total duration of resizes in nanoseconds.
+     *
+     * @return the total duration of resizes
+     */
+    public long resizeNanos() {
+        return resizeNanos;
+    }
+
+    /**
+     * Returns the maximum duration of a resize in nanoseconds.
+     *
+     * @return the maximum duration of a resize
+     */
+    public long maxResizeNanos() {
+        return maxResizeNanos;
+    }
+
+    /**
+     * Discards all recorded events.
+     */
+    public void reset() {
+        for (int k = 0; k < BINS; k++) {
+            probes[k] = 0;
+        }
+        samples = 0;
+        resizes = 0;
+        resizeNanos = 0;
+        maxResizeNanos = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("samples=%d averageProbeLength=%.2f resizes=%d resizeNanos=%d maxResizeNanos=%d",
+                samples, averageProbeLength(), resizes, resizeNanos, maxResizeNanos);
+    }
+}
@@ -0,0 +1,271 @@
+package com.github.hubbards.data.structures.hash;
+
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * This class represents a generic implementation of the map ADT using linear
+ * probing to avoid collisions. Keys and values are stored in parallel arrays,
+ * so no object is allocated per entry. Removed keys are marked with a dummy
+ * object as in {@link LinearProbingHashTable}.
+ *
+ * @param <K> the key type of this map
+ * @param <V> the value type of this map
+ *
+ * @author Spencer Hubbard
+ */
+public class LinearProbingHashMap<K, V> implements HashMap<K, V> {
+    // default number of buckets
+    public static final int DEFAULT_PRIME = 11;
+    // maximum number of buckets requested when growing; the number found from
+    // it is still a legal array length
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    // dummy object to indicate removed keys
+    private static final Object REMOVED = new Object();
+
+    // keys in this map
+    private Object[] keys;
+    // values in this map, at the same indices as their keys
+    private Object[] values;
+    // number of keys in this map
+    private int size;
+    // number of buckets that are not empty, i.e., keys and removed keys
+    private int used;
+    // strategy for number of buckets and hash function
+    private final Sizing sizing;
+
+    /**
+     * Constructs a map with the default number of buckets.
+     */
+    public LinearProbingHashMap() {
+        this(DEFAULT_PRIME);
+    }
+
+    /**
+     * Constructs a map with the default number of buckets and a given sizing
+     * strategy.
+     *
+     * @param sizing the given sizing strategy
+     */
+    public LinearProbingHashMap(Sizing sizing) {
+        this(DEFAULT_PRIME, sizing);
+    }
+
+    /**
+     * Constructs a map with some number of buckets between a given number and
+     * twice the given number. The number of buckets is prime.
+     *
+     * @param n the given number
+     */
+    public LinearProbingHashMap(int n) {
+        this(n, Sizing.PRIME);
+    }
+
+    /**
+     * Constructs a map with some number of buckets between a given number and
+     * twice the given number and a given sizing strategy.
+     *
+     * @param n the given number
+     * @param sizing the given sizing strategy
+     */
+    public LinearProbingHashMap(int n, Sizing sizing) {
+        if (n <= 1 || sizing == null) {
+            throw new IllegalArgumentException();
+        }
+        this.sizing = sizing;
+        keys = new Object[sizing.capacity(n)];
+        values = new Object[keys.length];
+        size = 0;
+        used = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int i = find(key);
+        return i < 0 ? null : (V) values[i];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        checkNotNull(key);
+        checkNotNull(value);
+        // check load factor, counting removed keys so that probing ends
+        if (overloaded(used, keys.length)) {
+            rehash();
+        }
+        // linear probing to avoid collisions
+        int i = hash(key);
+        int j = -1;
+        while (keys[i] != null) {
+            if (keys[i].equals(key)) {
+                // replace value of key
+                V old = (V) values[i];
+                values[i] = value;
+                return old;
+            }
+            if (j < 0 && keys[i] == REMOVED) {
+                // reuse first removed bucket
+                j = i;
+            }
+            // collision occurred
+            i = next(i);
+        }
+        if (j < 0) {
+            j = i;
+            used++;
+        }
+        keys[j] = key;
+        values[j] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int i = find(key);
+        if (i < 0) {
+            return null;
+        }
+        V old = (V) values[i];
+        keys[i] = REMOVED;
+        values[i] = null;
+        size--;
+        return old;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+        int i = find(key);
+        if (i >= 0) {
+            return (V) values[i];
+        }
+        V value = function.apply(key);
+        if (value != null) {
+            // the function may have changed this map, so probe again
+            put(key, value);
+        }
+        return value;
+    }
+
+    /*
+     * Hash function for this map.
+     */
+    private int hash(Object key) {
+        return sizing.index(key.hashCode(), keys.length);
+    }
+
+    /*
+     * Returns the index of the bucket after a given bucket.
+     */
+    private int next(int i) {
+        i++;
+        return i == keys.length ? 0 : i;
+    }
+
+    /*
+     * Returns the index of a given key or -1 if this map does not contain the
+     * given key.
+     */
+    private int find(Object key) {
+        int i = hash(key);
+        while (keys[i] != null) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+            // collision occurred
+            i = next(i);
+        }
+        return -1;
+    }
+
+    /*
+     * Rehash this map. The number of buckets is doubled unless most of the
+     * nonempty buckets hold removed keys, in which case the removed keys are
+     * discarded and the number of buckets is kept. A map that cannot grow
+     * keeps inserting above the load factor until it is full.
+     */
+    private void rehash() {
+        if (4L * size < keys.length) {
+            resize(keys.length);
+        } else if (keys.length < MAX_CAPACITY) {
+            resize((int) Math.min(2L * keys.length, MAX_CAPACITY));
+        } else if (used + 1 >= keys.length) {
+            if (used == size) {
+                throw new IllegalStateException("full map");
+            }
+            resize(keys.length);
+        }
+    }
+
+    /*
+     * Checks if inserting one more key into a given number of buckets, of which
+     * a given number are nonempty, exceeds the load factor. The products are
+     * computed as longs, since they overflow an int for large maps.
+     */
+    static boolean overloaded(int used, int length) {
+        return 3L * length < 4L * ((long) used + 1);
+    }
+
+    /*
+     * Moves the entries of this map to the number of buckets chosen by the
+     * sizing strategy for a given number.
+     */
+    private void resize(int n) {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new Object[sizing.capacity(n)];
+        values = new Object[keys.length];
+        used = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null && oldKeys[i] != REMOVED) {
+                // keys are distinct, so probe for an empty bucket
+                int j = hash(oldKeys[i]);
+                while (keys[j] != null) {
+                    j = next(j);
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+                used++;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && keys[i] != REMOVED) {
+                if (builder.length() > 1) {
+                    builder.append(", ");
+                }
+                builder.append(keys[i]);
+                builder.append('=');
+                builder.append(values[i]);
+            }
+        }
+        builder.append('}');
+        return builder.toString();
+    }
+}
@@ -1,8 +1,18 @@
 package com.github.hubbards.data.structures.hash;
 
+import java.util.Arrays;
+import java.util.BitSet;
+
 /**
  * This class represents a genaric implementation of the hash table ADT using
  * linear probing to avoid collisions.
+ * <p>
+ * The structure of the hash table can be inspected with
+ * {@link #probeLengthHistogram()}, {@link #tombstones()},
+ * {@link #loadFactor()} and {@link #occupancy()}, and resizes are counted and
+ * timed. A
+ * {@link HashTableListener} can be set to receive resize events and the probe
+ * lengths of a sample of the operations.
  *
  * @author Spencer Hubbard
  */
@@ -10,13 +20,44 @@ public class LinearProbingHashTable<E> implements HashTable<E> {
     // default number of buckets
     public static final int DEFAULT_PRIME = 11;
 
+    // maximum number of buckets requested when growing; the number found from
+    // it is still a legal array length
+    static final int MAX_CAPACITY = 1 << 30;
+
     // dummy object to indicate removed values
     private static final Object REMOVED = new Object();
 
+    // number of old buckets moved by each operation during incremental rehash
+    private static final int STEP = 4;
+    // number of values whose first buckets are loaded together by bulk
+    // operations
+    private static final int BATCH = 16;
+
     // elements in this hash table
     private Object[] buckets;
     // number of elements in this hash table
     private int size;
+    // number of buckets that are not empty, i.e., values and removed values
+    private int used;
+    // number of buckets holding removed values, including old buckets
+    private int removed;
+    // strategy for number of buckets and hash function
+    private final Sizing sizing;
+    // strategy for moving elements to a larger array of buckets
+    private final Rehashing rehashing;
+    // elements that have not been moved by an incremental rehash or null
+    private Object[] oldBuckets;
+    // number of old buckets that have been moved by an incremental rehash
+    private int moved;
+    // listener for events or null
+    private HashTableListener listener;
+    // number of operations between samples of the probe length
+    private int period;
+    // number of operations until the next sample
+    private int countdown;
+    // number of resizes and their total duration in nanoseconds
+    private int resizes;
+    private long resizeNanos;
 
     /**
      * Constructs a hash table with the default number of buckets.
@@ -25,19 +66,63 @@ public class LinearProbingHashTable<E> implements HashTable<E> {
         this(DEFAULT_PRIME);
     }
 
+    /**
+     * Constructs a hash table with the default number of buckets and a given
+     * sizing strategy.
+     *
+     * @param sizing the given sizing strategy
+     */
+    public LinearProbingHashTable(Sizing sizing) {
+        this(DEFAULT_PRIME, sizing);
+    }
+
     /**
      * Constructs a hash table with some number of buckets between a given
-     * number and twice the given number.
+     * number and twice the given number. The number of buckets is prime.
      *
      * @param n the given number
      */
     public LinearProbingHashTable(int n) {
-        if (n <= 1) {
+        this(n, Sizing.PRIME);
+    }
+
+    /**
+     * Constructs a hash table with some number of buckets between a given
+     * number and twice the given number and a given sizing strategy.
+     *
+     * @param n the given number
+     * @param sizing the given sizing strategy
+     */
+    public LinearProbingHashTable(int n, Sizing sizing) {
+        this(n, sizing, Rehashing.IMMEDIATE);
+    }
+
+    /**
+     * Constructs a hash table with some number of buckets between a given
+     * number and twice the given number and given sizing and rehashing
+     * strategies.
+     *
+     * @param n the given number
+     * @param sizing the given sizing strategy
+     * @param rehashing the given rehashing strategy
+     */
+    public LinearProbingHashTable(int n, Sizing sizing, Rehashing rehashing) {
+        if (n <= 1 || sizing == null || rehashing == null) {
             throw new IllegalArgumentException();
         }
-        int p = Sieve.nextPrime(n);
-        buckets = new Object[p];
+        this.sizing = sizing;
+        this.rehashing = rehashing;
+        buckets = new Object[sizing.capacity(n)];
         size = 0;
+        used = 0;
+        removed = 0;
+        oldBuckets = null;
+        moved = 0;
+        listener = null;
+        period = 1;
+        countdown = 1;
+        resizes = 0;
+        resizeNanos = 0;
     }
 
     @Override
@@ -52,101 +137,543 @@ public class LinearProbingHashTable<E> implements HashTable<E> {
 
     @Override
     public boolean contains(E value) {
-        int i = hash(value);
-        while (buckets[i] != null) {
-            if (buckets[i].equals(value)) {
-                return true;
-            }
-            // collision occured
-            i = (i + 1) % buckets.length;
-        }
-        // value is not contained in this table
-        return false;
+        sample(value);
+        move();
+        return find(buckets, value) >= 0 || findOld(value) >= 0;
     }
 
     @Override
     public void insert(E value) {
-        // TODO: rehash if load factor is more than 0.5
-        // check load factor
-        if (3 * buckets.length < 4 * size) {
+        sample(value);
+        move();
+        // check load factor, counting removed values so that probing ends
+        if (overloaded(used, buckets.length)) {
             rehash();
         }
+        if (findOld(value) >= 0) {
+            // value is contained in the old buckets
+            return;
+        }
+        insert(value, hash(value));
+    }
+
+    /*
+     * Inserts a given value, which is not contained in the old buckets, by
+     * probing from a given bucket.
+     */
+    private void insert(Object value, int i) {
         // linear probing to avoid collisions
-        int i = hash(value);
-        while (buckets[i] != null && !buckets[i].equals(REMOVED) && !buckets[i].equals(value)) {
+        int j = -1;
+        while (buckets[i] != null && !buckets[i].equals(value)) {
+            if (j < 0 && buckets[i] == REMOVED) {
+                // reuse first removed bucket
+                j = i;
+            }
             // collision occurred
-            i = (i + 1) % buckets.length;
+            i = next(i);
         }
-        if (buckets[i] == null || buckets[i].equals(REMOVED)) {
-            buckets[i] = value;
+        if (buckets[i] == null) {
+            if (j < 0) {
+                j = i;
+                used++;
+            } else {
+                removed--;
+            }
+            buckets[j] = value;
             size++;
         }
     }
 
     @Override
     public void remove(E value) {
-        int i = hash(value);
-        while (buckets[i] != null && !buckets[i].equals(value)) {
-            // collision occurred
-            i = (i + 1) % buckets.length;
-        }
-        if (buckets[i] != null) {
+        sample(value);
+        move();
+        int i = find(buckets, value);
+        if (i >= 0) {
             // remove value
             buckets[i] = REMOVED;
             size--;
+            removed++;
+            return;
+        }
+        i = findOld(value);
+        if (i >= 0) {
+            // remove value from old buckets so that it is not moved
+            oldBuckets[i] = REMOVED;
+            size--;
+            removed++;
+        }
+    }
+
+    /**
+     * Inserts the values in a given array into this hash table. The hash table
+     * is resized at most once, the hash codes of all values are computed
+     * before probing, and the first buckets of the probe sequences of several
+     * values are loaded together so that their cache misses overlap.
+     *
+     * @param values the values to insert
+     */
+    @Override
+    public void insertAll(E[] values) {
+        reserve(values.length);
+        int[] indices = indices(values);
+        Object[] first = new Object[BATCH];
+        for (int k = 0; k < values.length; k += BATCH) {
+            int end = Math.min(k + BATCH, values.length);
+            load(first, indices, k, end);
+            for (int m = k; m < end; m++) {
+                int i = indices[m];
+                if (first[m - k] == null && buckets[i] == null) {
+                    // first bucket is still empty, so the value is not
+                    // contained and no probing is needed
+                    buckets[i] = values[m];
+                    used++;
+                    size++;
+                } else {
+                    insert(values[m], i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks which values in a given array are contained in this hash table.
+     * The hash codes of all values are computed before probing, and the first
+     * buckets of the probe sequences of several values are loaded together so
+     * that their cache misses overlap.
+     *
+     * @param values the values to check for
+     *
+     * @return a bitmap in which bit <code>i</code> is set if and only if the
+     * value at index <code>i</code> belongs to this hash table
+     */
+    @Override
+    public BitSet containsAll(E[] values) {
+        finish();
+        BitSet result = new BitSet(values.length);
+        int[] indices = indices(values);
+        Object[] first = new Object[BATCH];
+        for (int k = 0; k < values.length; k += BATCH) {
+            int end = Math.min(k + BATCH, values.length);
+            load(first, indices, k, end);
+            for (int m = k; m < end; m++) {
+                // probe only if the first bucket is not empty
+                if (first[m - k] != null && find(buckets, values[m], indices[m]) >= 0) {
+                    result.set(m);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the values in a given array from this hash table. The hash codes
+     * of all values are computed before probing, and the first buckets of the
+     * probe sequences of several values are loaded together so that their
+     * cache misses overlap.
+     *
+     * @param values the values to remove
+     */
+    @Override
+    public void removeAll(E[] values) {
+        finish();
+        int[] indices = indices(values);
+        Object[] first = new Object[BATCH];
+        for (int k = 0; k < values.length; k += BATCH) {
+            int end = Math.min(k + BATCH, values.length);
+            load(first, indices, k, end);
+            for (int m = k; m < end; m++) {
+                if (first[m - k] == null) {
+                    // first bucket is empty, so the value is not contained
+                    continue;
+                }
+                int i = find(buckets, values[m], indices[m]);
+                if (i >= 0) {
+                    // remove value
+                    buckets[i] = REMOVED;
+                    size--;
+                    removed++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if this hash table is in the middle of an incremental rehash.
+     *
+     * @return <code>true</code> if some elements have not been moved to the
+     * new array of buckets, otherwise <code>false</code>
+     */
+    public boolean isRehashing() {
+        return oldBuckets != null;
+    }
+
+    /**
+     * Sets a listener that receives resize events and the probe lengths of one
+     * in every given number of single-element operations. The probe length is
+     * only computed for sampled operations.
+     *
+     * @param listener the listener or <code>null</code> to remove the listener
+     * @param period the given number of operations between samples
+     *
+     * @throws IllegalArgumentException if the given number is not positive
+     */
+    public void setListener(HashTableListener listener, int period) {
+        if (period < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.listener = listener;
+        this.period = period;
+        countdown = period;
+    }
+
+    /**
+     * Returns the ratio of the number of elements to the number of buckets.
+     * Removed values are not counted; see {@link #occupancy()}.
+     *
+     * @return the load factor of this hash table
+     */
+    public double loadFactor() {
+        return (double) size / buckets.length;
+    }
+
+    /**
+     * Returns the ratio of the number of nonempty buckets, i.e., elements and
+     * removed values, to the number of buckets. The hash table is rehashed
+     * when an insertion would make this ratio more than three quarters. During
+     * an incremental rehash, only the new buckets are counted.
+     *
+     * @return the occupancy of this hash table
+     */
+    public double occupancy() {
+        return (double) used / buckets.length;
+    }
+
+    /**
+     * Returns the number of buckets holding removed values, which lengthen
+     * probe sequences until the hash table is rehashed. The count includes
+     * old buckets that have not been moved by an incremental rehash. This
+     * method runs in constant time.
+     *
+     * @return the number of removed values
+     */
+    public int tombstones() {
+        return removed;
+    }
+
+    /**
+     * Returns a histogram of the probe lengths of the elements in this hash
+     * table, i.e., the distances of the elements from their first buckets.
+     * Element <code>k</code> of the histogram is the number of elements with
+     * probe length <code>k</code>. This method runs in time proportional to
+     * the number of buckets.
+     *
+     * @return the histogram of probe lengths
+     */
+    public int[] probeLengthHistogram() {
+        int[] histogram = new int[1];
+        histogram = histogram(histogram, buckets, 0);
+        if (oldBuckets != null) {
+            histogram = histogram(histogram, oldBuckets, moved);
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the number of times this hash table has been resized.
+     *
+     * @return the number of resizes
+     */
+    public int resizeCount() {
+        return resizes;
+    }
+
+    /**
+     * Returns the total duration of the resizes of this hash table in
+     * nanoseconds. For an incremental rehash, the duration covers allocating
+     * the new array but not moving the elements.
+     *
+     * @return the total duration of resizes
+     */
+    public long resizeNanos() {
+        return resizeNanos;
+    }
+
+    /*
+     * Adds the probe lengths of the values in a given array of buckets from a
+     * given index to a given histogram, which is grown if necessary.
+     */
+    private int[] histogram(int[] histogram, Object[] table, int from) {
+        for (int i = from; i < table.length; i++) {
+            if (table[i] != null && table[i] != REMOVED) {
+                int home = sizing.index(table[i].hashCode(), table.length);
+                int k = i >= home ? i - home : i + table.length - home;
+                if (k >= histogram.length) {
+                    histogram = Arrays.copyOf(histogram, k + 1);
+                }
+                histogram[k]++;
+            }
+        }
+        return histogram;
+    }
+
+    /*
+     * Reports the probe length of a given value in the current buckets to the
+     * listener for one in every period operations.
+     */
+    private void sample(Object value) {
+        if (listener != null && --countdown == 0) {
+            countdown = period;
+            int length = 0;
+            int i = hash(value);
+            while (buckets[i] != null && !buckets[i].equals(value)) {
+                length++;
+                i = next(i);
+            }
+            listener.probed(length);
+        }
+    }
+
+    /*
+     * Records a resize that started at a given time.
+     */
+    private void resized(int oldLength, long start) {
+        long nanos = System.nanoTime() - start;
+        resizes++;
+        resizeNanos += nanos;
+        if (listener != null) {
+            listener.resized(oldLength, buckets.length, nanos);
         }
     }
 
     /*
      * Hash function for this hash table.
      */
-    private int hash(E value) {
-        int temp = value.hashCode() % buckets.length;
-        if (temp < 0) {
-            return temp + buckets.length;
+    private int hash(Object value) {
+        return sizing.index(value.hashCode(), buckets.length);
+    }
+
+    /*
+     * Returns the index of the bucket after a given bucket.
+     */
+    private int next(int i) {
+        i++;
+        return i == buckets.length ? 0 : i;
+    }
+
+    /*
+     * Returns the index of a given value in a given array of buckets or -1 if
+     * the array does not contain the given value.
+     */
+    private int find(Object[] table, Object value) {
+        return find(table, value, sizing.index(value.hashCode(), table.length));
+    }
+
+    /*
+     * Returns the index of a given value in a given array of buckets by probing
+     * from a given bucket or -1 if the array does not contain the given value.
+     */
+    private int find(Object[] table, Object value, int i) {
+        while (table[i] != null) {
+            if (table[i].equals(value)) {
+                return i;
+            }
+            // collision occurred
+            i++;
+            if (i == table.length) {
+                i = 0;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * Returns the index of a given value in the old buckets or -1 if the old
+     * buckets do not contain the given value. Old buckets are searched in
+     * place, so a value found in a bucket that was already moved is ignored.
+     */
+    private int findOld(Object value) {
+        if (oldBuckets == null) {
+            return -1;
+        }
+        int i = find(oldBuckets, value);
+        return i >= moved ? i : -1;
+    }
+
+    /*
+     * Places a given value, which is not contained in the buckets, in the
+     * first empty or removed bucket of its probe sequence.
+     */
+    private void place(Object value) {
+        int i = hash(value);
+        while (buckets[i] != null && buckets[i] != REMOVED) {
+            i = next(i);
+        }
+        if (buckets[i] == null) {
+            used++;
         } else {
-            return temp;
+            removed--;
+        }
+        buckets[i] = value;
+    }
+
+    /*
+     * Moves a bounded number of old buckets if an incremental rehash is in
+     * progress. Moving a few buckets per operation finishes the rehash well
+     * before the new buckets are three quarters full.
+     */
+    private void move() {
+        if (oldBuckets == null) {
+            return;
+        }
+        int end = Math.min(moved + STEP, oldBuckets.length);
+        while (moved < end) {
+            Object value = oldBuckets[moved];
+            if (value == REMOVED) {
+                // removed value is discarded
+                removed--;
+            } else if (value != null) {
+                place(value);
+            }
+            moved++;
+        }
+        if (moved == oldBuckets.length) {
+            oldBuckets = null;
+            moved = 0;
+        }
+    }
+
+    /*
+     * Finishes an incremental rehash if one is in progress.
+     */
+    private void finish() {
+        while (oldBuckets != null) {
+            move();
+        }
+    }
+
+    /*
+     * Resizes this hash table if necessary so that a given number of values
+     * can be inserted without exceeding the load factor. Removed values are
+     * discarded if this hash table is resized.
+     */
+    private void reserve(int n) {
+        finish();
+        if (3L * buckets.length >= 4L * ((long) used + n)) {
+            return;
+        }
+        long start = System.nanoTime();
+        long capacity = Math.max(4L * ((long) size + n) / 3 + 1, buckets.length);
+        Object[] temp = buckets;
+        buckets = new Object[sizing.capacity((int) Math.min(capacity, MAX_CAPACITY))];
+        used = 0;
+        removed = 0;
+        for (int i = 0; i < temp.length; i++) {
+            if (temp[i] != null && temp[i] != REMOVED) {
+                place(temp[i]);
+            }
+        }
+        resized(temp.length, start);
+    }
+
+    /*
+     * Returns the index of the first bucket in the probe sequence of each
+     * value in a given array.
+     */
+    private int[] indices(E[] values) {
+        int[] result = new int[values.length];
+        for (int m = 0; m < values.length; m++) {
+            result[m] = hash(values[m]);
+        }
+        return result;
+    }
+
+    /*
+     * Loads the first buckets of the probe sequences from a given index to a
+     * given index into a given array. The loads are independent, so the
+     * processor can overlap their cache misses before the values are compared.
+     */
+    private void load(Object[] first, int[] indices, int from, int to) {
+        for (int m = from; m < to; m++) {
+            first[m - from] = buckets[indices[m]];
         }
     }
 
     /*
-     * Rehash this hash table.
+     * Checks if inserting one more value into a given number of buckets, of
+     * which a given number are nonempty, exceeds the load factor. The products
+     * are computed as longs, since they overflow an int for large tables.
+     */
+    static boolean overloaded(int used, int length) {
+        return 3L * length < 4L * ((long) used + 1);
+    }
+
+    /*
+     * Rehash this hash table. The number of buckets is doubled unless most of
+     * the nonempty buckets hold removed values, in which case the removed
+     * values are discarded and the number of buckets is kept. A table that
+     * cannot grow keeps inserting above the load factor until it is full.
      */
-    @SuppressWarnings("unchecked")
     private void rehash() {
+        // finish previous incremental rehash
+        finish();
+        int n;
+        if (4L * size < buckets.length) {
+            n = buckets.length;
+        } else if (buckets.length < MAX_CAPACITY) {
+            n = (int) Math.min(2L * buckets.length, MAX_CAPACITY);
+        } else if (used + 1 >= buckets.length) {
+            if (used == size) {
+                throw new IllegalStateException("full hash table");
+            }
+            n = buckets.length;
+        } else {
+            return;
+        }
+        long start = System.nanoTime();
         Object[] temp = buckets;
-        int p = Sieve.nextPrime(2 * buckets.length);
-        buckets = new Object[p];
-        size = 0;
-        // add all values in this hash table
+        buckets = new Object[sizing.capacity(n)];
+        used = 0;
+        if (rehashing == Rehashing.INCREMENTAL) {
+            // move elements during subsequent operations
+            oldBuckets = temp;
+            moved = 0;
+            resized(temp.length, start);
+            return;
+        }
+        // add all values in this hash table, discarding removed values
+        removed = 0;
         for (int i = 0; i < temp.length; i++) {
-            if (temp[i] != null && !temp[i].equals(REMOVED)) {
-                insert((E) temp[i]);
+            if (temp[i] != null && temp[i] != REMOVED) {
+                place(temp[i]);
             }
         }
+        resized(temp.length, start);
     }
 
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
         builder.append('[');
-        if (!isEmpty()) {
-            // find first element
-            int i = 0;
-            while (buckets[i] == null || buckets[i].equals(REMOVED)) {
-                i++;
-            }
-            // add first element
-            builder.append(buckets[i]);
-            // find and add all other elements
-            for (int j = i + 1; j < buckets.length; j++) {
-                if (buckets[j] != null && !buckets[j].equals(REMOVED)) {
+        append(builder, buckets, 0);
+        if (oldBuckets != null) {
+            append(builder, oldBuckets, moved);
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    /*
+     * Appends the values in a given array of buckets from a given index.
+     */
+    private void append(StringBuilder builder, Object[] table, int from) {
+        for (int i = from; i < table.length; i++) {
+            if (table[i] != null && table[i] != REMOVED) {
+                if (builder.length() > 1) {
                     builder.append(", ");
-                    builder.append(buckets[j]);
                 }
+                builder.append(table[i]);
             }
         }
-        builder.append(']');
-        return builder.toString();
     }
 }
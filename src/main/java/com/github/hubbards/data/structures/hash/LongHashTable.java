@@ -0,0 +1,457 @@
+package com.github.hubbards.data.structures.hash;
+
+import java.util.BitSet;
+
+/**
+ * This class represents an implementation of the hash table ADT for primitive
+ * <code>long</code> values using linear probing to avoid collisions. Values are
+ * stored in a <code>long</code> array, so inserting, finding, and removing a
+ * value with the primitive methods does not allocate. Empty and removed buckets
+ * are marked with sentinel values, and the sentinel values themselves are
+ * tracked separately so that every <code>long</code> can be stored.
+ *
+ * @author Spencer Hubbard
+ */
+public class LongHashTable implements HashTable<Long> {
+    // default number of buckets
+    public static final int DEFAULT_PRIME = 11;
+
+    // sentinel to indicate empty buckets
+    private static final long EMPTY = 0L;
+    // sentinel to indicate removed values
+    private static final long REMOVED = Long.MIN_VALUE;
+
+    // maximum number of buckets requested when growing; the prime found
+    // from it is still a legal array length
+    static final int MAX_CAPACITY = 1 << 30;
+
+    // number of values whose first buckets are loaded together by bulk
+    // operations
+    private static final int BATCH = 16;
+
+    // elements in this hash table
+    private long[] buckets;
+    // number of elements in this hash table
+    private int size;
+    // number of buckets that are not empty, i.e., values and removed values
+    private int used;
+    // flags for sentinel values, which are not stored in buckets
+    private boolean containsEmpty;
+    private boolean containsRemoved;
+
+    /**
+     * Constructs a hash table with the default number of buckets.
+     */
+    public LongHashTable() {
+        this(DEFAULT_PRIME);
+    }
+
+    /**
+     * Constructs a hash table with some number of buckets between a given
+     * number and twice the given number.
+     *
+     * @param n the given number
+     */
+    public LongHashTable(int n) {
+        if (n <= 1) {
+            throw new IllegalArgumentException();
+        }
+        int p = Sieve.nextPrime(n);
+        buckets = new long[p];
+        size = 0;
+        used = 0;
+        containsEmpty = false;
+        containsRemoved = false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Long value) {
+        return contains(value.longValue());
+    }
+
+    @Override
+    public void insert(Long value) {
+        insert(value.longValue());
+    }
+
+    @Override
+    public void remove(Long value) {
+        remove(value.longValue());
+    }
+
+    /**
+     * Checks if a given value is contained in this hash table.
+     *
+     * @param value the value to check for
+     *
+     * @return <code>true</code> if the given value belongs to this hash table,
+     * otherwise <code>false</code>
+     */
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsEmpty;
+        }
+        if (value == REMOVED) {
+            return containsRemoved;
+        }
+        return find(value, hash(value)) >= 0;
+    }
+
+    /**
+     * Inserts a given value into this hash table if this hash table does not
+     * already contain the given value. The hash table is rehashed if the ratio
+     * of the number of nonempty buckets to the number of buckets is more than
+     * three quarters.
+     *
+     * @param value the value to insert
+     *
+     * @throws IllegalStateException if this hash table is full and cannot
+     * grow
+     */
+    public void insert(long value) {
+        if (value == EMPTY) {
+            if (!containsEmpty) {
+                containsEmpty = true;
+                size++;
+            }
+            return;
+        }
+        if (value == REMOVED) {
+            if (!containsRemoved) {
+                containsRemoved = true;
+                size++;
+            }
+            return;
+        }
+        // check load factor
+        if (overloaded(used, buckets.length)) {
+            rehash();
+        }
+        insert(value, hash(value));
+    }
+
+    /*
+     * Inserts a given value, which is not a sentinel, by probing from a given
+     * bucket.
+     */
+    private void insert(long value, int i) {
+        // linear probing to avoid collisions
+        int j = -1;
+        while (buckets[i] != EMPTY) {
+            if (buckets[i] == value) {
+                // value is already contained in this table
+                return;
+            }
+            if (j < 0 && buckets[i] == REMOVED) {
+                // reuse first removed bucket
+                j = i;
+            }
+            // collision occurred
+            i = next(i);
+        }
+        if (j < 0) {
+            j = i;
+            used++;
+        }
+        buckets[j] = value;
+        size++;
+    }
+
+    /**
+     * Removes a given value from this hash table if this hash table contains
+     * the given value.
+     *
+     * @param value the value to remove
+     */
+    public void remove(long value) {
+        if (value == EMPTY) {
+            if (containsEmpty) {
+                containsEmpty = false;
+                size--;
+            }
+            return;
+        }
+        if (value == REMOVED) {
+            if (containsRemoved) {
+                containsRemoved = false;
+                size--;
+            }
+            return;
+        }
+        int i = find(value, hash(value));
+        if (i >= 0) {
+            // remove value
+            buckets[i] = REMOVED;
+            size--;
+        }
+    }
+
+    /**
+     * Inserts the values in a given array into this hash table. The hash table
+     * is resized at most once, the hash codes of all values are computed
+     * before probing, and the first buckets of the probe sequences of several
+     * values are loaded together so that their cache misses overlap.
+     *
+     * @param values the values to insert
+     */
+    public void insertAll(long[] values) {
+        reserve(values.length);
+        int[] indices = indices(values);
+        long[] first = new long[BATCH];
+        for (int k = 0; k < values.length; k += BATCH) {
+            int end = Math.min(k + BATCH, values.length);
+            load(first, indices, k, end);
+            for (int m = k; m < end; m++) {
+                long value = values[m];
+                int i = indices[m];
+                if (value == EMPTY || value == REMOVED) {
+                    insert(value);
+                } else if (first[m - k] == EMPTY && buckets[i] == EMPTY) {
+                    // first bucket is still empty, so the value is not
+                    // contained and no probing is needed
+                    buckets[i] = value;
+                    used++;
+                    size++;
+                } else {
+                    insert(value, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks which values in a given array are contained in this hash table.
+     * The hash codes of all values are computed before probing, and the first
+     * buckets of the probe sequences of several values are loaded together so
+     * that their cache misses overlap.
+     *
+     * @param values the values to check for
+     *
+     * @return a bitmap in which bit <code>i</code> is set if and only if the
+     * value at index <code>i</code> belongs to this hash table
+     */
+    public BitSet containsAll(long[] values) {
+        BitSet result = new BitSet(values.length);
+        int[] indices = indices(values);
+        long[] first = new long[BATCH];
+        for (int k = 0; k < values.length; k += BATCH) {
+            int end = Math.min(k + BATCH, values.length);
+            load(first, indices, k, end);
+            for (int m = k; m < end; m++) {
+                long value = values[m];
+                boolean found;
+                if (value == EMPTY || value == REMOVED) {
+                    found = contains(value);
+                } else if (first[m - k] == EMPTY) {
+                    // probe sequence ends at first bucket
+                    found = false;
+                } else {
+                    found = first[m - k] == value || find(value, next(indices[m])) >= 0;
+                }
+                if (found) {
+                    result.set(m);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the values in a given array from this hash table. The hash codes
+     * of all values are computed before probing, and the first buckets of the
+     * probe sequences of several values are loaded together so that their
+     * cache misses overlap.
+     *
+     * @param values the values to remove
+     */
+    public void removeAll(long[] values) {
+        int[] indices = indices(values);
+        long[] first = new long[BATCH];
+        for (int k = 0; k < values.length; k += BATCH) {
+            int end = Math.min(k + BATCH, values.length);
+            load(first, indices, k, end);
+            for (int m = k; m < end; m++) {
+                long value = values[m];
+                if (value == EMPTY || value == REMOVED) {
+                    remove(value);
+                    continue;
+                }
+                if (first[m - k] == EMPTY) {
+                    // first bucket is empty, so the value is not contained
+                    continue;
+                }
+                int i = find(value, indices[m]);
+                if (i >= 0) {
+                    // remove value
+                    buckets[i] = REMOVED;
+                    size--;
+                }
+            }
+        }
+    }
+
+    /*
+     * Returns the index of a given value, which is not a sentinel, by probing
+     * from a given bucket or -1 if this hash table does not contain the given
+     * value.
+     */
+    private int find(long value, int i) {
+        while (buckets[i] != EMPTY) {
+            if (buckets[i] == value) {
+                return i;
+            }
+            // collision occurred
+            i = next(i);
+        }
+        // value is not contained in this table
+        return -1;
+    }
+
+    /*
+     * Returns the index of the first bucket in the probe sequence of each
+     * value in a given array.
+     */
+    private int[] indices(long[] values) {
+        int[] result = new int[values.length];
+        for (int m = 0; m < values.length; m++) {
+            result[m] = hash(values[m]);
+        }
+        return result;
+    }
+
+    /*
+     * Loads the first buckets of the probe sequences from a given index to a
+     * given index into a given array. The loads are independent, so the
+     * processor can overlap their cache misses before the values are compared.
+     */
+    private void load(long[] first, int[] indices, int from, int to) {
+        for (int m = from; m < to; m++) {
+            first[m - from] = buckets[indices[m]];
+        }
+    }
+
+    /*
+     * Resizes this hash table if necessary so that a given number of values
+     * can be inserted without exceeding the load factor. Removed values are
+     * discarded if this hash table is resized.
+     */
+    private void reserve(int n) {
+        if (3L * buckets.length < 4L * ((long) used + n)) {
+            long capacity = Math.max(4L * ((long) size + n) / 3 + 1, buckets.length);
+            resize((int) Math.min(capacity, MAX_CAPACITY));
+        }
+    }
+
+    /*
+     * Hash function for this hash table.
+     */
+    private int hash(long value) {
+        int temp = (int) (value % buckets.length);
+        if (temp < 0) {
+            return temp + buckets.length;
+        } else {
+            return temp;
+        }
+    }
+
+    /*
+     * Returns the index of the bucket after a given bucket.
+     */
+    private int next(int i) {
+        i++;
+        return i == buckets.length ? 0 : i;
+    }
+
+    /*
+     * Rehash this hash table. The number of buckets is doubled unless most of
+     * the nonempty buckets hold removed values, in which case the removed
+     * values are discarded and the number of buckets is kept. A table that
+     * cannot grow keeps inserting above the load factor until it is full.
+     */
+    private void rehash() {
+        if (4L * size < buckets.length) {
+            resize(buckets.length);
+        } else if (buckets.length < MAX_CAPACITY) {
+            resize(grow(buckets.length));
+        } else if (used + 1 >= buckets.length) {
+            if (used == size) {
+                throw new IllegalStateException("full hash table");
+            }
+            resize(buckets.length);
+        }
+    }
+
+    /*
+     * Checks if inserting one more value into a given number of buckets, of
+     * which a given number are nonempty, exceeds the load factor. The products
+     * are computed as longs, since they overflow an int for large tables.
+     */
+    static boolean overloaded(int used, int length) {
+        return 3L * length < 4L * ((long) used + 1);
+    }
+
+    /*
+     * Returns twice a given number of buckets, but at most the maximum
+     * capacity.
+     */
+    static int grow(int length) {
+        return (int) Math.min(2L * length, MAX_CAPACITY);
+    }
+
+    /*
+     * Moves the values in this hash table to some number of buckets between a
+     * given number and twice the given number.
+     */
+    private void resize(int n) {
+        long[] temp = buckets;
+        buckets = new long[Sieve.nextPrime(n)];
+        used = 0;
+        for (int i = 0; i < temp.length; i++) {
+            long value = temp[i];
+            if (value != EMPTY && value != REMOVED) {
+                // values are distinct, so probe for an empty bucket
+                int j = hash(value);
+                while (buckets[j] != EMPTY) {
+                    j = next(j);
+                }
+                buckets[j] = value;
+                used++;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        String separator = "";
+        if (containsEmpty) {
+            builder.append(EMPTY);
+            separator = ", ";
+        }
+        if (containsRemoved) {
+            builder.append(separator);
+            builder.append(REMOVED);
+            separator = ", ";
+        }
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] != EMPTY && buckets[i] != REMOVED) {
+                builder.append(separator);
+                builder.append(buckets[i]);
+                separator = ", ";
+            }
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+}
@@ -0,0 +1,484 @@
+package com.github.hubbards.data.structures.hash;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class represents an implementation of the hash table ADT for primitive
+ * <code>long</code> values stored off-heap in a memory-mapped file. Linear
+ * probing is used to avoid collisions, the number of buckets is a power of two,
+ * and empty and removed buckets are marked with sentinel values like
+ * {@link LongHashTable}. The buckets are mapped in regions of at most one
+ * gigabyte, so the table can be larger than the heap and puts no pressure on
+ * the garbage collector.
+ * <p>
+ * The file holds a small header followed by the buckets. Every operation
+ * updates the header, so a table that is closed (or flushed) can be reopened by
+ * constructing a new table for the same file. Rehashing writes a new file next
+ * to the given file and then moves it over the given file.
+ * <p>
+ * This class is not thread-safe, and a file must not be opened by more than one
+ * table at a time.
+ *
+ * @author Spencer Hubbard
+ */
+public class MappedLongHashTable implements HashTable<Long>, Closeable {
+    // default number of buckets
+    public static final int DEFAULT_CAPACITY = 16;
+
+    // sentinel to indicate empty buckets
+    private static final long EMPTY = 0L;
+    // sentinel to indicate removed values
+    private static final long REMOVED = Long.MIN_VALUE;
+
+    // identifies files written by this class
+    private static final long MAGIC = 0x4d4c4854_00000001L;
+    // header layout
+    private static final int HEADER = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+    private static final int USED_OFFSET = 24;
+    private static final int FLAGS_OFFSET = 32;
+    // flags for sentinel values
+    private static final int CONTAINS_EMPTY = 1;
+    private static final int CONTAINS_REMOVED = 2;
+
+    // number of buckets in a mapped region, i.e., one gigabyte
+    private static final int REGION_BITS = 27;
+    private static final long REGION_MASK = (1L << REGION_BITS) - 1;
+    // maximum number of buckets
+    private static final long MAX_CAPACITY = 1L << 40;
+
+    // file that holds this hash table
+    private final Path file;
+    // channel for file or null if this hash table is closed
+    private FileChannel channel;
+    // mapped header of file
+    private MappedByteBuffer header;
+    // mapped buckets of file
+    private MappedByteBuffer[] regions;
+    // number of buckets, which is a power of two
+    private long capacity;
+    // number of elements in this hash table
+    private long size;
+    // number of buckets that are not empty, i.e., values and removed values
+    private long used;
+    // flags for sentinel values, which are not stored in buckets
+    private boolean containsEmpty;
+    private boolean containsRemoved;
+
+    /**
+     * Opens the hash table in a given file, or constructs a hash table with the
+     * default number of buckets if the file does not exist.
+     *
+     * @param file the given file
+     *
+     * @throws IOException if the file cannot be opened or does not hold a hash
+     * table
+     */
+    public MappedLongHashTable(Path file) throws IOException {
+        this(file, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens the hash table in a given file, or constructs a hash table with
+     * some number of buckets between a given number and twice the given number
+     * if the file does not exist. The number of buckets is a power of two.
+     *
+     * @param file the given file
+     * @param n the given number
+     *
+     * @throws IOException if the file cannot be opened or does not hold a hash
+     * table
+     */
+    public MappedLongHashTable(Path file, long n) throws IOException {
+        if (file == null || n <= 1 || n > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        this.file = file;
+        if (!Files.exists(file) || Files.size(file) == 0) {
+            Files.deleteIfExists(file);
+            create(file, Long.highestOneBit(n - 1) << 1);
+        }
+        open();
+    }
+
+    /*
+     * Creates a file holding an empty hash table with a given number of
+     * buckets. The buckets are not written, so the file may be sparse.
+     */
+    private static void create(Path file, long capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER);
+            buffer.putLong(MAGIC_OFFSET, MAGIC);
+            buffer.putLong(CAPACITY_OFFSET, capacity);
+            channel.write(buffer, 0);
+            // extend file to hold empty buckets
+            channel.write(ByteBuffer.allocate(8), HEADER + 8 * (capacity - 1));
+        }
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of elements in this hash table, which may be more
+     * than {@link Integer#MAX_VALUE}.
+     *
+     * @return the number of elements in this hash table
+     */
+    public long longSize() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Long value) {
+        return contains(value.longValue());
+    }
+
+    @Override
+    public void insert(Long value) {
+        insert(value.longValue());
+    }
+
+    @Override
+    public void remove(Long value) {
+        remove(value.longValue());
+    }
+
+    /**
+     * Checks if a given value is contained in this hash table.
+     *
+     * @param value the value to check for
+     *
+     * @return <code>true</code> if the given value belongs to this hash table,
+     * otherwise <code>false</code>
+     *
+     * @throws IllegalStateException if this hash table is closed
+     */
+    public boolean contains(long value) {
+        checkOpen();
+        if (value == EMPTY) {
+            return containsEmpty;
+        }
+        if (value == REMOVED) {
+            return containsRemoved;
+        }
+        long i = hash(value);
+        long temp;
+        while ((temp = get(i)) != EMPTY) {
+            if (temp == value) {
+                return true;
+            }
+            // collision occurred
+            i = next(i);
+        }
+        // value is not contained in this table
+        return false;
+    }
+
+    /**
+     * Inserts a given value into this hash table if this hash table does not
+     * already contain the given value. The hash table is rehashed if the ratio
+     * of the number of nonempty buckets to the number of buckets is more than
+     * three quarters.
+     *
+     * @param value the value to insert
+     *
+     * @throws IllegalStateException if this hash table is closed
+     * @throws UncheckedIOException if rehashing fails
+     */
+    public void insert(long value) {
+        checkOpen();
+        if (value == EMPTY) {
+            if (!containsEmpty) {
+                containsEmpty = true;
+                size++;
+                writeHeader();
+            }
+            return;
+        }
+        if (value == REMOVED) {
+            if (!containsRemoved) {
+                containsRemoved = true;
+                size++;
+                writeHeader();
+            }
+            return;
+        }
+        // check load factor
+        if (3 * capacity < 4 * (used + 1)) {
+            rehash();
+        }
+        // linear probing to avoid collisions
+        long i = hash(value);
+        long j = -1;
+        long temp;
+        while ((temp = get(i)) != EMPTY) {
+            if (temp == value) {
+                // value is already contained in this table
+                return;
+            }
+            if (j < 0 && temp == REMOVED) {
+                // reuse first removed bucket
+                j = i;
+            }
+            // collision occurred
+            i = next(i);
+        }
+        if (j < 0) {
+            j = i;
+            used++;
+        }
+        set(j, value);
+        size++;
+        writeHeader();
+    }
+
+    /**
+     * Removes a given value from this hash table if this hash table contains
+     * the given value.
+     *
+     * @param value the value to remove
+     *
+     * @throws IllegalStateException if this hash table is closed
+     */
+    public void remove(long value) {
+        checkOpen();
+        if (value == EMPTY) {
+            if (containsEmpty) {
+                containsEmpty = false;
+                size--;
+                writeHeader();
+            }
+            return;
+        }
+        if (value == REMOVED) {
+            if (containsRemoved) {
+                containsRemoved = false;
+                size--;
+                writeHeader();
+            }
+            return;
+        }
+        long i = hash(value);
+        long temp;
+        while ((temp = get(i)) != EMPTY) {
+            if (temp == value) {
+                // remove value
+                set(i, REMOVED);
+                size--;
+                writeHeader();
+                return;
+            }
+            // collision occurred
+            i = next(i);
+        }
+    }
+
+    /**
+     * Writes any changes to this hash table to the storage device that holds
+     * the file.
+     *
+     * @throws IllegalStateException if this hash table is closed
+     */
+    public void flush() {
+        checkOpen();
+        header.force();
+        for (MappedByteBuffer region : regions) {
+            region.force();
+        }
+    }
+
+    /**
+     * Flushes and closes this hash table. Closing a closed hash table has no
+     * effect.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        flush();
+        channel.close();
+        channel = null;
+        header = null;
+        regions = null;
+    }
+
+    /*
+     * Opens the file and reads the header.
+     */
+    private void open() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < HEADER) {
+                throw new IOException("not a hash table file: " + file);
+            }
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER);
+            capacity = header.getLong(CAPACITY_OFFSET);
+            if (header.getLong(MAGIC_OFFSET) != MAGIC
+                    || Long.bitCount(capacity) != 1
+                    || capacity > MAX_CAPACITY
+                    || channel.size() < HEADER + 8 * capacity) {
+                throw new IOException("not a hash table file: " + file);
+            }
+            size = header.getLong(SIZE_OFFSET);
+            used = header.getLong(USED_OFFSET);
+            int flags = header.getInt(FLAGS_OFFSET);
+            containsEmpty = (flags & CONTAINS_EMPTY) != 0;
+            containsRemoved = (flags & CONTAINS_REMOVED) != 0;
+            map();
+        } catch (IOException e) {
+            channel.close();
+            channel = null;
+            throw e;
+        }
+    }
+
+    /*
+     * Maps the buckets of the file in regions.
+     */
+    private void map() throws IOException {
+        int n = (int) ((capacity + REGION_MASK) >>> REGION_BITS);
+        regions = new MappedByteBuffer[n];
+        for (int k = 0; k < n; k++) {
+            long first = (long) k << REGION_BITS;
+            long length = Math.min(capacity - first, 1L << REGION_BITS);
+            regions[k] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER + 8 * first, 8 * length);
+        }
+    }
+
+    /*
+     * Writes the size, number of nonempty buckets, and flags to the header.
+     */
+    private void writeHeader() {
+        header.putLong(SIZE_OFFSET, size);
+        header.putLong(USED_OFFSET, used);
+        int flags = (containsEmpty ? CONTAINS_EMPTY : 0) | (containsRemoved ? CONTAINS_REMOVED : 0);
+        header.putInt(FLAGS_OFFSET, flags);
+    }
+
+    /*
+     * Throws an exception if this hash table is closed.
+     */
+    private void checkOpen() {
+        if (channel == null) {
+            throw new IllegalStateException("closed hash table");
+        }
+    }
+
+    /*
+     * Returns the value in a given bucket.
+     */
+    private long get(long i) {
+        return regions[(int) (i >>> REGION_BITS)].getLong((int) (i & REGION_MASK) << 3);
+    }
+
+    /*
+     * Sets the value in a given bucket.
+     */
+    private void set(long i, long value) {
+        regions[(int) (i >>> REGION_BITS)].putLong((int) (i & REGION_MASK) << 3, value);
+    }
+
+    /*
+     * Hash function for this hash table. The value is mixed with the MurmurHash3
+     * finalizer so that the low bits depend on every bit of the value.
+     */
+    private long hash(long value) {
+        return Sizing.mix(value) & (capacity - 1);
+    }
+
+    /*
+     * Returns the index of the bucket after a given bucket.
+     */
+    private long next(long i) {
+        return (i + 1) & (capacity - 1);
+    }
+
+    /*
+     * Rehash this hash table. The number of buckets is doubled unless most of
+     * the nonempty buckets hold removed values, in which case the removed
+     * values are discarded and the number of buckets is kept. The values are
+     * written to a new file, which is then moved over the file.
+     */
+    private void rehash() {
+        long n = 4 * size < capacity ? capacity : 2 * capacity;
+        if (n > MAX_CAPACITY) {
+            throw new IllegalStateException("hash table is full");
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".rehash");
+        try {
+            Files.deleteIfExists(temp);
+            create(temp, n);
+            MappedLongHashTable table = new MappedLongHashTable(temp, n);
+            for (long i = 0; i < capacity; i++) {
+                long value = get(i);
+                if (value != EMPTY && value != REMOVED) {
+                    // values are distinct, so probe for an empty bucket
+                    long j = table.hash(value);
+                    while (table.get(j) != EMPTY) {
+                        j = table.next(j);
+                    }
+                    table.set(j, value);
+                    table.used++;
+                }
+            }
+            table.size = size;
+            table.containsEmpty = containsEmpty;
+            table.containsRemoved = containsRemoved;
+            table.writeHeader();
+            table.close();
+            close();
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        String separator = "";
+        if (containsEmpty) {
+            builder.append(EMPTY);
+            separator = ", ";
+        }
+        if (containsRemoved) {
+            builder.append(separator);
+            builder.append(REMOVED);
+            separator = ", ";
+        }
+        for (long i = 0; channel != null && i < capacity; i++) {
+            long value = get(i);
+            if (value != EMPTY && value != REMOVED) {
+                builder.append(separator);
+                builder.append(value);
+                separator = ", ";
+            }
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+}
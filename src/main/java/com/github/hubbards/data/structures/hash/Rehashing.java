@@ -0,0 +1,23 @@
+package com.github.hubbards.data.structures.hash;
+
+/**
+ * This enum represents the strategies a hash table can use for moving its
+ * elements to a larger array of buckets.
+ *
+ * @author Spencer Hubbard
+ */
+public enum Rehashing {
+    /**
+     * All elements are moved by the insertion that triggers the rehash, so
+     * that insertion takes time proportional to the size of the hash table.
+     */
+    IMMEDIATE,
+
+    /**
+     * The old and new arrays of buckets coexist after a rehash is triggered
+     * and each subsequent operation moves a bounded number of buckets from the
+     * old array to the new array, so every operation takes bounded time apart
+     * from allocating the new array.
+     */
+    INCREMENTAL
+}
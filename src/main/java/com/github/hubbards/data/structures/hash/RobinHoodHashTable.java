@@ -0,0 +1,300 @@
+package com.github.hubbards.data.structures.hash;
+
+/**
+ * This class represents a generic implementation of the hash table ADT using
+ * Robin Hood hashing, a variant of linear probing, to avoid collisions.
+ * <p>
+ * The probe length of a value is the number of buckets between the bucket of
+ * its hash code and the bucket that holds it. When an inserted value has probed
+ * further than the value in its current bucket, the two values trade places, so
+ * the probe lengths along any run of buckets never decrease by more than one
+ * from one bucket to the next. A search can therefore stop as soon as it has
+ * probed further than the value in the current bucket. Removal shifts the
+ * following values back by one bucket instead of leaving a marker for removed
+ * values, so the performance of the table does not degrade under churn.
+ *
+ * @param <E> the element type of this hash table
+ *
+ * @author Spencer Hubbard
+ */
+public class RobinHoodHashTable<E> implements HashTable<E> {
+    // default number of buckets
+    public static final int DEFAULT_PRIME = 11;
+
+    // maximum number of buckets requested when growing; the number found from
+    // it is still a legal array length
+    static final int MAX_CAPACITY = 1 << 30;
+
+    // elements in this hash table
+    private Object[] buckets;
+    // one more than the probe length of each element or zero if empty
+    private int[] probes;
+    // number of elements in this hash table
+    private int size;
+    // strategy for number of buckets and hash function
+    private final Sizing sizing;
+
+    /**
+     * Constructs a hash table with the default number of buckets.
+     */
+    public RobinHoodHashTable() {
+        this(DEFAULT_PRIME);
+    }
+
+    /**
+     * Constructs a hash table with the default number of buckets and a given
+     * sizing strategy.
+     *
+     * @param sizing the given sizing strategy
+     */
+    public RobinHoodHashTable(Sizing sizing) {
+        this(DEFAULT_PRIME, sizing);
+    }
+
+    /**
+     * Constructs a hash table with some number of buckets between a given
+     * number and twice the given number. The number of buckets is prime.
+     *
+     * @param n the given number
+     */
+    public RobinHoodHashTable(int n) {
+        this(n, Sizing.PRIME);
+    }
+
+    /**
+     * Constructs a hash table with some number of buckets between a given
+     * number and twice the given number and a given sizing strategy.
+     *
+     * @param n the given number
+     * @param sizing the given sizing strategy
+     */
+    public RobinHoodHashTable(int n, Sizing sizing) {
+        if (n <= 1 || sizing == null) {
+            throw new IllegalArgumentException();
+        }
+        this.sizing = sizing;
+        int p = sizing.capacity(n);
+        buckets = new Object[p];
+        probes = new int[p];
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(E value) {
+        return indexOf(value) >= 0;
+    }
+
+    @Override
+    public void insert(E value) {
+        // check load factor
+        if (overloaded(size, buckets.length)) {
+            rehash();
+        }
+        int i = hash(value);
+        int probe = 1;
+        // search for value
+        while (probes[i] >= probe) {
+            if (buckets[i].equals(value)) {
+                // value is already contained in this table
+                return;
+            }
+            i = next(i);
+            probe++;
+        }
+        // value is not contained in this table, so insert it here
+        place(value, probe, i);
+        size++;
+    }
+
+    @Override
+    public void remove(E value) {
+        int i = indexOf(value);
+        if (i < 0) {
+            return;
+        }
+        // shift following elements back until an empty bucket or an element
+        // in the bucket of its hash code
+        int j = next(i);
+        while (probes[j] > 1) {
+            buckets[i] = buckets[j];
+            probes[i] = probes[j] - 1;
+            i = j;
+            j = next(j);
+        }
+        buckets[i] = null;
+        probes[i] = 0;
+        size--;
+    }
+
+    /**
+     * Returns the maximum probe length of the elements in this hash table or
+     * <code>-1</code> if this hash table is empty. This method runs in time
+     * proportional to the number of buckets.
+     *
+     * @return the maximum probe length
+     */
+    public int maxProbeLength() {
+        int max = 0;
+        for (int i = 0; i < probes.length; i++) {
+            max = Math.max(max, probes[i]);
+        }
+        return max - 1;
+    }
+
+    /**
+     * Returns the average probe length of the elements in this hash table or
+     * zero if this hash table is empty. This method runs in time proportional
+     * to the number of buckets.
+     *
+     * @return the average probe length
+     */
+    public double averageProbeLength() {
+        if (isEmpty()) {
+            return 0.0;
+        }
+        long sum = 0;
+        for (int i = 0; i < probes.length; i++) {
+            if (probes[i] > 0) {
+                sum += probes[i] - 1;
+            }
+        }
+        return (double) sum / size;
+    }
+
+    /**
+     * Returns a histogram of the probe lengths of the elements in this hash
+     * table. Element <code>k</code> of the histogram is the number of elements
+     * with probe length <code>k</code>. This method runs in time proportional
+     * to the number of buckets.
+     *
+     * @return the histogram of probe lengths
+     */
+    public int[] probeLengthHistogram() {
+        int[] histogram = new int[maxProbeLength() + 1];
+        for (int i = 0; i < probes.length; i++) {
+            if (probes[i] > 0) {
+                histogram[probes[i] - 1]++;
+            }
+        }
+        return histogram;
+    }
+
+    /*
+     * Returns the index of the bucket that holds a given value or -1 if this
+     * hash table does not contain the given value.
+     */
+    private int indexOf(E value) {
+        int i = hash(value);
+        int probe = 1;
+        // an element with a shorter probe length means the value is absent
+        while (probes[i] >= probe) {
+            if (buckets[i].equals(value)) {
+                return i;
+            }
+            i = next(i);
+            probe++;
+        }
+        return -1;
+    }
+
+    /*
+     * Places a given value with a given probe length (plus one) in the bucket
+     * at a given index. The displaced elements are moved to later buckets.
+     */
+    private void place(Object value, int probe, int i) {
+        while (probes[i] != 0) {
+            if (probes[i] < probe) {
+                // take from the rich element and give to the poor element
+                Object tempValue = buckets[i];
+                int tempProbe = probes[i];
+                buckets[i] = value;
+                probes[i] = probe;
+                value = tempValue;
+                probe = tempProbe;
+            }
+            i = next(i);
+            probe++;
+        }
+        buckets[i] = value;
+        probes[i] = probe;
+    }
+
+    /*
+     * Hash function for this hash table.
+     */
+    private int hash(Object value) {
+        return sizing.index(value.hashCode(), buckets.length);
+    }
+
+    /*
+     * Returns the index of the bucket after a given bucket.
+     */
+    private int next(int i) {
+        i++;
+        return i == buckets.length ? 0 : i;
+    }
+
+    /*
+     * Rehash this hash table. A table that cannot grow keeps inserting above
+     * the load factor until it is full.
+     */
+    private void rehash() {
+        if (buckets.length < MAX_CAPACITY) {
+            resize((int) Math.min(2L * buckets.length, MAX_CAPACITY));
+        } else if (size == buckets.length) {
+            throw new IllegalStateException("full hash table");
+        }
+    }
+
+    /*
+     * Checks if inserting one more value into a given number of buckets, of
+     * which a given number hold values, exceeds the load factor. The products
+     * are computed as longs, since they overflow an int for large tables.
+     */
+    static boolean overloaded(int size, int length) {
+        return 3L * length < 4L * ((long) size + 1);
+    }
+
+    /*
+     * Moves the values in this hash table to the number of buckets chosen by
+     * the sizing strategy for a given number.
+     */
+    private void resize(int n) {
+        Object[] temp = buckets;
+        int p = sizing.capacity(n);
+        buckets = new Object[p];
+        probes = new int[p];
+        // values are distinct, so place them without searching
+        for (int i = 0; i < temp.length; i++) {
+            if (temp[i] != null) {
+                place(temp[i], 1, hash(temp[i]));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        String separator = "";
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] != null) {
+                builder.append(separator);
+                builder.append(buckets[i]);
+                separator = ", ";
+            }
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+}
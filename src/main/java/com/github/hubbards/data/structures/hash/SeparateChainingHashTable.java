@@ -1,8 +1,24 @@
 package com.github.hubbards.data.structures.hash;
 
+import com.github.hubbards.data.structures.AVLTree;
+
+import java.util.Arrays;
+
 /**
  * This class represents a genaric implementation of the hash table ADT using
  * separate chaining to avoid collisions.
+ * <p>
+ * A list with more than {@link #TREEIFY_THRESHOLD} elements is converted to an
+ * {@link AVLTree} if the elements are {@link Comparable} and have the same
+ * class, so that a poorly distributed hash function costs logarithmic rather
+ * than linear time per operation. The natural ordering of the elements must be
+ * consistent with equals. A tree is converted back to a list once it has no
+ * more than {@link #UNTREEIFY_THRESHOLD} elements.
+ * <p>
+ * The structure of the hash table can be inspected with
+ * {@link #chainLengthHistogram()} and {@link #loadFactor()}, and resizes are
+ * counted and timed. A {@link HashTableListener} can be set to receive resize
+ * events and the probe lengths of a sample of the operations.
  *
  * @author Spencer Hubbard
  */
@@ -10,10 +26,39 @@ public class SeparateChainingHashTable<E> implements HashTable<E> {
     // default number of buckets
     public static final int DEFAULT_PRIME = 11;
 
+    // maximum number of buckets requested when growing; the number found from
+    // it is still a legal array length
+    static final int MAX_CAPACITY = 1 << 30;
+
+    // number of elements in a list at which the list is converted to a tree
+    public static final int TREEIFY_THRESHOLD = 8;
+    // number of elements in a tree at which the tree is converted to a list
+    public static final int UNTREEIFY_THRESHOLD = 6;
+
+    // number of old buckets moved by each operation during incremental rehash
+    private static final int STEP = 4;
+
     // elements in this hash table
     private Node[] buckets;
     // number of elements in this hash table
     private int size;
+    // strategy for number of buckets and hash function
+    private final Sizing sizing;
+    // strategy for moving elements to a larger array of buckets
+    private final Rehashing rehashing;
+    // elements that have not been moved by an incremental rehash or null
+    private Node[] oldBuckets;
+    // number of old buckets that have been moved by an incremental rehash
+    private int moved;
+    // listener for events or null
+    private HashTableListener listener;
+    // number of operations between samples of the probe length
+    private int period;
+    // number of operations until the next sample
+    private int countdown;
+    // number of resizes and their total duration in nanoseconds
+    private int resizes;
+    private long resizeNanos;
 
     /**
      * Constructs a hash table with the default number of buckets.
@@ -22,20 +67,64 @@ public class SeparateChainingHashTable<E> implements HashTable<E> {
         this(DEFAULT_PRIME);
     }
 
+    /**
+     * Constructs a hash table with the default number of buckets and a given
+     * sizing strategy.
+     *
+     * @param sizing the given sizing strategy
+     */
+    public SeparateChainingHashTable(Sizing sizing) {
+        this(DEFAULT_PRIME, sizing);
+    }
+
     /**
      * Constructs a hash table with some number of buckets between a given
-     * number and twice the given number.
+     * number and twice the given number. The number of buckets is prime.
      *
      * @param n the given number
      */
-    @SuppressWarnings("unchecked")
     public SeparateChainingHashTable(int n) {
-        if (n <= 1) {
+        this(n, Sizing.PRIME);
+    }
+
+    /**
+     * Constructs a hash table with some number of buckets between a given
+     * number and twice the given number and a given sizing strategy.
+     *
+     * @param n the given number
+     * @param sizing the given sizing strategy
+     */
+    public SeparateChainingHashTable(int n, Sizing sizing) {
+        this(n, sizing, Rehashing.IMMEDIATE);
+    }
+
+    /**
+     * Constructs a hash table with some number of buckets between a given
+     * number and twice the given number and given sizing and rehashing
+     * strategies.
+     *
+     * @param n the given number
+     * @param sizing the given sizing strategy
+     * @param rehashing the given rehashing strategy
+     */
+    @SuppressWarnings("unchecked")
+    public SeparateChainingHashTable(int n, Sizing sizing,
+            Rehashing rehashing) {
+        if (n <= 1 || sizing == null || rehashing == null) {
             throw new IllegalArgumentException();
         }
-        int p = Sieve.nextPrime(n);
+        this.sizing = sizing;
+        this.rehashing = rehashing;
+        int p = sizing.capacity(n);
         buckets = (Node[]) new SeparateChainingHashTable.Node[p];
         size = 0;
+        oldBuckets = null;
+        moved = 0;
+        listener = null;
+        period = 1;
+        countdown = 1;
+        resizes = 0;
+        resizeNanos = 0;
     }
 
     @Override
@@ -50,48 +139,244 @@ public class SeparateChainingHashTable<E> implements HashTable<E> {
 
     @Override
     public boolean contains(E value) {
-        int i = hash(value);
-        Node current = buckets[i];
-        while (current != null) {
-            if (current.data.equals(value)) {
-                // value at current node
-                return true;
-            }
-            // value not at current node
-            current = current.next;
-        }
-        // value not contained in this hash table
-        return false;
+        sample(value);
+        move();
+        return find(buckets, value) || findOld(value);
     }
 
     @Override
     public void insert(E value) {
+        sample(value);
+        move();
         // TODO: rehash if load factor is greater than 1
-        // check load factor
-        if (3 * buckets.length < 4 * size) {
+        // check load factor; a table that cannot grow keeps lengthening its
+        // chains, whose long lists are treeified
+        if (3L * buckets.length < 4L * size && buckets.length < MAX_CAPACITY) {
             rehash();
         }
         // separate chaining to avoid collisions
-        if (!contains(value)) {
-            int i = hash(value);
-            Node node = new Node(value);
-            node.next = buckets[i];
-            buckets[i] = node;
+        if (!find(buckets, value) && !findOld(value)) {
+            link(buckets, new Node(value));
             size++;
         }
     }
 
     @Override
     public void remove(E value) {
-        int i = hash(value);
-        if (buckets[i] != null) {
-            if (buckets[i].data.equals(value)) {
-                // value at front of list
-                buckets[i] = buckets[i].next;
+        sample(value);
+        move();
+        if (remove(buckets, hash(value), value)) {
+            size--;
+        } else if (oldBuckets != null) {
+            int i = sizing.index(value.hashCode(), oldBuckets.length);
+            if (i >= moved && remove(oldBuckets, i, value)) {
                 size--;
+            }
+        }
+    }
+
+    /**
+     * Checks if this hash table is in the middle of an incremental rehash.
+     *
+     * @return <code>true</code> if some elements have not been moved to the
+     * new array of buckets, otherwise <code>false</code>
+     */
+    public boolean isRehashing() {
+        return oldBuckets != null;
+    }
+
+    /**
+     * Sets a listener that receives resize events and the probe lengths of one
+     * in every given number of operations. The probe length of an operation is
+     * the number of list nodes compared with the value before the value is
+     * found, or the length of the list if the value is absent. For a bucket
+     * holding a tree, it is the height of a balanced tree of the same size.
+     * The probe length is only computed for sampled operations.
+     *
+     * @param listener the listener or <code>null</code> to remove the listener
+     * @param period the given number of operations between samples
+     *
+     * @throws IllegalArgumentException if the given number is not positive
+     */
+    public void setListener(HashTableListener listener, int period) {
+        if (period < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.listener = listener;
+        this.period = period;
+        countdown = period;
+    }
+
+    /**
+     * Returns the ratio of the number of elements to the number of buckets.
+     *
+     * @return the load factor of this hash table
+     */
+    public double loadFactor() {
+        return (double) size / buckets.length;
+    }
+
+    /**
+     * Returns a histogram of the lengths of the lists (or sizes of the trees)
+     * in the buckets of this hash table. Element <code>k</code> of the
+     * histogram is the number of buckets holding <code>k</code> elements. This
+     * method runs in time proportional to the number of buckets.
+     *
+     * @return the histogram of chain lengths
+     */
+    public int[] chainLengthHistogram() {
+        int[] histogram = new int[1];
+        histogram = histogram(histogram, buckets, 0);
+        if (oldBuckets != null) {
+            histogram = histogram(histogram, oldBuckets, moved);
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the number of times this hash table has been resized.
+     *
+     * @return the number of resizes
+     */
+    public int resizeCount() {
+        return resizes;
+    }
+
+    /**
+     * Returns the total duration of the resizes of this hash table in
+     * nanoseconds. For an incremental rehash, the duration covers allocating
+     * the new array but not moving the elements.
+     *
+     * @return the total duration of resizes
+     */
+    public long resizeNanos() {
+        return resizeNanos;
+    }
+
+    /*
+     * Adds the lengths of the lists in a given array of buckets from a given
+     * index to a given histogram, which is grown if necessary.
+     */
+    private int[] histogram(int[] histogram, Node[] table, int from) {
+        for (int i = from; i < table.length; i++) {
+            int k = length(table[i]);
+            if (k >= histogram.length) {
+                histogram = Arrays.copyOf(histogram, k + 1);
+            }
+            histogram[k]++;
+        }
+        return histogram;
+    }
+
+    /*
+     * Returns the number of elements in a given bucket.
+     */
+    private int length(Node bucket) {
+        if (bucket instanceof SeparateChainingHashTable.Tree) {
+            return ((Tree) bucket).size();
+        }
+        int k = 0;
+        for (Node node = bucket; node != null; node = node.next) {
+            k++;
+        }
+        return k;
+    }
+
+    /*
+     * Reports the probe length of a given value in the current buckets to the
+     * listener for one in every period operations.
+     */
+    private void sample(E value) {
+        if (listener != null && --countdown == 0) {
+            countdown = period;
+            Node node = buckets[hash(value)];
+            int length = 0;
+            if (node instanceof SeparateChainingHashTable.Tree) {
+                int treeSize = ((Tree) node).size();
+                length = 32 - Integer.numberOfLeadingZeros(treeSize);
+            } else {
+                while (node != null && !node.data.equals(value)) {
+                    length++;
+                    node = node.next;
+                }
+            }
+            listener.probed(length);
+        }
+    }
+
+    /*
+     * Records a resize that started at a given time.
+     */
+    private void resized(int oldLength, long start) {
+        long nanos = System.nanoTime() - start;
+        resizes++;
+        resizeNanos += nanos;
+        if (listener != null) {
+            listener.resized(oldLength, buckets.length, nanos);
+        }
+    }
+
+    /*
+     * Hash function for this hash table.
+     */
+    private int hash(E value) {
+        return sizing.index(value.hashCode(), buckets.length);
+    }
+
+    /*
+     * Checks if a given array of buckets contains a given value.
+     */
+    private boolean find(Node[] table, E value) {
+        Node current = table[sizing.index(value.hashCode(), table.length)];
+        if (current instanceof SeparateChainingHashTable.Tree) {
+            return ((Tree) current).contains(value);
+        }
+        while (current != null) {
+            if (current.data.equals(value)) {
+                // value at current node
+                return true;
+            }
+            // value not at current node
+            current = current.next;
+        }
+        // value not contained in this array of buckets
+        return false;
+    }
+
+    /*
+     * Checks if the old buckets that have not been moved contain a given
+     * value.
+     */
+    private boolean findOld(E value) {
+        if (oldBuckets == null) {
+            return false;
+        }
+        int i = sizing.index(value.hashCode(), oldBuckets.length);
+        return i >= moved && find(oldBuckets, value);
+    }
+
+    /*
+     * Removes a given value from the list at a given index in a given array of
+     * buckets. Returns true if the value was removed.
+     */
+    private boolean remove(Node[] table, int i, E value) {
+        if (table[i] instanceof SeparateChainingHashTable.Tree) {
+            Tree tree = (Tree) table[i];
+            if (!tree.remove(value)) {
+                return false;
+            }
+            if (tree.size() <= UNTREEIFY_THRESHOLD) {
+                table[i] = untreeify(tree);
+            }
+            return true;
+        } else if (table[i] != null) {
+            if (table[i].data.equals(value)) {
+                // value at front of list
+                table[i] = table[i].next;
+                return true;
             } else {
                 // value not at front of list
-                Node current = buckets[i];
+                Node current = table[i];
                 while (current.next != null && !current.next.data.equals(value)) {
                     // value not next in list
                     current = current.next;
@@ -99,21 +384,115 @@ public class SeparateChainingHashTable<E> implements HashTable<E> {
                 if (current.next != null) {
                     // value next in list
                     current.next = current.next.next;
-                    size--;
+                    return true;
                 }
             }
         }
+        return false;
     }
 
     /*
-     * Hash function for this hash table.
+     * Links a given node whose value is not contained in a given array of
+     * buckets into the appropriate bucket. A list that reaches the treeify
+     * threshold is converted to a tree, and a tree that cannot order the value
+     * is converted back to a list.
      */
-    private int hash(E value) {
-        int temp = value.hashCode() % buckets.length;
-        if (temp < 0) {
-            return temp + buckets.length;
-        } else {
-            return temp;
+    private void link(Node[] table, Node node) {
+        int i = sizing.index(node.data.hashCode(), table.length);
+        if (table[i] instanceof SeparateChainingHashTable.Tree) {
+            Tree tree = (Tree) table[i];
+            if (tree.accepts(node.data)) {
+                tree.insert(node.data);
+                return;
+            }
+            // value cannot be compared with the elements of the tree
+            table[i] = untreeify(tree);
+        }
+        node.next = table[i];
+        table[i] = node;
+        // count nodes up to the threshold
+        int count = 0;
+        while (node != null && count < TREEIFY_THRESHOLD) {
+            count++;
+            node = node.next;
+        }
+        if (count == TREEIFY_THRESHOLD) {
+            table[i] = treeify(table[i]);
+        }
+    }
+
+    /*
+     * Links the elements of a given bucket into the current array of buckets.
+     * Nodes of a list are relinked, so moving a list does not allocate.
+     */
+    @SuppressWarnings("unchecked")
+    private void transfer(Node bucket) {
+        if (bucket instanceof SeparateChainingHashTable.Tree) {
+            for (Object value : ((Tree) bucket).tree.inOrder()) {
+                link(buckets, new Node((E) value));
+            }
+            return;
+        }
+        while (bucket != null) {
+            Node next = bucket.next;
+            link(buckets, bucket);
+            bucket = next;
+        }
+    }
+
+    /*
+     * Converts a given list to a tree if its elements are comparable and have
+     * the same class. Returns the tree or the given list.
+     */
+    private Node treeify(Node list) {
+        if (!(list.data instanceof Comparable)) {
+            return list;
+        }
+        Class<?> type = list.data.getClass();
+        for (Node node = list.next; node != null; node = node.next) {
+            if (node.data.getClass() != type) {
+                return list;
+            }
+        }
+        Tree tree = new Tree(type);
+        for (Node node = list; node != null; node = node.next) {
+            tree.insert(node.data);
+        }
+        return tree;
+    }
+
+    /*
+     * Converts a given tree to a list.
+     */
+    @SuppressWarnings("unchecked")
+    private Node untreeify(Tree tree) {
+        Node list = null;
+        for (Object value : tree.tree.inOrder()) {
+            Node node = new Node((E) value);
+            node.next = list;
+            list = node;
+        }
+        return list;
+    }
+
+    /*
+     * Moves a bounded number of old buckets if an incremental rehash is in
+     * progress. Nodes of a list are relinked into the new buckets, so moving
+     * a list does not allocate.
+     */
+    private void move() {
+        if (oldBuckets == null) {
+            return;
+        }
+        int end = Math.min(moved + STEP, oldBuckets.length);
+        while (moved < end) {
+            transfer(oldBuckets[moved]);
+            oldBuckets[moved] = null;
+            moved++;
+        }
+        if (moved == oldBuckets.length) {
+            oldBuckets = null;
+            moved = 0;
         }
     }
 
@@ -122,76 +501,120 @@ public class SeparateChainingHashTable<E> implements HashTable<E> {
      */
     @SuppressWarnings("unchecked")
     private void rehash() {
+        // finish previous incremental rehash
+        while (oldBuckets != null) {
+            move();
+        }
+        long start = System.nanoTime();
         Node[] temp = buckets;
-        int p = Sieve.nextPrime(2 * buckets.length);
+        int p = sizing.capacity(grow(buckets.length));
         buckets = (Node[]) new SeparateChainingHashTable.Node[p];
-        size = 0;
+        if (rehashing == Rehashing.INCREMENTAL) {
+            // move elements during subsequent operations
+            oldBuckets = temp;
+            moved = 0;
+            resized(temp.length, start);
+            return;
+        }
         for (int i = 0; i < temp.length; i++) {
-            Node node = temp[i];
-            while (node != null) {
-                insert(node.data);
-                node = node.next;
-            }
+            transfer(temp[i]);
         }
+        resized(temp.length, start);
+    }
+
+    /*
+     * Returns twice a given number of buckets, but at most the maximum
+     * capacity.
+     */
+    static int grow(int length) {
+        return (int) Math.min(2L * length, MAX_CAPACITY);
     }
 
     /**
-     * Prints this hash table. Note that output is formatted "nicely" if values
-     * are no more than six characters long.
-     */
-    public void debug() {
-        System.out.println("debug output");
-        System.out.println("index: data:");
-        for (int i = 0; i < buckets.length; i++) {
-            // print row for list of values
-            System.out.printf("%-4d   ", i);
-            Node node = buckets[i];
+     * Returns a description of this hash table and its statistics for
+     * debugging. The rows of the description line up if values are no more
+     * than six characters long.
+     *
+     * @return the description of this hash table
+     */
+    public String debug() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("index: data:\n");
+        debug(builder, buckets, 0);
+        if (oldBuckets != null) {
+            builder.append("old index: data:\n");
+            debug(builder, oldBuckets, moved);
+        }
+        builder.append("size: ").append(size).append('\n');
+        builder.append(String.format("load factor: %.2f\n", loadFactor()));
+        builder.append("chain lengths: ");
+        builder.append(Arrays.toString(chainLengthHistogram())).append('\n');
+        builder.append("resizes: ").append(resizes);
+        builder.append(" (").append(resizeNanos).append(" ns)\n");
+        return builder.toString();
+    }
+
+    /*
+     * Appends the lists in a given array of buckets from a given index, one
+     * row per bucket.
+     */
+    private void debug(StringBuilder builder, Node[] table, int from) {
+        for (int i = from; i < table.length; i++) {
+            // append row for list of values
+            builder.append(String.format("%-4d   ", i));
+            Node node = table[i];
             if (node == null) {
-                System.out.printf("%s\n", "null");
+                builder.append("null");
+            } else if (node instanceof SeparateChainingHashTable.Tree) {
+                builder.append("tree ").append(((Tree) node).tree.inOrder());
             } else {
-                System.out.printf("%-6s", node.data);
+                builder.append(String.format("%-6s", node.data));
                 node = node.next;
                 while (node != null) {
-                    System.out.printf(" --> %-6s", node.data);
+                    builder.append(String.format(" --> %-6s", node.data));
                     node = node.next;
                 }
-                System.out.println();
             }
+            builder.append('\n');
         }
-        System.out.println("size: " + size);
-        System.out.println();
     }
 
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
         builder.append('[');
-        if (!isEmpty()) {
-            // find first list
-            int i = 0;
-            while (buckets[i] == null) {
-                i++;
-            }
-            // add elements in first list
-            Node current = buckets[i];
-            builder.append(current.data);
-            while (current.next != null) {
-                current = current.next;
-                builder.append(", ");
-                builder.append(current.data);
+        append(builder, buckets, 0);
+        if (oldBuckets != null) {
+            append(builder, oldBuckets, moved);
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    /*
+     * Appends the elements in the lists of a given array of buckets from a
+     * given index.
+     */
+    private void append(StringBuilder builder, Node[] table, int from) {
+        for (int i = from; i < table.length; i++) {
+            if (table[i] instanceof SeparateChainingHashTable.Tree) {
+                for (Object value : ((Tree) table[i]).tree.inOrder()) {
+                    if (builder.length() > 1) {
+                        builder.append(", ");
+                    }
+                    builder.append(value);
+                }
+                continue;
             }
-            // find and add elements in all other lists
-            for (int j = i + 1; j < buckets.length; j++) {
-                current = buckets[j];
-                while (current != null) {
+            Node current = table[i];
+            while (current != null) {
+                if (builder.length() > 1) {
                     builder.append(", ");
-                    builder.append(current.data);
-                    current = current.next;
                 }
+                builder.append(current.data);
+                current = current.next;
             }
         }
-        builder.append(']');
-        return builder.toString();
     }
 
     /*
@@ -207,4 +630,67 @@ public class SeparateChainingHashTable<E> implements HashTable<E> {
             next = null;
         }
     }
+
+    /*
+     * This inner class represents a bucket whose elements are stored in an AVL
+     * tree ordered by their natural ordering. All elements have the same
+     * class, so they can be compared with each other.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private class Tree extends Node {
+        private final AVLTree tree;
+        private final Class<?> type;
+
+        public Tree(Class<?> type) {
+            super(null);
+            this.tree = new AVLTree();
+            this.type = type;
+        }
+
+        public int size() {
+            return tree.size();
+        }
+
+        public boolean accepts(E value) {
+            return value.getClass() == type;
+        }
+
+        public boolean contains(E value) {
+            if (accepts(value)) {
+                return tree.contains((Comparable) value);
+            }
+            // value cannot be compared, but may still be equal to an element
+            return equal(value) != null;
+        }
+
+        public void insert(E value) {
+            tree.insert((Comparable) value);
+        }
+
+        public boolean remove(E value) {
+            Object element;
+            if (accepts(value)) {
+                element = tree.contains((Comparable) value) ? value : null;
+            } else {
+                element = equal(value);
+            }
+            if (element == null) {
+                return false;
+            }
+            tree.remove((Comparable) element);
+            return true;
+        }
+
+        /*
+         * Finds an element equal to a given value by traversing the tree.
+         */
+        private Object equal(E value) {
+            for (Object element : tree.inOrder()) {
+                if (element.equals(value)) {
+                    return element;
+                }
+            }
+            return null;
+        }
+    }
 }
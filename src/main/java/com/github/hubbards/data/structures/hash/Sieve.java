@@ -1,9 +1,8 @@
 package com.github.hubbards.data.structures.hash;
 
-import java.util.Stack;
-import java.util.Queue;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.LinkedList;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
@@ -14,6 +13,21 @@ import static com.google.common.base.Preconditions.checkArgument;
  * @author Spencer Hubbard
  */
 public final class Sieve {
+    // number of odd numbers in each segment of the segmented sieve
+    private static final int SEGMENT_BITS = 1 << 18;
+
+    // limit of the table of small primes
+    private static final int SMALL_LIMIT = 1 << 16;
+
+    // bit-packed table of odd composites up to the small limit
+    private static final long[] SMALL_COMPOSITES = oddComposites(SMALL_LIMIT);
+
+    // small primes for trial division before the Miller-Rabin test
+    private static final int[] TRIAL_DIVISORS = {3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37};
+
+    // Miller-Rabin witnesses that are deterministic for all n < 3,215,031,751
+    private static final long[] WITNESSES = {2, 3, 5, 7};
+
     /*
      * Suppress default constructor for noninstantiability. See item #4 in
      * Effective Java, 2nd edition.
@@ -24,37 +38,54 @@ public final class Sieve {
 
     /**
      * Finds all prime numbers up to a given max using the sieve of Eratosthenes
-     * algorithm.
+     * algorithm. The sieve only represents odd numbers, packs them into the
+     * bits of a <code>long</code> array, and crosses off composites one
+     * cache-sized segment at a time.
      *
      * @param max the given max
      *
      * @return a list of all prime numbers up to the given max
      */
     public static List<Integer> sieve(int max) {
-        List<Integer> primes = new LinkedList<Integer>();
-        Queue<Integer> numbers = new LinkedList<Integer>();
-
-        if (max >= 2) {
-            primes.add(2);
+        List<Integer> primes = new ArrayList<Integer>();
+        if (max < 2) {
+            return primes;
         }
+        primes.add(2);
 
-        // add all odd numbers from 3 to max (inclusive) to queue
-        for (int i = 3; i <= max; i += 2) {
-            numbers.add(i);
-        }
+        // find odd primes up to the square root of max
+        int root = (int) Math.sqrt(max);
+        int[] divisors = oddPrimes(oddComposites(root), root);
 
-        while (!numbers.isEmpty()) {
-            // remove a prime number from the front of the list
-            int front = numbers.remove();
-            primes.add(front);
-
-            // if front squared is greater than max, then add rest
-            if (max < front * front) {
-                primes.addAll(numbers);
-                numbers.clear();
-            } else {
-                // remove all multiples of this prime number
-                numbers.removeIf(i -> i % front == 0);
+        // sieve each segment of odd numbers from 3 to max (inclusive)
+        long[] segment = new long[SEGMENT_BITS / Long.SIZE];
+        for (long low = 3; low <= max; low += 2L * SEGMENT_BITS) {
+            long high = Math.min(low + 2L * (SEGMENT_BITS - 1), max);
+            Arrays.fill(segment, 0L);
+            for (int p : divisors) {
+                // first odd multiple of p in segment that is at least p squared
+                long start = (long) p * p;
+                if (start > high) {
+                    break;
+                }
+                if (start < low) {
+                    start = (low + p - 1) / p * p;
+                    if ((start & 1) == 0) {
+                        start += p;
+                    }
+                }
+                // cross off odd multiples of p
+                for (long m = start; m <= high; m += 2L * p) {
+                    int bit = (int) ((m - low) >>> 1);
+                    segment[bit >>> 6] |= 1L << bit;
+                }
+            }
+            // add numbers that were not crossed off
+            for (long m = low; m <= high; m += 2) {
+                int bit = (int) ((m - low) >>> 1);
+                if ((segment[bit >>> 6] & (1L << bit)) == 0) {
+                    primes.add((int) m);
+                }
             }
         }
 
@@ -62,7 +93,10 @@ public final class Sieve {
     }
 
     /**
-     * Finds the smallest prime greater than or equal to a given number.
+     * Finds the smallest prime greater than or equal to a given number. Small
+     * numbers are looked up in a table of primes and large numbers are tested
+     * with the deterministic Miller-Rabin test, so the running time does not
+     * depend on the size of the given number.
      *
      * @param n the given number
      *
@@ -73,37 +107,128 @@ public final class Sieve {
      */
     static int nextPrime(int n) {
         checkArgument(n > 1, "Expected n > 1 but was %s", n);
+        if (n == 2) {
+            return 2;
+        }
+        // Integer.MAX_VALUE is prime, so the search does not overflow
+        int p = n | 1;
+        while (!isPrime(p)) {
+            p += 2;
+        }
+        return p;
+    }
+
+    /**
+     * Checks if a given number is prime.
+     *
+     * @param n the given number
+     *
+     * @return <code>true</code> if the given number is prime, otherwise
+     * <code>false</code>
+     */
+    static boolean isPrime(int n) {
+        if (n < 2) {
+            return false;
+        }
+        if ((n & 1) == 0) {
+            return n == 2;
+        }
+        if (n <= SMALL_LIMIT) {
+            int bit = n >>> 1;
+            return (SMALL_COMPOSITES[bit >>> 6] & (1L << bit)) == 0;
+        }
+        for (int d : TRIAL_DIVISORS) {
+            if (n % d == 0) {
+                return false;
+            }
+        }
+        return millerRabin(n);
+    }
 
-        // use sieve of Eratosthenes to find all primes p with 2 <= p < 2 * n
-        Queue<Integer> queue = new LinkedList<Integer>();
-        Stack<Integer> stack = new Stack<Integer>();
-        // add all integers i with 2 <= i < 2 * n to queue
-        for (int i = 2; i < 2 * n; i++) {
-            queue.add(i);
+    /*
+     * Returns a bit-packed table of odd composites up to a given limit. Bit i
+     * of the table is set if and only if 2 * i + 1 is not prime.
+     */
+    private static long[] oddComposites(int limit) {
+        int bits = limit / 2 + 1;
+        long[] composites = new long[(bits + Long.SIZE - 1) / Long.SIZE];
+        // one is not prime
+        composites[0] |= 1L;
+        for (int p = 3; (long) p * p <= limit; p += 2) {
+            int bit = p >>> 1;
+            if ((composites[bit >>> 6] & (1L << bit)) == 0) {
+                // cross off odd multiples of p starting from p squared
+                for (int i = (p * p) >>> 1; i < bits; i += p) {
+                    composites[i >>> 6] |= 1L << i;
+                }
+            }
         }
+        return composites;
+    }
 
-        // add all primes p with p < 2 * n to stack
-        while (!queue.isEmpty()) {
-            // remove next largest prime from front of queue
-            int p = queue.remove();
-            // push p onto stack of prime numbers
-            stack.push(p);
-            // remove multiples of p from queue
-            queue.removeIf(i -> i % p == 0);
+    /*
+     * Returns the odd primes up to a given limit in a given table of odd
+     * composites.
+     */
+    private static int[] oddPrimes(long[] composites, int limit) {
+        int[] primes = new int[limit / 2 + 1];
+        int count = 0;
+        for (int m = 3; m <= limit; m += 2) {
+            int bit = m >>> 1;
+            if ((composites[bit >>> 6] & (1L << bit)) == 0) {
+                primes[count] = m;
+                count++;
+            }
         }
+        return Arrays.copyOf(primes, count);
+    }
 
-        // find smallest prime p with n <= p
-        // there exists prime p such that n < p < 2 * n by Bertrand's theorem
-        assert !stack.isEmpty();
-        int p = stack.pop();
-        assert !stack.isEmpty();
-        int q = stack.pop();
-        while (q >= n) {
-            assert !stack.isEmpty();
-            p = q;
-            q = stack.pop();
+    /*
+     * Miller-Rabin primality test for a given odd number greater than every
+     * witness.
+     */
+    private static boolean millerRabin(long n) {
+        // write n - 1 as d * 2^s with d odd
+        long d = n - 1;
+        int s = 0;
+        while ((d & 1) == 0) {
+            d >>= 1;
+            s++;
+        }
+        for (long a : WITNESSES) {
+            long x = modPow(a, d, n);
+            if (x == 1 || x == n - 1) {
+                continue;
+            }
+            boolean composite = true;
+            for (int r = 1; r < s && composite; r++) {
+                x = x * x % n;
+                if (x == n - 1) {
+                    composite = false;
+                }
+            }
+            if (composite) {
+                // a is a witness for the compositeness of n
+                return false;
+            }
         }
+        return true;
+    }
 
-        return p;
+    /*
+     * Returns a given base raised to a given exponent modulo a given modulus.
+     * The modulus is assumed to be less than 2^31 so products fit in a long.
+     */
+    private static long modPow(long base, long exponent, long modulus) {
+        long result = 1;
+        base %= modulus;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) {
+                result = result * base % modulus;
+            }
+            base = base * base % modulus;
+            exponent >>= 1;
+        }
+        return result;
     }
 }
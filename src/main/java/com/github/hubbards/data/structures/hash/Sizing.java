@@ -0,0 +1,94 @@
+package com.github.hubbards.data.structures.hash;
+
+/**
+ * This enum represents the strategies a hash table can use for choosing the
+ * number of buckets and for mapping hash codes to buckets.
+ *
+ * @author Spencer Hubbard
+ */
+public enum Sizing {
+    /**
+     * The number of buckets is prime and the bucket of a value is its hash code
+     * modulo the number of buckets. A prime modulus spreads poor hash codes
+     * well, but every lookup performs an integer division and every resize
+     * searches for a prime.
+     */
+    PRIME {
+        @Override
+        int capacity(int n) {
+            return Sieve.nextPrime(n);
+        }
+
+        @Override
+        int index(int hashCode, int length) {
+            int temp = hashCode % length;
+            if (temp < 0) {
+                return temp + length;
+            } else {
+                return temp;
+            }
+        }
+    },
+
+    /**
+     * The number of buckets is a power of two and the bucket of a value is the
+     * low bits of its mixed hash code. Mixing spreads the entropy of the hash
+     * code over the low bits, so lookups avoid division while tolerating poor
+     * hash codes, e.g., multiples of a power of two.
+     */
+    POWER_OF_TWO {
+        @Override
+        int capacity(int n) {
+            if (n >= MAX_POWER_OF_TWO) {
+                return MAX_POWER_OF_TWO;
+            }
+            return Integer.highestOneBit(n - 1) << 1;
+        }
+
+        @Override
+        int index(int hashCode, int length) {
+            return mix(hashCode) & (length - 1);
+        }
+    };
+
+    // largest power of two that is a legal array length
+    private static final int MAX_POWER_OF_TWO = 1 << 30;
+
+    /*
+     * Returns the number of buckets for a hash table with at least a given
+     * number of buckets. The given number is assumed to be more than one.
+     */
+    abstract int capacity(int n);
+
+    /*
+     * Returns the index of the bucket for a given hash code in a hash table
+     * with a given number of buckets.
+     */
+    abstract int index(int hashCode, int length);
+
+    /*
+     * Mixes the bits of a given hash code with the finalizer of the 32-bit
+     * MurmurHash3 function, so that each input bit affects each output bit.
+     */
+    static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /*
+     * Mixes the bits of a given 64-bit value with the finalizer of the 128-bit
+     * MurmurHash3 function, so that each input bit affects each output bit.
+     */
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
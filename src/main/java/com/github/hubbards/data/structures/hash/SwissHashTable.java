@@ -0,0 +1,340 @@
+package com.github.hubbards.data.structures.hash;
+
+import java.util.Arrays;
+
+/**
+ * This class represents a generic implementation of the hash table ADT in the
+ * style of a Swiss table, which probes groups of buckets instead of single
+ * buckets.
+ * <p>
+ * Besides the elements, the table keeps one control byte per bucket. The
+ * control byte of a full bucket holds a 7-bit fingerprint of the hash code of
+ * its element, and the control byte of an empty bucket or a bucket whose
+ * element was removed holds a marker with the high bit set. The control bytes
+ * of a group of eight buckets are packed in one <code>long</code>, so a lookup
+ * compares the fingerprint of a value against a whole group with a few word
+ * operations (SIMD within a register) and only calls <code>equals</code> on
+ * the elements whose fingerprints match. A lookup stops at the first group
+ * with an empty bucket, so most lookups read one word of control bytes and at
+ * most one element.
+ * <p>
+ * Groups are probed in triangular order, which visits every group because the
+ * number of groups is a power of two. Hence this table does not take a
+ * {@link Sizing} strategy: the number of buckets is always a power of two.
+ *
+ * @param <E> the element type of this hash table
+ *
+ * @author Spencer Hubbard
+ */
+public class SwissHashTable<E> implements HashTable<E> {
+    // default number of buckets
+    public static final int DEFAULT_CAPACITY = 16;
+
+    // number of buckets in a group
+    private static final int GROUP = 8;
+    // maximum number of buckets
+    private static final int MAX_CAPACITY = 1 << 30;
+    // control byte of an empty bucket
+    private static final long EMPTY = 0x80L;
+    // control byte of a bucket whose element was removed
+    private static final long DELETED = 0xFEL;
+    // lowest bit of each control byte
+    private static final long LSB = 0x0101010101010101L;
+    // highest bit of each control byte
+    private static final long MSB = 0x8080808080808080L;
+    // group of empty buckets
+    private static final long EMPTY_GROUP = EMPTY * LSB;
+
+    // elements in this hash table
+    private Object[] buckets;
+    // control bytes of each group of buckets
+    private long[] control;
+    // number of groups minus one
+    private int mask;
+    // number of elements in this hash table
+    private int size;
+    // number of buckets that are not empty, including removed elements
+    private int used;
+    // maximum number of buckets, a power of two of at least one group
+    private final int maxCapacity;
+
+    /**
+     * Constructs a hash table with the default number of buckets.
+     */
+    public SwissHashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a hash table with some number of buckets between a given
+     * number and twice the given number. The number of buckets is a power of
+     * two and at least one group.
+     *
+     * @param n the given number
+     */
+    public SwissHashTable(int n) {
+        this(n, MAX_CAPACITY);
+    }
+
+    /*
+     * Constructs a hash table with some number of buckets between a given
+     * number and twice the given number that never grows beyond a given
+     * maximum number of buckets, which is a power of two of at least one
+     * group.
+     */
+    SwissHashTable(int n, int maxCapacity) {
+        if (n <= 1) {
+            throw new IllegalArgumentException();
+        }
+        this.maxCapacity = maxCapacity;
+        allocate(n);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(E value) {
+        return indexOf(value, Sizing.mix(value.hashCode())) >= 0;
+    }
+
+    @Override
+    public void insert(E value) {
+        int h = Sizing.mix(value.hashCode());
+        if (indexOf(value, h) >= 0) {
+            // value is already contained in this table
+            return;
+        }
+        // check load factor, counting removed elements
+        if (overloaded(used, buckets.length)) {
+            rehash();
+        }
+        place(value, h);
+        size++;
+    }
+
+    @Override
+    public void remove(E value) {
+        int i = indexOf(value, Sizing.mix(value.hashCode()));
+        if (i < 0) {
+            return;
+        }
+        buckets[i] = null;
+        size--;
+        int g = i / GROUP;
+        if (matchEmpty(control[g]) != 0) {
+            // lookups stop at this group anyway, so the bucket can be empty
+            setControl(i, EMPTY);
+            used--;
+        } else {
+            setControl(i, DELETED);
+        }
+    }
+
+    /**
+     * Returns the number of buckets of this hash table.
+     *
+     * @return the capacity of this hash table
+     */
+    public int capacity() {
+        return buckets.length;
+    }
+
+    /**
+     * Returns the number of buckets whose elements were removed and that are
+     * not yet reusable as empty buckets.
+     *
+     * @return the number of removed element markers
+     */
+    public int tombstones() {
+        return used - size;
+    }
+
+    /*
+     * Returns the index of the bucket that holds a given value with a given
+     * mixed hash code or -1 if this hash table does not contain the value.
+     */
+    private int indexOf(E value, int h) {
+        long pattern = LSB * fingerprint(h);
+        int g = group(h);
+        // triangular probing visits every group once in mask + 1 steps
+        for (int step = 1; step <= mask + 1; step++) {
+            long word = control[g];
+            for (long m = match(word, pattern); m != 0; m &= m - 1) {
+                int i = g * GROUP + (Long.numberOfTrailingZeros(m) >>> 3);
+                if (buckets[i].equals(value)) {
+                    return i;
+                }
+            }
+            if (matchEmpty(word) != 0) {
+                // value would have been placed in this group
+                return -1;
+            }
+            g = (g + step) & mask;
+        }
+        // no group has an empty bucket, which happens only at the maximum
+        // capacity
+        return -1;
+    }
+
+    /*
+     * Places a given value with a given mixed hash code in the first empty
+     * bucket or bucket of a removed element of its probe sequence. The value
+     * must not be contained in this hash table.
+     */
+    private void place(Object value, int h) {
+        int g = group(h);
+        for (int step = 1; ; step++) {
+            long m = matchEmptyOrDeleted(control[g]);
+            if (m != 0) {
+                int i = g * GROUP + (Long.numberOfTrailingZeros(m) >>> 3);
+                if (control(i) == EMPTY) {
+                    used++;
+                }
+                buckets[i] = value;
+                setControl(i, fingerprint(h));
+                return;
+            }
+            g = (g + step) & mask;
+        }
+    }
+
+    /*
+     * Returns the first group of the probe sequence for a given mixed hash
+     * code. The low bits are used for the fingerprint.
+     */
+    private int group(int h) {
+        return (h >>> 7) & mask;
+    }
+
+    /*
+     * Returns the 7-bit fingerprint of a given mixed hash code.
+     */
+    private static long fingerprint(int h) {
+        return h & 0x7F;
+    }
+
+    /*
+     * Returns a word with the high bit set in each byte of a given group that
+     * holds a given fingerprint repeated in every byte. Bytes above a match
+     * may be reported falsely, but only for full buckets, so a caller must
+     * still compare the elements.
+     */
+    private static long match(long word, long pattern) {
+        long x = word ^ pattern;
+        return (x - LSB) & ~x & MSB;
+    }
+
+    /*
+     * Returns a word with the high bit set in each empty byte of a given group.
+     * Only the empty marker has the high bit set and the second bit clear.
+     */
+    private static long matchEmpty(long word) {
+        return word & (~word << 6) & MSB;
+    }
+
+    /*
+     * Returns a word with the high bit set in each empty byte or byte of a
+     * removed element of a given group.
+     */
+    private static long matchEmptyOrDeleted(long word) {
+        return word & MSB;
+    }
+
+    /*
+     * Returns the control byte of the bucket at a given index.
+     */
+    private long control(int i) {
+        return (control[i / GROUP] >>> ((i % GROUP) * 8)) & 0xFF;
+    }
+
+    /*
+     * Sets the control byte of the bucket at a given index.
+     */
+    private void setControl(int i, long c) {
+        int shift = (i % GROUP) * 8;
+        int g = i / GROUP;
+        control[g] = (control[g] & ~(0xFFL << shift)) | (c << shift);
+    }
+
+    /*
+     * Allocates empty buckets for some number of buckets between a given number
+     * and twice the given number.
+     */
+    private void allocate(int n) {
+        int p = n <= GROUP ? GROUP : Integer.highestOneBit(Math.min(n, maxCapacity) - 1) << 1;
+        buckets = new Object[p];
+        control = new long[p / GROUP];
+        Arrays.fill(control, EMPTY_GROUP);
+        mask = control.length - 1;
+        size = 0;
+        used = 0;
+    }
+
+    /*
+     * Rehash this hash table. The number of buckets is doubled unless removed
+     * elements take up at least half of the used buckets, in which case the
+     * buckets are only cleaned up. A table at the maximum capacity is only
+     * cleaned up if removed elements take up at least half of the used
+     * buckets, and otherwise keeps inserting above the load factor until it is
+     * full.
+     */
+    private void rehash() {
+        boolean clean = 2L * size < used;
+        if (buckets.length < maxCapacity) {
+            resize(clean ? buckets.length : 2 * buckets.length);
+        } else if (size == buckets.length) {
+            throw new IllegalStateException("full hash table");
+        } else if (clean) {
+            resize(buckets.length);
+        }
+    }
+
+    /*
+     * Checks if inserting one more element into a given number of buckets, of
+     * which a given number are used, exceeds the load factor. The products are
+     * computed as longs, since they overflow an int for large tables.
+     */
+    static boolean overloaded(int used, int length) {
+        return 7L * length < 8L * ((long) used + 1);
+    }
+
+    /*
+     * Moves the elements of this hash table to a given number of buckets.
+     */
+    private void resize(int length) {
+        Object[] temp = buckets;
+        int n = size;
+        allocate(length);
+        // values are distinct, so place them without searching
+        for (int i = 0; i < temp.length; i++) {
+            if (temp[i] != null) {
+                place(temp[i], Sizing.mix(temp[i].hashCode()));
+            }
+        }
+        size = n;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        String separator = "";
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] != null) {
+                builder.append(separator);
+                builder.append(buckets[i]);
+                separator = ", ";
+            }
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+}
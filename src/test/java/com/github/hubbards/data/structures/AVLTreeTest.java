@@ -2,6 +2,8 @@ package com.github.hubbards.data.structures;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import static org.junit.Assert.*;
 
 
@@ -178,4 +180,70 @@ public class AVLTreeTest {
 
         assertEquals(3, (int) tree.findMax());
     }
+
+    @Test
+    public void testContains() {
+        AVLTree<Integer> tree = new AVLTree<Integer>();
+        assertFalse(tree.contains(1));
+        for (int i = 0; i < 100; i += 2) {
+            tree.insert(i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0, tree.contains(i));
+        }
+        assertEquals(50, tree.size());
+    }
+
+    @Test(expected = UnderflowException.class)
+    public void testRemoveThrows() {
+        AVLTree<Integer> tree = new AVLTree<Integer>();
+        tree.remove(1);
+    }
+
+    @Test
+    public void testRemove() {
+        AVLTree<Integer> tree = new AVLTree<Integer>();
+        for (int i = 0; i < 100; i++) {
+            tree.insert(i);
+        }
+        for (int i = 0; i < 100; i += 3) {
+            tree.remove(i);
+        }
+        tree.remove(1000);
+
+        assertEquals(66, tree.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 3 != 0, tree.contains(i));
+        }
+        assertEquals(1, (int) tree.findMin());
+        assertEquals(98, (int) tree.findMax());
+    }
+
+    @Test
+    public void testRemoveAll() {
+        AVLTree<Integer> tree = new AVLTree<Integer>();
+        for (int i = 0; i < 100; i++) {
+            tree.insert((i * 37) % 100);
+        }
+        for (int i = 0; i < 100; i++) {
+            tree.remove(i);
+        }
+
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    public void testInOrder() {
+        AVLTree<Integer> tree = new AVLTree<Integer>();
+        tree.insert(3);
+        tree.insert(1);
+        tree.insert(2);
+        tree.insert(5);
+        tree.insert(4);
+        tree.remove(3);
+
+        assertEquals(Arrays.asList(1, 2, 4, 5), tree.inOrder());
+    }
 }
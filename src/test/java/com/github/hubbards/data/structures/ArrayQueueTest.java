@@ -1,5 +1,9 @@
 package com.github.hubbards.data.structures;
 
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
 /**
  * This class is a simple test suite for the {@link ArrayQueue} implementation
  * of {@link Queue}.
@@ -12,5 +16,80 @@ public class ArrayQueueTest extends QueueTest {
         return new ArrayQueue<Integer>();
     }
 
-    // TODO: write implementation specific tests
+    @Test
+    public void testGrowAfterWrapAround() {
+        ArrayQueue<Integer> queue = new ArrayQueue<Integer>(4);
+        for (int i = 0; i < 4; i++) {
+            queue.enqueue(i);
+        }
+        queue.dequeue();
+        queue.dequeue();
+        // elements wrap around the end of the array before it grows
+        for (int i = 4; i < 10; i++) {
+            queue.enqueue(i);
+        }
+
+        assertEquals(8, queue.size());
+        assertEquals("[2, 3, 4, 5, 6, 7, 8, 9]", queue.toString());
+        for (int i = 2; i < 10; i++) {
+            assertEquals(Integer.valueOf(i), queue.dequeue());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testShrink() {
+        ArrayQueue<Integer> queue = new ArrayQueue<Integer>(4);
+        for (int i = 0; i < 1000; i++) {
+            queue.enqueue(i);
+        }
+        int capacity = queue.capacity();
+        for (int i = 0; i < 990; i++) {
+            assertEquals(Integer.valueOf(i), queue.dequeue());
+        }
+
+        assertTrue(queue.capacity() < capacity / 8);
+        assertTrue(queue.capacity() >= queue.size());
+
+        for (int i = 990; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), queue.dequeue());
+        }
+
+        // never below the initial capacity
+        assertEquals(4, queue.capacity());
+    }
+
+    @Test
+    public void testTrimToSize() {
+        ArrayQueue<Integer> queue = new ArrayQueue<Integer>(16);
+        for (int i = 0; i < 10; i++) {
+            queue.enqueue(i);
+        }
+        for (int i = 0; i < 7; i++) {
+            queue.dequeue();
+        }
+        queue.enqueue(10);
+        queue.trimToSize();
+
+        assertEquals(4, queue.capacity());
+        assertEquals("[7, 8, 9, 10]", queue.toString());
+
+        queue.enqueue(11);
+
+        assertEquals(Integer.valueOf(7), queue.peek());
+        assertEquals(5, queue.size());
+    }
+
+    @Test
+    public void testTrimToSizeEmpty() {
+        ArrayQueue<Integer> queue = new ArrayQueue<Integer>();
+        queue.trimToSize();
+
+        assertEquals(1, queue.capacity());
+
+        queue.enqueue(1);
+        queue.enqueue(2);
+
+        assertEquals(Integer.valueOf(1), queue.dequeue());
+    }
 }
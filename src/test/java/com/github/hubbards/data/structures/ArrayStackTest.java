@@ -0,0 +1,69 @@
+package com.github.hubbards.data.structures;
+
+import org.junit.Test;
+
+import java.util.EmptyStackException;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link ArrayStack} implementation
+ * of {@link Stack}.
+ *
+ * @author Spencer Hubbard
+ */
+public class ArrayStackTest extends StackTest {
+    @Override
+    protected Stack<Integer> createStack() {
+        return new ArrayStack<Integer>(2);
+    }
+
+    @Test
+    public void testPushGrows() {
+        ArrayStack<Integer> stack = new ArrayStack<Integer>(0);
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+
+        assertEquals(100, stack.size());
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, (int) stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    public void testPeek() {
+        ArrayStack<Integer> stack = new ArrayStack<Integer>();
+        stack.push(1);
+        stack.push(2);
+
+        assertEquals(2, (int) stack.peek());
+        assertEquals(2, stack.size());
+    }
+
+    @Test(expected = EmptyStackException.class)
+    public void testPeekThrows() {
+        new ArrayStack<Integer>().peek();
+    }
+
+    @Test
+    public void testClear() {
+        ArrayStack<Integer> stack = new ArrayStack<Integer>();
+        stack.push(1);
+        stack.push(2);
+        stack.clear();
+
+        assertTrue(stack.isEmpty());
+        assertEquals("[]", stack.toString());
+
+        stack.push(3);
+
+        assertEquals("[3]", stack.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityThrows() {
+        new ArrayStack<Integer>(-1);
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.hubbards.data.structures;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for {@link DoubleArrayList}.
+ *
+ * @author Spencer Hubbard
+ */
+public class DoubleArrayListTest {
+    private DoubleArrayList list;
+
+    @Before
+    public void setUp() {
+        list = new DoubleArrayList(2);
+    }
+
+    @Test
+    public void testIsEmpty() {
+        assertTrue(list.isEmpty());
+
+        list.add(1);
+
+        assertFalse(list.isEmpty());
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    public void testAddGrows() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, list.get(i), 0.0);
+        }
+    }
+
+    @Test
+    public void testAddAtIndex() {
+        list.add(1);
+        list.add(3);
+        list.add(0, 0);
+        list.add(2, 2);
+        list.add(4, 4);
+
+        assertArrayEquals(new double[]{0.0, 1.0, 2.0, 3.0, 4.0}, list.toArray(), 0.0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddAtIndexThrows() {
+        list.add(1, 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetThrows() {
+        list.add(1);
+        list.get(1);
+    }
+
+    @Test
+    public void testSetAndIndexOf() {
+        list.addAll(new double[]{1.0, 2.0, 3.0, 2.0});
+        list.set(0, 5.0);
+
+        assertEquals(5.0, list.get(0), 0.0);
+        assertEquals(1, list.indexOf(2.0));
+        assertEquals(-1, list.indexOf(1.0));
+        assertTrue(list.contains(3.0));
+        assertFalse(list.contains(4.0));
+    }
+
+    @Test
+    public void testIndexOfComparesBits() {
+        list.addAll(new double[]{0.0, Double.NaN});
+
+        assertEquals(1, list.indexOf(Double.NaN));
+        assertEquals(-1, list.indexOf(-0.0));
+    }
+
+    @Test
+    public void testRemove() {
+        list.addAll(new double[]{1.0, 2.0, 3.0, 4.0});
+        list.remove(0);
+        list.remove(1);
+        list.remove(1);
+
+        assertArrayEquals(new double[]{2.0}, list.toArray(), 0.0);
+    }
+
+    @Test
+    public void testAddAll() {
+        list.addAll(new double[]{1.0, 2.0});
+        list.addAll(list);
+
+        assertArrayEquals(new double[]{1.0, 2.0, 1.0, 2.0}, list.toArray(), 0.0);
+        assertEquals("[1.0, 2.0, 1.0, 2.0]", list.toString());
+    }
+
+    @Test
+    public void testClear() {
+        list.addAll(new double[]{1.0, 2.0, 3.0});
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.toArray().length);
+    }
+
+    @Test
+    public void testIterator() {
+        list.addAll(new double[]{1.0, 2.0, 3.0});
+        PrimitiveIterator.OfDouble iterator = list.iterator();
+        double sum = 0;
+        while (iterator.hasNext()) {
+            double value = iterator.nextDouble();
+            if (value == 2.0) {
+                iterator.remove();
+            } else {
+                sum += value;
+            }
+        }
+
+        assertEquals(4.0, sum, 0.0);
+        assertArrayEquals(new double[]{1.0, 3.0}, list.toArray(), 0.0);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorThrows() {
+        list.iterator().nextDouble();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIteratorRemoveThrows() {
+        list.add(1);
+        list.iterator().remove();
+    }
+}
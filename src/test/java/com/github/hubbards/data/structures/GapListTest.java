@@ -0,0 +1,63 @@
+package com.github.hubbards.data.structures;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link GapList} implementation of
+ * {@link List}.
+ *
+ * @author Spencer Hubbard
+ */
+public class GapListTest extends ListTest {
+    @Override
+    protected GapList<Integer> createList() {
+        return new GapList<Integer>();
+    }
+
+    @Test
+    public void testRandomEdits() {
+        GapList<Integer> list = new GapList<Integer>();
+        java.util.List<Integer> expected = new java.util.ArrayList<Integer>();
+        Random random = new Random(0);
+        for (int i = 0; i < 20000; i++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                list.remove(index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                list.set(index, -i);
+                expected.set(index, -i);
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        assertEquals(expected.toString(), list.toString());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        GapList<Integer> list = new GapList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        list.removeIf(value -> value % 2 == 1);
+
+        assertEquals(500, list.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(Integer.valueOf(2 * i), list.get(i));
+        }
+    }
+}
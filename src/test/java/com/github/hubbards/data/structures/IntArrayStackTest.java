@@ -0,0 +1,79 @@
+package com.github.hubbards.data.structures;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.EmptyStackException;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for {@link IntArrayStack}.
+ *
+ * @author Spencer Hubbard
+ */
+public class IntArrayStackTest {
+    private IntArrayStack stack;
+
+    @Before
+    public void setUp() {
+        stack = new IntArrayStack(2);
+    }
+
+    @Test
+    public void testIsEmpty() {
+        assertTrue(stack.isEmpty());
+
+        stack.push(1);
+
+        assertFalse(stack.isEmpty());
+        assertEquals(1, stack.size());
+    }
+
+    @Test
+    public void testPushGrows() {
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+
+        assertEquals(100, stack.size());
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    public void testPeek() {
+        stack.push(1);
+        stack.push(2);
+
+        assertEquals(2, stack.peek());
+        assertEquals(2, stack.size());
+    }
+
+    @Test(expected = EmptyStackException.class)
+    public void testPopThrows() {
+        stack.push(1);
+        stack.pop();
+        stack.pop();
+    }
+
+    @Test(expected = EmptyStackException.class)
+    public void testPeekThrows() {
+        stack.peek();
+    }
+
+    @Test
+    public void testClear() {
+        stack.push(1);
+        stack.push(2);
+        stack.clear();
+
+        assertTrue(stack.isEmpty());
+
+        stack.push(3);
+
+        assertEquals("[3]", stack.toString());
+    }
+}
@@ -1,5 +1,13 @@
 package com.github.hubbards.data.structures;
 
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
 /**
  * This class is a simple test suite for the {@link LinkedList} implementation
  * of {@link List}.
@@ -12,5 +20,131 @@ public class LinkedListTest extends ListTest {
         return new LinkedList<Integer>();
     }
 
-    // TODO: write implementation specific tests
+    @Test
+    public void testRandomEdits() {
+        // edits near the last index looked up and far from it exercise the
+        // finger
+        LinkedList<Integer> list = new LinkedList<Integer>();
+        java.util.List<Integer> expected = new java.util.ArrayList<Integer>();
+        Random random = new Random(0);
+        int index = 0;
+        for (int i = 0; i < 20000; i++) {
+            index = random.nextBoolean()
+                    ? random.nextInt(expected.size() + 1)
+                    : Math.max(0, Math.min(expected.size(), index + random.nextInt(5) - 2));
+            int operation = random.nextInt(5);
+            if (operation < 2 || index == expected.size()) {
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                list.remove(index);
+                expected.remove(index);
+            } else if (operation == 3) {
+                list.set(index, -i);
+                expected.set(index, -i);
+            } else {
+                assertEquals(expected.get(index), list.get(index));
+            }
+            if (i % 1000 == 0) {
+                list.dequeue();
+                expected.remove(0);
+                list.push(i);
+                expected.add(0, i);
+            }
+        }
+
+        assertEquals(expected.toString(), list.toString());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void testIteratorRemoveKeepsFinger() {
+        LinkedList<Integer> list = new LinkedList<Integer>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.get(8);
+        Iterator<Integer> iterator = list.iterator();
+        for (int i = 0; i < 5; i++) {
+            iterator.next();
+            iterator.remove();
+        }
+
+        assertEquals(Integer.valueOf(8), list.get(3));
+        assertEquals(Integer.valueOf(5), list.get(0));
+    }
+
+    @Test
+    public void testCursor() {
+        LinkedList<Integer> list = new LinkedList<Integer>();
+        ListCursor<Integer> cursor = list.cursor();
+
+        assertFalse(cursor.hasElement());
+
+        cursor.insertBefore(1);
+        cursor.insertBefore(3);
+
+        assertEquals("[1, 3]", list.toString());
+        assertEquals(2, cursor.index());
+
+        cursor.move(-1);
+        cursor.insertBefore(2);
+        cursor.insertAfter(4);
+
+        assertEquals("[1, 2, 3, 4]", list.toString());
+        assertEquals(2, cursor.index());
+        assertEquals(Integer.valueOf(3), cursor.get());
+
+        cursor.remove();
+
+        assertEquals("[1, 2, 4]", list.toString());
+        assertEquals(Integer.valueOf(4), cursor.get());
+
+        cursor.set(5);
+        cursor.moveTo(0);
+        cursor.remove();
+
+        assertEquals("[2, 5]", list.toString());
+        assertEquals(Integer.valueOf(5), list.get(1));
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    public void testCursorSequentialEdits() {
+        LinkedList<Integer> list = new LinkedList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        // double every even element and remove every odd element
+        ListCursor<Integer> cursor = list.cursor(0);
+        while (cursor.hasElement()) {
+            if (cursor.get() % 2 == 0) {
+                cursor.insertAfter(cursor.get());
+                cursor.move(2);
+            } else {
+                cursor.remove();
+            }
+        }
+
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i / 2 * 2), list.get(i));
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testCursorRemoveThrows() {
+        LinkedList<Integer> list = new LinkedList<Integer>();
+        list.add(1);
+        list.cursor(1).remove();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCursorMoveThrows() {
+        LinkedList<Integer> list = new LinkedList<Integer>();
+        list.add(1);
+        list.cursor().move(2);
+    }
 }
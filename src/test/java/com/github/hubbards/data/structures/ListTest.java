@@ -95,4 +95,80 @@ public abstract class ListTest {
         list.remove(1);
         list.get(1);
     }
+
+    @Test
+    public void testAddAtEnd() {
+        list.add(0, 1);
+        list.add(1, 2);
+
+        assertEquals("[1, 2]", list.toString());
+    }
+
+    @Test
+    public void testAddAllAtIndex() {
+        for (int i = 0; i < 4; i++) {
+            list.add(i);
+        }
+        List<Integer> other = createList();
+        other.add(7);
+        other.add(8);
+        list.addAll(2, other);
+
+        assertEquals("[0, 1, 7, 8, 2, 3]", list.toString());
+
+        list.addAll(6, other);
+
+        assertEquals("[0, 1, 7, 8, 2, 3, 7, 8]", list.toString());
+    }
+
+    @Test
+    public void testAddAllItself() {
+        list.add(1);
+        list.add(2);
+        list.addAll(1, list);
+
+        assertEquals("[1, 1, 2, 2]", list.toString());
+
+        list.addAll(list);
+
+        assertEquals("[1, 1, 2, 2, 1, 1, 2, 2]", list.toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddAllThrows() {
+        list.addAll(1, createList());
+    }
+
+    @Test
+    public void testRemoveRange() {
+        for (int i = 0; i < 6; i++) {
+            list.add(i);
+        }
+        list.removeRange(1, 4);
+
+        assertEquals("[0, 4, 5]", list.toString());
+
+        list.removeRange(1, 1);
+        list.removeRange(0, 3);
+
+        assertTrue(list.isEmpty());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveRangeThrows() {
+        list.add(1);
+        list.removeRange(0, 2);
+    }
+
+    @Test
+    public void testRemoveIf() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        assertTrue(list.removeIf(value -> value % 3 != 0));
+        assertEquals("[0, 3, 6, 9]", list.toString());
+        assertFalse(list.removeIf(value -> value > 9));
+        assertEquals(4, list.size());
+    }
 }
@@ -0,0 +1,136 @@
+package com.github.hubbards.data.structures;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for {@link LongArrayList}.
+ *
+ * @author Spencer Hubbard
+ */
+public class LongArrayListTest {
+    private LongArrayList list;
+
+    @Before
+    public void setUp() {
+        list = new LongArrayList(2);
+    }
+
+    @Test
+    public void testIsEmpty() {
+        assertTrue(list.isEmpty());
+
+        list.add(1);
+
+        assertFalse(list.isEmpty());
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    public void testAddGrows() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, list.get(i));
+        }
+    }
+
+    @Test
+    public void testAddAtIndex() {
+        list.add(1);
+        list.add(3);
+        list.add(0, 0);
+        list.add(2, 2);
+        list.add(4, 4);
+
+        assertArrayEquals(new long[]{0L, 1L, 2L, 3L, 4L}, list.toArray());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddAtIndexThrows() {
+        list.add(1, 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetThrows() {
+        list.add(1);
+        list.get(1);
+    }
+
+    @Test
+    public void testSetAndIndexOf() {
+        list.addAll(new long[]{1L, 2L, 3L, 2L});
+        list.set(0, 5);
+
+        assertEquals(5, list.get(0));
+        assertEquals(1, list.indexOf(2));
+        assertEquals(-1, list.indexOf(1));
+        assertTrue(list.contains(3));
+        assertFalse(list.contains(4));
+    }
+
+    @Test
+    public void testRemove() {
+        list.addAll(new long[]{1L, 2L, 3L, 4L});
+        list.remove(0);
+        list.remove(1);
+        list.remove(1);
+
+        assertArrayEquals(new long[]{2L}, list.toArray());
+    }
+
+    @Test
+    public void testAddAll() {
+        list.addAll(new long[]{1L, 2L});
+        list.addAll(list);
+
+        assertArrayEquals(new long[]{1L, 2L, 1L, 2L}, list.toArray());
+        assertEquals("[1, 2, 1, 2]", list.toString());
+    }
+
+    @Test
+    public void testClear() {
+        list.addAll(new long[]{1L, 2L, 3L});
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.toArray().length);
+    }
+
+    @Test
+    public void testIterator() {
+        list.addAll(new long[]{1L, 2L, 3L});
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        long sum = 0;
+        while (iterator.hasNext()) {
+            long value = iterator.nextLong();
+            if (value == 2) {
+                iterator.remove();
+            } else {
+                sum += value;
+            }
+        }
+
+        assertEquals(4, sum);
+        assertArrayEquals(new long[]{1L, 3L}, list.toArray());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorThrows() {
+        list.iterator().nextLong();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIteratorRemoveThrows() {
+        list.add(1);
+        list.iterator().remove();
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.hubbards.data.structures;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.EmptyStackException;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for {@link LongArrayStack}.
+ *
+ * @author Spencer Hubbard
+ */
+public class LongArrayStackTest {
+    private LongArrayStack stack;
+
+    @Before
+    public void setUp() {
+        stack = new LongArrayStack(2);
+    }
+
+    @Test
+    public void testIsEmpty() {
+        assertTrue(stack.isEmpty());
+
+        stack.push(1L);
+
+        assertFalse(stack.isEmpty());
+        assertEquals(1, stack.size());
+    }
+
+    @Test
+    public void testPushGrows() {
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+
+        assertEquals(100, stack.size());
+        for (int i = 99; i >= 0; i--) {
+            assertEquals((long) i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    public void testPeek() {
+        stack.push(1L);
+        stack.push(2L);
+
+        assertEquals(2L, stack.peek());
+        assertEquals(2, stack.size());
+    }
+
+    @Test(expected = EmptyStackException.class)
+    public void testPopThrows() {
+        stack.push(1L);
+        stack.pop();
+        stack.pop();
+    }
+
+    @Test(expected = EmptyStackException.class)
+    public void testPeekThrows() {
+        stack.peek();
+    }
+
+    @Test
+    public void testClear() {
+        stack.push(1L);
+        stack.push(2L);
+        stack.clear();
+
+        assertTrue(stack.isEmpty());
+
+        stack.push(3L);
+
+        assertEquals("[3]", stack.toString());
+    }
+
+    @Test
+    public void testLargeValues() {
+        stack.push(Long.MAX_VALUE);
+        stack.push(Long.MIN_VALUE);
+
+        assertEquals(Long.MIN_VALUE, stack.pop());
+        assertEquals(Long.MAX_VALUE, stack.pop());
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.hubbards.data.structures;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link MpmcArrayQueue}
+ * implementation of {@link Queue}.
+ *
+ * @author Spencer Hubbard
+ */
+public class MpmcArrayQueueTest extends QueueTest {
+    @Override
+    protected MpmcArrayQueue<Integer> createQueue() {
+        return new MpmcArrayQueue<Integer>();
+    }
+
+    @Test
+    public void testCapacity() {
+        assertEquals(2, new MpmcArrayQueue<Integer>(1).capacity());
+        assertEquals(8, new MpmcArrayQueue<Integer>(5).capacity());
+    }
+
+    @Test
+    public void testFull() {
+        MpmcArrayQueue<Integer> queue = new MpmcArrayQueue<Integer>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+
+        assertFalse(queue.offer(4));
+        assertEquals(Integer.valueOf(0), queue.poll());
+        assertTrue(queue.offer(4));
+        assertEquals("[1, 2, 3, 4]", queue.toString());
+        assertEquals(Integer.valueOf(1), queue.peek());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEnqueueThrows() {
+        MpmcArrayQueue<Integer> queue = new MpmcArrayQueue<Integer>(2);
+        for (int i = 0; i < 3; i++) {
+            queue.enqueue(i);
+        }
+    }
+
+    @Test
+    public void testTimedOffer() throws InterruptedException {
+        MpmcArrayQueue<Integer> queue = new MpmcArrayQueue<Integer>(2);
+        queue.put(1);
+        queue.put(2);
+
+        assertFalse(queue.offer(3, 1, TimeUnit.MILLISECONDS));
+        assertNull(new MpmcArrayQueue<Integer>().poll(1, TimeUnit.MILLISECONDS));
+
+        queue.dequeue();
+
+        assertTrue(queue.offer(3, 1, TimeUnit.MILLISECONDS));
+        assertEquals(Integer.valueOf(2), queue.take());
+        assertEquals(Integer.valueOf(3), queue.poll(1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test(expected = InterruptedException.class)
+    public void testTakeInterrupted() throws InterruptedException {
+        Thread.currentThread().interrupt();
+        new MpmcArrayQueue<Integer>().take();
+    }
+
+    @Test
+    public void testDrainTo() {
+        MpmcArrayQueue<Integer> queue = new MpmcArrayQueue<Integer>(8);
+        // wrap around before draining
+        for (int i = 0; i < 6; i++) {
+            queue.enqueue(i);
+            queue.dequeue();
+        }
+        for (int i = 0; i < 7; i++) {
+            queue.enqueue(i);
+        }
+        ArrayList<Integer> list = new ArrayList<Integer>();
+
+        assertEquals(5, queue.drainTo(list, 5));
+        assertEquals("[0, 1, 2, 3, 4]", list.toString());
+        assertEquals(2, queue.drainTo(list, 5));
+        assertEquals(0, queue.drainTo(list, 5));
+        assertEquals(7, list.size());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(timeout = 60000)
+    public void testProducersConsumers() throws InterruptedException {
+        final MpmcArrayQueue<Integer> queue = new MpmcArrayQueue<Integer>(64);
+        final int producers = 4;
+        final int n = 25000;
+        final AtomicLong sum = new AtomicLong();
+        final AtomicLong count = new AtomicLong();
+        Thread[] threads = new Thread[2 * producers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                try {
+                    for (int i = 1; i <= n; i++) {
+                        queue.put(i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (int c = 0; c < producers; c++) {
+            final boolean batches = c % 2 == 0;
+            threads[producers + c] = new Thread(() -> {
+                ArrayList<Integer> batch = new ArrayList<Integer>();
+                while (count.get() < (long) producers * n) {
+                    if (batches) {
+                        batch.clear();
+                        queue.drainTo(batch, 16);
+                        for (Integer value : batch) {
+                            sum.addAndGet(value);
+                        }
+                        count.addAndGet(batch.size());
+                    } else {
+                        Integer value = queue.poll();
+                        if (value != null) {
+                            sum.addAndGet(value);
+                            count.incrementAndGet();
+                        }
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // every value was dequeued exactly once
+        assertEquals((long) producers * n, count.get());
+        assertEquals((long) producers * n * (n + 1) / 2, sum.get());
+        assertTrue(queue.isEmpty());
+    }
+}
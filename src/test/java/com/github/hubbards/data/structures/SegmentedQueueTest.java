@@ -0,0 +1,63 @@
+package com.github.hubbards.data.structures;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link SegmentedQueue}
+ * implementation of {@link Queue}.
+ *
+ * @author Spencer Hubbard
+ */
+public class SegmentedQueueTest extends QueueTest {
+    @Override
+    protected SegmentedQueue<Integer> createQueue() {
+        return new SegmentedQueue<Integer>();
+    }
+
+    @Test
+    public void testBursts() {
+        SegmentedQueue<Integer> queue = new SegmentedQueue<Integer>(4, 2);
+        for (int burst = 0; burst < 3; burst++) {
+            for (int i = 0; i < 30; i++) {
+                queue.enqueue(i);
+            }
+
+            assertEquals(30, queue.size());
+            assertEquals(Integer.valueOf(0), queue.peek());
+
+            for (int i = 0; i < 30; i++) {
+                assertEquals(Integer.valueOf(i), queue.dequeue());
+            }
+
+            assertTrue(queue.isEmpty());
+            // drained segments beyond the pool limit are released
+            assertEquals(2, queue.pooled());
+        }
+    }
+
+    @Test
+    public void testPoolReuse() {
+        SegmentedQueue<Integer> queue = new SegmentedQueue<Integer>(2);
+        for (int i = 0; i < 6; i++) {
+            queue.enqueue(i);
+        }
+        for (int i = 0; i < 4; i++) {
+            queue.dequeue();
+        }
+
+        assertEquals(2, queue.pooled());
+
+        queue.enqueue(6);
+        queue.enqueue(7);
+
+        assertEquals(1, queue.pooled());
+        assertEquals("[4, 5, 6, 7]", queue.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSegmentSizeThrows() {
+        new SegmentedQueue<Integer>(0);
+    }
+}
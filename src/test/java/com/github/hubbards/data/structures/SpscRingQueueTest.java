@@ -0,0 +1,93 @@
+package com.github.hubbards.data.structures;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link SpscRingQueue}
+ * implementation of {@link Queue}.
+ *
+ * @author Spencer Hubbard
+ */
+public class SpscRingQueueTest extends QueueTest {
+    @Override
+    protected SpscRingQueue<Integer> createQueue() {
+        return new SpscRingQueue<Integer>();
+    }
+
+    @Test
+    public void testCapacity() {
+        assertEquals(1, new SpscRingQueue<Integer>(1).capacity());
+        assertEquals(8, new SpscRingQueue<Integer>(5).capacity());
+        assertEquals(8, new SpscRingQueue<Integer>(8).capacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityThrows() {
+        new SpscRingQueue<Integer>(0);
+    }
+
+    @Test
+    public void testFull() {
+        SpscRingQueue<Integer> queue = new SpscRingQueue<Integer>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+
+        assertFalse(queue.offer(4));
+        assertEquals(4, queue.size());
+        assertEquals(Integer.valueOf(0), queue.poll());
+        assertTrue(queue.offer(4));
+        assertEquals("[1, 2, 3, 4]", queue.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEnqueueThrows() {
+        SpscRingQueue<Integer> queue = new SpscRingQueue<Integer>(1);
+        queue.enqueue(1);
+        queue.enqueue(2);
+    }
+
+    @Test
+    public void testPollEmpty() {
+        SpscRingQueue<Integer> queue = new SpscRingQueue<Integer>(2);
+
+        assertNull(queue.poll());
+
+        // wrap around several times
+        for (int i = 0; i < 10; i++) {
+            queue.enqueue(i);
+            assertEquals(Integer.valueOf(i), queue.peek());
+            assertEquals(Integer.valueOf(i), queue.dequeue());
+        }
+
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(timeout = 60000)
+    public void testProducerConsumer() throws InterruptedException {
+        final SpscRingQueue<Integer> queue = new SpscRingQueue<Integer>(64);
+        final int n = 100000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < n; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        // values arrive once and in order
+        for (int i = 0; i < n; i++) {
+            Integer value;
+            while ((value = queue.poll()) == null) {
+                Thread.yield();
+            }
+            assertEquals(i, value.intValue());
+        }
+        producer.join();
+
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.hubbards.data.structures;
+
+/**
+ * This class is a simple test suite for the {@link UnrolledLinkedList}
+ * implementation of {@link Queue}.
+ *
+ * @author Spencer Hubbard
+ */
+public class UnrolledLinkedListQueueTest extends QueueTest {
+    @Override
+    protected Queue<Integer> createQueue() {
+        return new UnrolledLinkedList<Integer>();
+    }
+
+    // TODO: write implementation specific tests
+}
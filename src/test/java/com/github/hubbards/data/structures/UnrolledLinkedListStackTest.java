@@ -0,0 +1,16 @@
+package com.github.hubbards.data.structures;
+
+/**
+ * This class is a simple test suite for the {@link UnrolledLinkedList}
+ * implementation of {@link Stack}.
+ *
+ * @author Spencer Hubbard
+ */
+public class UnrolledLinkedListStackTest extends StackTest {
+    @Override
+    protected Stack<Integer> createStack() {
+        return new UnrolledLinkedList<Integer>();
+    }
+
+    // TODO: write implementation specific tests
+}
@@ -0,0 +1,95 @@
+package com.github.hubbards.data.structures;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link UnrolledLinkedList}
+ * implementation of {@link List}.
+ *
+ * @author Spencer Hubbard
+ */
+public class UnrolledLinkedListTest extends ListTest {
+    @Override
+    protected UnrolledLinkedList<Integer> createList() {
+        return new UnrolledLinkedList<Integer>();
+    }
+
+    @Test
+    public void testRandomEdits() {
+        // small chunks exercise splitting and merging
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<Integer>(4);
+        java.util.List<Integer> expected = new java.util.ArrayList<Integer>();
+        Random random = new Random(0);
+        for (int i = 0; i < 20000; i++) {
+            int operation = random.nextInt(6);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                list.remove(index);
+                expected.remove(index);
+            } else if (operation == 3) {
+                list.push(i);
+                expected.add(0, i);
+            } else if (operation == 4) {
+                assertEquals(expected.remove(0), list.dequeue());
+            } else {
+                int index = random.nextInt(expected.size());
+                list.set(index, -i);
+                expected.set(index, -i);
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        assertEquals(expected.toString(), list.toString());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+            assertEquals(i, list.indexOf(expected.get(i)));
+        }
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<Integer>(4);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        list.removeIf(value -> value % 3 != 0);
+
+        assertEquals(334, list.size());
+        for (int i = 0; i < 334; i++) {
+            assertEquals(Integer.valueOf(3 * i), list.get(i));
+        }
+    }
+
+    @Test
+    public void testChunks() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<Integer>(8);
+
+        assertEquals(0, list.chunks());
+
+        for (int i = 0; i < 64; i++) {
+            list.enqueue(i);
+        }
+
+        assertEquals(8, list.chunks());
+
+        for (int i = 0; i < 64; i++) {
+            list.push(i);
+        }
+
+        // pushes fill chunks toward the front
+        assertEquals(16, list.chunks());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testChunkThrows() {
+        new UnrolledLinkedList<Integer>(1);
+    }
+}
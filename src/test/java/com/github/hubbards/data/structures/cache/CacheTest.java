@@ -0,0 +1,100 @@
+package com.github.hubbards.data.structures.cache;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for {@link Cache}.
+ *
+ * @author Spencer Hubbard
+ */
+public abstract class CacheTest {
+    protected abstract Cache<Integer, String> createCache(int capacity);
+
+    @Test
+    public void testGet() {
+        Cache<Integer, String> cache = createCache(100);
+        cache.put(1, "a");
+        cache.put(2, "b");
+
+        assertEquals("a", cache.get(1));
+        assertEquals("b", cache.get(2));
+        assertNull(cache.get(3));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testPutReplaces() {
+        Cache<Integer, String> cache = createCache(100);
+        cache.put(1, "a");
+        cache.put(1, "b");
+
+        assertEquals("b", cache.get(1));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testRemove() {
+        Cache<Integer, String> cache = createCache(100);
+        cache.put(1, "a");
+
+        assertEquals("a", cache.remove(1));
+        assertNull(cache.remove(1));
+        assertNull(cache.get(1));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testBounded() {
+        Cache<Integer, String> cache = createCache(100);
+        for (int i = 0; i < 10000; i++) {
+            cache.put(i, "v" + i);
+            assertTrue(cache.size() <= cache.capacity());
+        }
+
+        assertEquals(100, cache.capacity());
+        assertEquals(10000 - cache.size(), cache.evictions());
+    }
+
+    @Test
+    public void testHitRate() {
+        Cache<Integer, String> cache = createCache(100);
+        assertEquals(0.0, cache.hitRate(), 0.0);
+        cache.put(1, "a");
+        cache.get(1);
+        cache.get(1);
+        cache.get(1);
+        cache.get(2);
+
+        assertEquals(3, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(0.75, cache.hitRate(), 1e-9);
+    }
+
+    @Test
+    public void testWorkingSet() {
+        // a working set smaller than the cache stays in the cache
+        Cache<Integer, String> cache = createCache(100);
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                if (cache.get(i) == null) {
+                    cache.put(i, "v" + i);
+                }
+            }
+        }
+
+        assertEquals(450, cache.hits());
+        assertEquals(50, cache.misses());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testPutNullThrows() {
+        createCache(10).put(1, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorThrows() {
+        createCache(0);
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.hubbards.data.structures.cache;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link ConcurrentCache}
+ * implementation of {@link Cache}.
+ *
+ * @author Spencer Hubbard
+ */
+public class ConcurrentCacheTest extends CacheTest {
+    @Override
+    protected ConcurrentCache<Integer, String> createCache(int capacity) {
+        return new ConcurrentCache<Integer, String>(capacity, 1, LruCache::new);
+    }
+
+    @Test
+    public void testSegments() {
+        ConcurrentCache<Integer, String> cache = new ConcurrentCache<Integer, String>(100, 8, TinyLfuCache::new);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, "v" + i);
+        }
+
+        assertEquals(100, cache.capacity());
+        assertTrue(cache.size() <= 100);
+    }
+
+    @Test
+    public void testThreads() throws InterruptedException {
+        final ConcurrentCache<Integer, String> cache = new ConcurrentCache<Integer, String>(1000, LruCache::new);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t * 10000;
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 10000; i++) {
+                        int key = offset + i % 500;
+                        if (cache.get(key) == null) {
+                            cache.put(key, "v" + key);
+                        }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40000, cache.hits() + cache.misses());
+        assertTrue(cache.size() <= cache.capacity());
+        assertTrue(cache.hitRate() > 0.5);
+    }
+}
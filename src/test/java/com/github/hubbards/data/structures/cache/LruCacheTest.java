@@ -0,0 +1,33 @@
+package com.github.hubbards.data.structures.cache;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link LruCache} implementation
+ * of {@link Cache}.
+ *
+ * @author Spencer Hubbard
+ */
+public class LruCacheTest extends CacheTest {
+    @Override
+    protected LruCache<Integer, String> createCache(int capacity) {
+        return new LruCache<Integer, String>(capacity);
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        LruCache<Integer, String> cache = new LruCache<Integer, String>(3);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        cache.get(1);
+        cache.put(4, "d");
+
+        assertNull(cache.get(2));
+        assertEquals("a", cache.get(1));
+        assertEquals("[1=a, 4=d, 3=c]", cache.toString());
+        assertEquals(1, cache.evictions());
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.hubbards.data.structures.cache;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link TinyLfuCache}
+ * implementation of {@link Cache}.
+ *
+ * @author Spencer Hubbard
+ */
+public class TinyLfuCacheTest extends CacheTest {
+    @Override
+    protected TinyLfuCache<Integer, String> createCache(int capacity) {
+        return new TinyLfuCache<Integer, String>(capacity);
+    }
+
+    @Test
+    public void testScanResistance() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<Integer, String>(100);
+        // make fifty keys popular
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                if (cache.get(i) == null) {
+                    cache.put(i, "v" + i);
+                }
+            }
+        }
+        // scan many keys once
+        for (int i = 1000; i < 11000; i++) {
+            if (cache.get(i) == null) {
+                cache.put(i, "v" + i);
+            }
+        }
+
+        int retained = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.get(i) != null) {
+                retained++;
+            }
+        }
+        assertTrue(retained >= 45);
+    }
+
+    @Test
+    public void testSmallCapacity() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<Integer, String>(1);
+        cache.put(1, "a");
+        cache.put(2, "b");
+
+        assertEquals(1, cache.size());
+        assertEquals("b", cache.get(2));
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link BloomFilter}
+ * implementation of {@link Filter}.
+ *
+ * @author Spencer Hubbard
+ */
+public class BloomFilterTest extends FilterTest {
+    @Override
+    protected BloomFilter<Integer> createFilter(int n) {
+        return new BloomFilter<Integer>(n);
+    }
+
+    @Test
+    public void testSizing() {
+        BloomFilter<Integer> filter = new BloomFilter<Integer>(1000, 0.01);
+
+        // about 9.6 bits and 7 hash functions per value
+        assertTrue(filter.bits() >= 9585 && filter.bits() < 10000);
+        assertEquals(7, filter.hashes());
+        assertFalse(filter.supportsRemove());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRemoveThrows() {
+        BloomFilter<Integer> filter = new BloomFilter<Integer>(10);
+        filter.add(1);
+        filter.remove(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRateThrows() {
+        new BloomFilter<Integer>(10, 1.0);
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link ConcurrentHashTable}
+ * implementation of {@link HashTable}.
+ *
+ * @author Spencer Hubbard
+ */
+public class ConcurrentHashTableTest extends HashTableTest {
+    // number of threads for concurrent tests
+    private static final int THREADS = 4;
+
+    @Override
+    protected ConcurrentHashTable<String> createHashTable() {
+        return new ConcurrentHashTable<String>();
+    }
+
+    @Test
+    public void testOverloadedStopsAtMaxCapacity() {
+        assertFalse(ConcurrentHashTable.overloaded(16, 12));
+        assertTrue(ConcurrentHashTable.overloaded(16, 13));
+        // 3 * length overflows an int at this size
+        assertTrue(ConcurrentHashTable.overloaded(1 << 29, 1L << 30));
+        assertFalse(ConcurrentHashTable.overloaded(ConcurrentHashTable.MAX_CAPACITY, 1L << 32));
+    }
+
+    @Test
+    public void testConcurrentInsert() throws InterruptedException {
+        final ConcurrentHashTable<Integer> table = new ConcurrentHashTable<Integer>();
+        final int perThread = 20000;
+        // threads insert disjoint ranges, with many resizes along the way
+        run(new Task() {
+            @Override
+            public void run(int thread) {
+                for (int i = 0; i < perThread; i++) {
+                    table.insert(thread * perThread + i);
+                }
+            }
+        });
+
+        assertEquals(THREADS * perThread, table.size());
+        for (int i = 0; i < THREADS * perThread; i++) {
+            assertTrue(table.contains(i));
+        }
+    }
+
+    @Test
+    public void testConcurrentInsertRemove() throws InterruptedException {
+        final ConcurrentHashTable<Integer> table = new ConcurrentHashTable<Integer>();
+        final int perThread = 20000;
+        // even values stay, odd values are inserted and removed again
+        run(new Task() {
+            @Override
+            public void run(int thread) {
+                for (int i = 0; i < perThread; i++) {
+                    int value = 2 * (thread * perThread + i);
+                    table.insert(value);
+                    table.insert(value + 1);
+                    table.remove(value + 1);
+                }
+            }
+        });
+
+        assertEquals(THREADS * perThread, table.size());
+        for (int i = 0; i < THREADS * perThread; i++) {
+            assertTrue(table.contains(2 * i));
+            assertFalse(table.contains(2 * i + 1));
+        }
+    }
+
+    @Test
+    public void testReadersDuringResize() throws InterruptedException {
+        final ConcurrentHashTable<Integer> table = new ConcurrentHashTable<Integer>();
+        final int present = 1000;
+        for (int i = 0; i < present; i++) {
+            table.insert(-i - 1);
+        }
+        final AtomicBoolean missing = new AtomicBoolean(false);
+        // one writer grows the table while readers check the present values
+        run(new Task() {
+            @Override
+            public void run(int thread) {
+                if (thread == 0) {
+                    for (int i = 0; i < 100000; i++) {
+                        table.insert(i);
+                    }
+                } else {
+                    for (int k = 0; k < 50; k++) {
+                        for (int i = 0; i < present; i++) {
+                            if (!table.contains(-i - 1)) {
+                                missing.set(true);
+                            }
+                        }
+                    }
+                }
+            }
+        });
+
+        assertFalse(missing.get());
+        assertEquals(100000 + present, table.size());
+    }
+
+    /*
+     * Runs a given task on several threads and waits for them to finish.
+     */
+    private static void run(final Task task) throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Throwable> errors = new ArrayList<Throwable>();
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            threads.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        task.run(thread);
+                    } catch (Throwable e) {
+                        synchronized (errors) {
+                            errors.add(e);
+                        }
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(errors.toString(), errors.isEmpty());
+    }
+
+    /*
+     * This interface represents a task run by each thread of a concurrent test.
+     */
+    private interface Task {
+        void run(int thread);
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link CuckooFilter}
+ * implementation of {@link Filter}.
+ *
+ * @author Spencer Hubbard
+ */
+public class CuckooFilterTest extends FilterTest {
+    @Override
+    protected CuckooFilter<Integer> createFilter(int n) {
+        return new CuckooFilter<Integer>(n);
+    }
+
+    @Test
+    public void testRemove() {
+        CuckooFilter<Integer> filter = new CuckooFilter<Integer>(1000);
+        for (int i = 0; i < 1000; i++) {
+            filter.add(i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertTrue(filter.remove(i));
+        }
+
+        assertEquals(500, filter.size());
+        assertTrue(filter.supportsRemove());
+        for (int i = 1; i < 1000; i += 2) {
+            assertTrue(filter.mightContain(i));
+        }
+        int positives = 0;
+        for (int i = 0; i < 1000; i += 2) {
+            if (filter.mightContain(i)) {
+                positives++;
+            }
+        }
+        assertTrue(positives < 10);
+    }
+
+    @Test
+    public void testFull() {
+        CuckooFilter<Integer> filter = new CuckooFilter<Integer>(100);
+        int added = 0;
+        while (filter.add(added)) {
+            added++;
+        }
+
+        // no value is lost when the filter fills up
+        assertEquals(added, filter.size());
+        assertTrue(added >= 100);
+        for (int i = 0; i < added; i++) {
+            assertTrue(filter.mightContain(i));
+        }
+
+        // removing values makes room again
+        for (int i = 0; i < added; i += 2) {
+            assertTrue(filter.remove(i));
+        }
+        assertTrue(filter.add(0));
+        for (int i = 1; i < added; i += 2) {
+            assertTrue(filter.mightContain(i));
+        }
+    }
+}
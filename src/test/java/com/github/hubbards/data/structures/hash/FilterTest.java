@@ -0,0 +1,60 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for {@link Filter}.
+ *
+ * @author Spencer Hubbard
+ */
+public abstract class FilterTest {
+    protected abstract Filter<Integer> createFilter(int n);
+
+    @Test
+    public void testEmpty() {
+        Filter<Integer> filter = createFilter(100);
+
+        assertEquals(0, filter.size());
+        assertFalse(filter.mightContain(1));
+        assertEquals(0.0, filter.expectedFalsePositiveRate(), 0.0);
+    }
+
+    @Test
+    public void testNoFalseNegatives() {
+        Filter<Integer> filter = createFilter(10000);
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(filter.add(i * 7919));
+        }
+
+        assertEquals(10000, filter.size());
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(filter.mightContain(i * 7919));
+        }
+    }
+
+    @Test
+    public void testFalsePositiveRate() {
+        Filter<Integer> filter = createFilter(10000);
+        for (int i = 0; i < 10000; i++) {
+            filter.add(i);
+        }
+        int positives = 0;
+        for (int i = 10000; i < 110000; i++) {
+            if (filter.mightContain(i)) {
+                positives++;
+            }
+        }
+        double rate = positives / 100000.0;
+
+        assertTrue(rate < 0.02);
+        assertTrue(rate < 2 * filter.expectedFalsePositiveRate() + 0.001);
+        assertTrue(filter.bits() < 32L * 10000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorThrows() {
+        createFilter(0);
+    }
+}
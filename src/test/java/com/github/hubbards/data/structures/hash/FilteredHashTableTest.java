@@ -0,0 +1,52 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link FilteredHashTable}
+ * implementation of {@link HashTable} with a {@link CuckooFilter}.
+ *
+ * @author Spencer Hubbard
+ */
+public class FilteredHashTableTest extends HashTableTest {
+    @Override
+    protected FilteredHashTable<String> createHashTable() {
+        return new FilteredHashTable<String>(new LinearProbingHashTable<String>(), new CuckooFilter<String>(1000));
+    }
+
+    @Test
+    public void testBloomFilter() {
+        FilteredHashTable<Integer> table = new FilteredHashTable<Integer>(new LinearProbingHashTable<Integer>(), new BloomFilter<Integer>(100));
+        for (int i = 0; i < 100; i++) {
+            table.insert(i);
+        }
+        table.remove(5);
+
+        assertEquals(99, table.size());
+        assertFalse(table.contains(5));
+        assertTrue(table.contains(6));
+        assertFalse(table.contains(1000));
+    }
+
+    @Test
+    public void testFullFilter() {
+        FilteredHashTable<Integer> table = new FilteredHashTable<Integer>(new SeparateChainingHashTable<Integer>(), new CuckooFilter<Integer>(8));
+        for (int i = 0; i < 1000; i++) {
+            table.insert(i);
+        }
+
+        assertFalse(table.isFiltering());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(table.contains(i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorThrows() {
+        LinearProbingHashTable<Integer> table = new LinearProbingHashTable<Integer>();
+        table.insert(1);
+        new FilteredHashTable<Integer>(table, new BloomFilter<Integer>(10));
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for {@link HashMap}.
+ *
+ * @author Spencer Hubbard
+ */
+public abstract class HashMapTest {
+    private HashMap<String, Integer> map;
+
+    protected abstract HashMap<String, Integer> createHashMap();
+
+    @Before
+    public void setUp() {
+        map = createHashMap();
+    }
+
+    @Test
+    public void testIsEmpty() {
+        assertTrue(map.isEmpty());
+        map.put("a", 1);
+        assertFalse(map.isEmpty());
+        map.remove("a");
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testPut() {
+        assertNull(map.put("a", 1));
+        assertNull(map.put("b", 2));
+        assertEquals(1, (int) map.put("a", 3));
+
+        assertEquals(2, map.size());
+        assertEquals(3, (int) map.get("a"));
+        assertEquals(2, (int) map.get("b"));
+    }
+
+    @Test
+    public void testGet() {
+        map.put("a", 1);
+
+        assertEquals(1, (int) map.get("a"));
+        assertNull(map.get("b"));
+        assertTrue(map.containsKey("a"));
+        assertFalse(map.containsKey("b"));
+    }
+
+    @Test
+    public void testRemove() {
+        map.put("a", 1);
+        map.put("b", 2);
+
+        assertEquals(1, (int) map.remove("a"));
+        assertNull(map.remove("a"));
+        assertEquals(1, map.size());
+        assertNull(map.get("a"));
+        assertEquals(2, (int) map.get("b"));
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        map.put("a", 1);
+
+        assertEquals(1, (int) map.computeIfAbsent("a", k -> 5));
+        assertEquals(3, (int) map.computeIfAbsent("abc", String::length));
+        assertNull(map.computeIfAbsent("b", k -> null));
+
+        assertEquals(2, map.size());
+        assertEquals(3, (int) map.get("abc"));
+        assertFalse(map.containsKey("b"));
+    }
+
+    @Test
+    public void testRehash() {
+        for (int i = 0; i < 1000; i++) {
+            map.put("k" + i, i);
+        }
+
+        assertEquals(1000, map.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) map.get("k" + i));
+        }
+    }
+
+    @Test
+    public void testChurn() {
+        // keep a sliding window of ten keys in the map
+        for (int i = 0; i < 10000; i++) {
+            map.put("k" + i, i);
+            if (i >= 10) {
+                assertEquals(i - 10, (int) map.remove("k" + (i - 10)));
+            }
+        }
+
+        assertEquals(10, map.size());
+        assertEquals(9999, (int) map.get("k9999"));
+        assertNull(map.get("k0"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testPutNullValue() {
+        map.put("a", null);
+    }
+}
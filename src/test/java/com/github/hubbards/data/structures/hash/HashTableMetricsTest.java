@@ -0,0 +1,49 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for {@link HashTableMetrics}.
+ *
+ * @author Spencer Hubbard
+ */
+public class HashTableMetricsTest {
+    @Test
+    public void testProbed() {
+        HashTableMetrics metrics = new HashTableMetrics();
+        metrics.probed(0);
+        metrics.probed(2);
+        metrics.probed(1000);
+
+        assertEquals(3, metrics.samples());
+        assertEquals(1, metrics.probeLengthHistogram()[0]);
+        assertEquals(1, metrics.probeLengthHistogram()[2]);
+        assertEquals(1, metrics.probeLengthHistogram()[HashTableMetrics.BINS - 1]);
+        assertEquals((2.0 + HashTableMetrics.BINS - 1) / 3, metrics.averageProbeLength(), 1e-9);
+    }
+
+    @Test
+    public void testResized() {
+        HashTableMetrics metrics = new HashTableMetrics();
+        metrics.resized(11, 23, 100);
+        metrics.resized(23, 47, 300);
+
+        assertEquals(2, metrics.resizes());
+        assertEquals(400, metrics.resizeNanos());
+        assertEquals(300, metrics.maxResizeNanos());
+    }
+
+    @Test
+    public void testReset() {
+        HashTableMetrics metrics = new HashTableMetrics();
+        metrics.probed(1);
+        metrics.resized(11, 23, 100);
+        metrics.reset();
+
+        assertEquals(0, metrics.samples());
+        assertEquals(0, metrics.resizes());
+        assertEquals(0.0, metrics.averageProbeLength(), 0.0);
+    }
+}
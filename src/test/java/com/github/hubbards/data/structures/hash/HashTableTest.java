@@ -3,6 +3,8 @@ package com.github.hubbards.data.structures.hash;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.BitSet;
+
 import static org.junit.Assert.*;
 
 /**
@@ -105,4 +107,103 @@ public abstract class HashTableTest {
 
         assertTrue(hashTable.contains("b"));
     }
+
+    @Test
+    public void testRehash() {
+        for (int i = 0; i < 1000; i++) {
+            hashTable.insert("v" + i);
+        }
+
+        assertEquals(1000, hashTable.size());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(hashTable.contains("v" + i));
+        }
+        assertFalse(hashTable.contains("v1000"));
+    }
+
+    @Test
+    public void testChurn() {
+        // keep a sliding window of ten values in the table
+        for (int i = 0; i < 10000; i++) {
+            hashTable.insert("v" + i);
+            if (i >= 10) {
+                hashTable.remove("v" + (i - 10));
+            }
+        }
+
+        assertEquals(10, hashTable.size());
+        assertTrue(hashTable.contains("v9999"));
+        assertFalse(hashTable.contains("v0"));
+    }
+
+    @Test
+    public void testInsertAfterRemove() {
+        hashTable.insert("a");
+        hashTable.insert("b");
+        hashTable.remove("a");
+        hashTable.insert("b");
+
+        assertEquals(1, hashTable.size());
+    }
+
+    @Test
+    public void testInsertAllDuplicatesInBatch() {
+        // duplicates share a first bucket that was empty when it was loaded
+        String[] values = {"x", "y", "x", "x", "y"};
+        hashTable.insertAll(values);
+
+        assertEquals(2, hashTable.size());
+        assertTrue(hashTable.contains("x"));
+        assertTrue(hashTable.contains("y"));
+    }
+
+    @Test
+    public void testInsertAll() {
+        String[] values = new String[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = "v" + (i % 500);
+        }
+        hashTable.insert("a");
+        hashTable.insertAll(values);
+
+        assertEquals(501, hashTable.size());
+        assertTrue(hashTable.contains("a"));
+        for (int i = 0; i < 500; i++) {
+            assertTrue(hashTable.contains("v" + i));
+        }
+    }
+
+    @Test
+    public void testContainsAll() {
+        for (int i = 0; i < 100; i += 2) {
+            hashTable.insert("v" + i);
+        }
+        String[] values = new String[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = "v" + i;
+        }
+        BitSet result = hashTable.containsAll(values);
+
+        assertEquals(50, result.cardinality());
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(i % 2 == 0, result.get(i));
+        }
+    }
+
+    @Test
+    public void testRemoveAll() {
+        for (int i = 0; i < 100; i++) {
+            hashTable.insert("v" + i);
+        }
+        String[] values = new String[60];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = "v" + (2 * i);
+        }
+        hashTable.removeAll(values);
+
+        assertEquals(50, hashTable.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, hashTable.contains("v" + i));
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link LinearProbingHashTable}
+ * implementation of {@link HashTable} with {@link Rehashing#INCREMENTAL}.
+ *
+ * @author Spencer Hubbard
+ */
+public class IncrementalLinearProbingHashTableTest extends HashTableTest {
+    @Override
+    protected LinearProbingHashTable<String> createHashTable() {
+        return new LinearProbingHashTable<String>(LinearProbingHashTable.DEFAULT_PRIME, Sizing.PRIME, Rehashing.INCREMENTAL);
+    }
+
+    @Test
+    public void testOperationsDuringRehash() {
+        LinearProbingHashTable<Integer> table = new LinearProbingHashTable<Integer>(100, Sizing.POWER_OF_TWO, Rehashing.INCREMENTAL);
+        int n = 0;
+        while (!table.isRehashing()) {
+            table.insert(n);
+            n++;
+        }
+        // old and new buckets both hold values
+        for (int i = 0; i < n; i++) {
+            assertTrue(table.contains(i));
+        }
+        table.remove(0);
+        table.insert(1);
+        table.insert(n);
+
+        assertEquals(n, table.size());
+        assertFalse(table.contains(0));
+        assertTrue(table.contains(n));
+        assertTrue(table.toString().startsWith("["));
+
+        // operations finish the rehash
+        for (int i = 0; i < 1000 && table.isRehashing(); i++) {
+            table.contains(i);
+        }
+
+        assertFalse(table.isRehashing());
+        assertEquals(n, table.size());
+        for (int i = 1; i <= n; i++) {
+            assertTrue(table.contains(i));
+        }
+    }
+
+    @Test
+    public void testTombstones() {
+        LinearProbingHashTable<Integer> table = new LinearProbingHashTable<Integer>(11, Sizing.PRIME, Rehashing.INCREMENTAL);
+        for (int i = 0; i < 8; i++) {
+            table.insert(i);
+        }
+        table.remove(1);
+        table.remove(2);
+        // start rehash into 23 buckets
+        table.insert(8);
+
+        assertTrue(table.isRehashing());
+        assertEquals(2, table.tombstones());
+
+        // old buckets 1 and 2 are discarded and 7 is removed from old bucket 7
+        table.remove(7);
+
+        assertEquals(1, table.tombstones());
+
+        while (table.isRehashing()) {
+            table.contains(0);
+        }
+
+        assertEquals(0, table.tombstones());
+
+        table.remove(3);
+
+        assertEquals(1, table.tombstones());
+        assertEquals(5.0 / 23, table.loadFactor(), 1e-9);
+        assertEquals(6.0 / 23, table.occupancy(), 1e-9);
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link SeparateChainingHashTable}
+ * implementation of {@link HashTable} with {@link Rehashing#INCREMENTAL}.
+ *
+ * @author Spencer Hubbard
+ */
+public class IncrementalSeparateChainingHashTableTest extends HashTableTest {
+    @Override
+    protected SeparateChainingHashTable<String> createHashTable() {
+        return new SeparateChainingHashTable<String>(SeparateChainingHashTable.DEFAULT_PRIME, Sizing.PRIME, Rehashing.INCREMENTAL);
+    }
+
+    @Test
+    public void testOperationsDuringRehash() {
+        SeparateChainingHashTable<Integer> table = new SeparateChainingHashTable<Integer>(100, Sizing.POWER_OF_TWO, Rehashing.INCREMENTAL);
+        int n = 0;
+        while (!table.isRehashing()) {
+            table.insert(n);
+            n++;
+        }
+        // old and new buckets both hold values
+        for (int i = 0; i < n; i++) {
+            assertTrue(table.contains(i));
+        }
+        table.remove(0);
+        table.insert(1);
+        table.insert(n);
+
+        assertEquals(n, table.size());
+        assertFalse(table.contains(0));
+        assertTrue(table.contains(n));
+        assertTrue(table.toString().startsWith("["));
+
+        // operations finish the rehash
+        for (int i = 0; i < 1000 && table.isRehashing(); i++) {
+            table.contains(i);
+        }
+
+        assertFalse(table.isRehashing());
+        assertEquals(n, table.size());
+        for (int i = 1; i <= n; i++) {
+            assertTrue(table.contains(i));
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.BitSet;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for {@link IntHashTable}.
+ *
+ * @author Spencer Hubbard
+ */
+public class IntHashTableTest {
+    private IntHashTable hashTable;
+
+    @Before
+    public void setUp() {
+        hashTable = new IntHashTable();
+    }
+
+    @Test
+    public void testIsEmpty1() {
+        assertTrue(hashTable.isEmpty());
+    }
+
+    @Test
+    public void testIsEmpty2() {
+        hashTable.insert(1);
+        hashTable.remove(1);
+
+        assertTrue(hashTable.isEmpty());
+    }
+
+    @Test
+    public void testSize1() {
+        hashTable.insert(1);
+        hashTable.insert(2);
+        hashTable.insert(1);
+
+        assertEquals(2, hashTable.size());
+    }
+
+    @Test
+    public void testSize2() {
+        hashTable.insert(1);
+        hashTable.insert(2);
+        hashTable.remove(1);
+        hashTable.remove(3);
+
+        assertEquals(1, hashTable.size());
+    }
+
+    @Test
+    public void testContains1() {
+        hashTable.insert(-5);
+
+        assertTrue(hashTable.contains(-5));
+        assertFalse(hashTable.contains(5));
+    }
+
+    @Test
+    public void testContains2() {
+        hashTable.insert(Integer.valueOf(7));
+
+        assertTrue(hashTable.contains(7));
+        assertTrue(hashTable.contains(Integer.valueOf(7)));
+    }
+
+    @Test
+    public void testContainsSentinels() {
+        assertFalse(hashTable.contains(0));
+        assertFalse(hashTable.contains(Integer.MIN_VALUE));
+
+        hashTable.insert(0);
+        hashTable.insert(Integer.MIN_VALUE);
+
+        assertTrue(hashTable.contains(0));
+        assertTrue(hashTable.contains(Integer.MIN_VALUE));
+        assertEquals(2, hashTable.size());
+
+        hashTable.remove(0);
+        hashTable.remove(Integer.MIN_VALUE);
+
+        assertFalse(hashTable.contains(0));
+        assertFalse(hashTable.contains(Integer.MIN_VALUE));
+        assertTrue(hashTable.isEmpty());
+    }
+
+    @Test
+    public void testCollisions() {
+        // values that collide in a table with the default number of buckets
+        for (int i = 1; i <= 5; i++) {
+            hashTable.insert(i * IntHashTable.DEFAULT_PRIME);
+        }
+        hashTable.remove(2 * IntHashTable.DEFAULT_PRIME);
+
+        assertTrue(hashTable.contains(5 * IntHashTable.DEFAULT_PRIME));
+        assertFalse(hashTable.contains(2 * IntHashTable.DEFAULT_PRIME));
+
+        // insert must not duplicate a value behind a removed bucket
+        hashTable.insert(5 * IntHashTable.DEFAULT_PRIME);
+
+        assertEquals(4, hashTable.size());
+    }
+
+    @Test
+    public void testRehash() {
+        for (int i = -1000; i < 1000; i++) {
+            hashTable.insert(i);
+        }
+        assertEquals(2000, hashTable.size());
+        for (int i = -1000; i < 1000; i++) {
+            assertTrue(hashTable.contains(i));
+        }
+        assertFalse(hashTable.contains(1000));
+    }
+
+    @Test
+    public void testChurn() {
+        // removed buckets must be reclaimed so that misses terminate
+        for (int i = 1; i <= 100000; i++) {
+            hashTable.insert(i);
+            hashTable.remove(i);
+        }
+        assertTrue(hashTable.isEmpty());
+        assertFalse(hashTable.contains(100001));
+    }
+
+    @Test
+    public void testToString() {
+        hashTable.insert(0);
+        hashTable.insert(3);
+
+        assertEquals("[0, 3]", hashTable.toString());
+    }
+
+    @Test
+    public void testInsertAllDuplicatesInBatch() {
+        // duplicates share a first bucket that was empty when it was loaded
+        int[] values = {7, 7, 7};
+        hashTable.insertAll(values);
+
+        assertEquals(1, hashTable.size());
+        assertTrue(hashTable.contains(7));
+    }
+
+    @Test
+    public void testInsertAll() {
+        int[] values = new int[20000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 10000;
+        }
+        values[1] = Integer.MIN_VALUE;
+        hashTable.insert(-1);
+        hashTable.insertAll(values);
+
+        assertEquals(10002, hashTable.size());
+        assertTrue(hashTable.contains(-1));
+        assertTrue(hashTable.contains(0));
+        assertTrue(hashTable.contains(Integer.MIN_VALUE));
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(hashTable.contains(i));
+        }
+    }
+
+    @Test
+    public void testContainsAll() {
+        for (int i = 0; i < 1000; i += 2) {
+            hashTable.insert(i);
+        }
+        int[] values = new int[1001];
+        for (int i = 0; i < 1000; i++) {
+            values[i] = i;
+        }
+        values[1000] = Integer.MIN_VALUE;
+        BitSet result = hashTable.containsAll(values);
+
+        assertEquals(500, result.cardinality());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 0, result.get(i));
+        }
+        assertFalse(result.get(1000));
+    }
+
+    @Test
+    public void testRemoveAll() {
+        for (int i = 0; i < 1000; i++) {
+            hashTable.insert(i);
+        }
+        int[] values = new int[600];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 2 * i;
+        }
+        hashTable.removeAll(values);
+
+        assertEquals(500, hashTable.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 1, hashTable.contains(i));
+        }
+    }
+
+    @Test
+    public void testOverloadedLargeTable() {
+        // 3 * length and 4 * used overflow an int at this size
+        int length = 1000000007;
+
+        assertFalse(IntHashTable.overloaded(700000000, length));
+        assertTrue(IntHashTable.overloaded(760000000, length));
+        assertTrue(IntHashTable.overloaded(length - 1, length));
+    }
+
+    @Test
+    public void testGrowIsCapped() {
+        assertEquals(22, IntHashTable.grow(11));
+        assertEquals(IntHashTable.MAX_CAPACITY, IntHashTable.grow(1 << 29));
+        assertEquals(IntHashTable.MAX_CAPACITY, IntHashTable.grow(1073741827));
+    }
+}
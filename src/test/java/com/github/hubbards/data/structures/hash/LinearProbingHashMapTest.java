@@ -0,0 +1,55 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link LinearProbingHashMap}
+ * implementation of {@link HashMap}.
+ *
+ * @author Spencer Hubbard
+ */
+public class LinearProbingHashMapTest extends HashMapTest {
+    @Override
+    protected LinearProbingHashMap<String, Integer> createHashMap() {
+        return new LinearProbingHashMap<String, Integer>();
+    }
+
+    @Test
+    public void testPowerOfTwo() {
+        LinearProbingHashMap<Integer, Integer> map = new LinearProbingHashMap<Integer, Integer>(Sizing.POWER_OF_TWO);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i * 1024, i);
+        }
+
+        assertEquals(1000, map.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) map.get(i * 1024));
+        }
+    }
+
+    @Test
+    public void testToString() {
+        LinearProbingHashMap<Integer, String> map = new LinearProbingHashMap<Integer, String>();
+        map.put(1, "a");
+        map.put(2, "b");
+
+        assertEquals("{1=a, 2=b}", map.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorThrows() {
+        new LinearProbingHashMap<String, Integer>(1);
+    }
+
+    @Test
+    public void testOverloadedLargeMap() {
+        // 3 * length and 4 * used overflow an int at this size
+        int length = 1 << 30;
+
+        assertFalse(LinearProbingHashMap.overloaded(length / 4 * 3 - 1, length));
+        assertTrue(LinearProbingHashMap.overloaded(length / 4 * 3, length));
+        assertTrue(LinearProbingHashMap.overloaded(length - 1, length));
+    }
+}
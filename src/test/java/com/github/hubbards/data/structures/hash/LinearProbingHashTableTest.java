@@ -1,5 +1,9 @@
 package com.github.hubbards.data.structures.hash;
 
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
 /**
  * This class is a simple test suite for the {@link LinearProbingHashTable}
  * implementation {@link HashTable}.
@@ -12,5 +16,68 @@ public class LinearProbingHashTableTest extends HashTableTest {
         return new LinearProbingHashTable<String>();
     }
 
-    // TODO: write implementation specific tests
+    @Test
+    public void testTombstones() {
+        LinearProbingHashTable<Integer> table = new LinearProbingHashTable<Integer>(100);
+        for (int i = 0; i < 10; i++) {
+            table.insert(i);
+        }
+        table.remove(3);
+        table.remove(4);
+
+        assertEquals(2, table.tombstones());
+        assertEquals(8.0 / 101, table.loadFactor(), 1e-9);
+        assertEquals(10.0 / 101, table.occupancy(), 1e-9);
+
+        // reinserting reuses a removed bucket
+        table.insert(3);
+
+        assertEquals(1, table.tombstones());
+        assertEquals(10.0 / 101, table.occupancy(), 1e-9);
+    }
+
+    @Test
+    public void testProbeLengthHistogram() {
+        LinearProbingHashTable<Integer> table = new LinearProbingHashTable<Integer>(100);
+        // 0, 101, and 202 share a first bucket
+        table.insert(0);
+        table.insert(101);
+        table.insert(202);
+        table.insert(50);
+
+        assertArrayEquals(new int[] {2, 1, 1}, table.probeLengthHistogram());
+    }
+
+    @Test
+    public void testListener() {
+        LinearProbingHashTable<Integer> table = new LinearProbingHashTable<Integer>(100);
+        HashTableMetrics metrics = new HashTableMetrics();
+        table.setListener(metrics, 2);
+        table.insert(0);
+        table.insert(101);
+        table.insert(202);
+        table.contains(202);
+
+        // the second and fourth operations are sampled
+        assertEquals(2, metrics.samples());
+        assertEquals(1, metrics.probeLengthHistogram()[1]);
+        assertEquals(1, metrics.probeLengthHistogram()[2]);
+
+        for (int i = 1000; i < 2000; i++) {
+            table.insert(i);
+        }
+        assertTrue(table.resizeCount() > 0);
+        assertEquals(table.resizeCount(), metrics.resizes());
+        assertEquals(table.resizeNanos(), metrics.resizeNanos());
+    }
+
+    @Test
+    public void testOverloadedLargeTable() {
+        // 3 * length and 4 * used overflow an int at this size
+        int length = 1 << 30;
+
+        assertFalse(LinearProbingHashTable.overloaded(length / 4 * 3 - 1, length));
+        assertTrue(LinearProbingHashTable.overloaded(length / 4 * 3, length));
+        assertTrue(LinearProbingHashTable.overloaded(length - 1, length));
+    }
 }
@@ -0,0 +1,149 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for {@link MappedLongHashTable}.
+ *
+ * @author Spencer Hubbard
+ */
+public class MappedLongHashTableTest {
+    private Path file;
+    private MappedLongHashTable hashTable;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("hash", ".table");
+        hashTable = new MappedLongHashTable(file);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        hashTable.close();
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(file.resolveSibling(file.getFileName() + ".rehash"));
+    }
+
+    @Test
+    public void testIsEmpty() {
+        assertTrue(hashTable.isEmpty());
+        hashTable.insert(1);
+        hashTable.remove(1);
+
+        assertTrue(hashTable.isEmpty());
+    }
+
+    @Test
+    public void testSize() {
+        hashTable.insert(1);
+        hashTable.insert(2);
+        hashTable.insert(1);
+        hashTable.remove(3);
+
+        assertEquals(2, hashTable.size());
+        assertEquals(2L, hashTable.longSize());
+    }
+
+    @Test
+    public void testContains() {
+        hashTable.insert(-5);
+        hashTable.insert(Long.valueOf(7));
+
+        assertTrue(hashTable.contains(-5));
+        assertTrue(hashTable.contains(Long.valueOf(7)));
+        assertFalse(hashTable.contains(5));
+    }
+
+    @Test
+    public void testContainsSentinels() {
+        hashTable.insert(0);
+        hashTable.insert(Long.MIN_VALUE);
+
+        assertTrue(hashTable.contains(0));
+        assertTrue(hashTable.contains(Long.MIN_VALUE));
+        assertEquals(2, hashTable.size());
+
+        hashTable.remove(0);
+        hashTable.remove(Long.MIN_VALUE);
+
+        assertFalse(hashTable.contains(0));
+        assertFalse(hashTable.contains(Long.MIN_VALUE));
+        assertTrue(hashTable.isEmpty());
+    }
+
+    @Test
+    public void testRehash() {
+        for (long i = 1; i <= 10000; i++) {
+            hashTable.insert(i * 0x9E3779B97F4A7C15L);
+        }
+
+        assertEquals(10000, hashTable.size());
+        for (long i = 1; i <= 10000; i++) {
+            assertTrue(hashTable.contains(i * 0x9E3779B97F4A7C15L));
+        }
+        assertFalse(hashTable.contains(10001 * 0x9E3779B97F4A7C15L));
+    }
+
+    @Test
+    public void testChurn() {
+        // removed values do not fill the table
+        for (long i = 1; i <= 10000; i++) {
+            hashTable.insert(i);
+            hashTable.remove(i);
+        }
+
+        assertTrue(hashTable.isEmpty());
+        assertFalse(hashTable.contains(10001));
+    }
+
+    @Test
+    public void testReopen() throws IOException {
+        for (long i = 0; i < 1000; i++) {
+            hashTable.insert(i);
+        }
+        hashTable.insert(Long.MIN_VALUE);
+        hashTable.remove(5);
+        hashTable.close();
+
+        hashTable = new MappedLongHashTable(file);
+
+        assertEquals(1000, hashTable.size());
+        assertTrue(hashTable.contains(0));
+        assertTrue(hashTable.contains(999));
+        assertTrue(hashTable.contains(Long.MIN_VALUE));
+        assertFalse(hashTable.contains(5));
+        hashTable.insert(1000);
+        assertTrue(hashTable.contains(1000));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testClosed() throws IOException {
+        hashTable.close();
+        hashTable.close();
+        hashTable.contains(1);
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidFile() throws IOException {
+        Path other = Files.createTempFile("hash", ".table");
+        try {
+            Files.write(other, new byte[] {1, 2, 3});
+            new MappedLongHashTable(other);
+        } finally {
+            Files.delete(other);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorThrows() throws IOException {
+        new MappedLongHashTable(file, 1);
+    }
+}
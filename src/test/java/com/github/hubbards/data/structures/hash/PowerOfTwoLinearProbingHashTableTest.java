@@ -0,0 +1,14 @@
+package com.github.hubbards.data.structures.hash;
+
+/**
+ * This class is a simple test suite for the {@link LinearProbingHashTable}
+ * implementation of {@link HashTable} with {@link Sizing#POWER_OF_TWO}.
+ *
+ * @author Spencer Hubbard
+ */
+public class PowerOfTwoLinearProbingHashTableTest extends HashTableTest {
+    @Override
+    protected LinearProbingHashTable<String> createHashTable() {
+        return new LinearProbingHashTable<String>(Sizing.POWER_OF_TWO);
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.hubbards.data.structures.hash;
+
+/**
+ * This class is a simple test suite for the {@link SeparateChainingHashTable}
+ * implementation of {@link HashTable} with {@link Sizing#POWER_OF_TWO}.
+ *
+ * @author Spencer Hubbard
+ */
+public class PowerOfTwoSeparateChainingHashTableTest extends HashTableTest {
+    @Override
+    protected SeparateChainingHashTable<String> createHashTable() {
+        return new SeparateChainingHashTable<String>(Sizing.POWER_OF_TWO);
+    }
+}
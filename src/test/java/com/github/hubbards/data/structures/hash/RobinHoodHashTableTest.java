@@ -0,0 +1,90 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link RobinHoodHashTable}
+ * implementation of {@link HashTable}.
+ *
+ * @author Spencer Hubbard
+ */
+public class RobinHoodHashTableTest extends HashTableTest {
+    @Override
+    protected RobinHoodHashTable<String> createHashTable() {
+        return new RobinHoodHashTable<String>();
+    }
+
+    @Test
+    public void testCollisions() {
+        RobinHoodHashTable<Integer> table = new RobinHoodHashTable<Integer>(100);
+        // values that collide with each other
+        for (int i = 0; i < 5; i++) {
+            table.insert(i * 101);
+        }
+        table.insert(1);
+        table.remove(0);
+
+        assertEquals(5, table.size());
+        assertFalse(table.contains(0));
+        for (int i = 1; i < 5; i++) {
+            assertTrue(table.contains(i * 101));
+        }
+        assertTrue(table.contains(1));
+        // backward shift deletion moves values back toward their buckets
+        assertEquals(3, table.maxProbeLength());
+    }
+
+    @Test
+    public void testProbeLengths() {
+        RobinHoodHashTable<Integer> table = new RobinHoodHashTable<Integer>(100);
+
+        assertEquals(-1, table.maxProbeLength());
+        assertEquals(0.0, table.averageProbeLength(), 0.0);
+
+        table.insert(0);
+        table.insert(101);
+        table.insert(202);
+
+        assertEquals(2, table.maxProbeLength());
+        assertEquals(1.0, table.averageProbeLength(), 1e-9);
+        assertArrayEquals(new int[]{1, 1, 1}, table.probeLengthHistogram());
+    }
+
+    @Test
+    public void testChurn() {
+        RobinHoodHashTable<Integer> table = new RobinHoodHashTable<Integer>();
+        Set<Integer> expected = new HashSet<Integer>();
+        Random random = new Random(0);
+        for (int i = 0; i < 100000; i++) {
+            int value = random.nextInt(2000);
+            if (random.nextBoolean()) {
+                table.insert(value);
+                expected.add(value);
+            } else {
+                table.remove(value);
+                expected.remove(value);
+            }
+        }
+
+        assertEquals(expected.size(), table.size());
+        for (int value = 0; value < 2000; value++) {
+            assertEquals(expected.contains(value), table.contains(value));
+        }
+    }
+
+    @Test
+    public void testOverloadedLargeTable() {
+        // 3 * length and 4 * size overflow an int at this size
+        int length = 1 << 30;
+
+        assertFalse(RobinHoodHashTable.overloaded(length / 4 * 3 - 1, length));
+        assertTrue(RobinHoodHashTable.overloaded(length / 4 * 3, length));
+        assertTrue(RobinHoodHashTable.overloaded(length - 1, length));
+    }
+}
@@ -1,5 +1,11 @@
 package com.github.hubbards.data.structures.hash;
 
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
 /**
  * This program is a simple test suite for the {@link SeparateChainingHashTable}
  * implementation of {@link HashTable}.
@@ -12,5 +18,163 @@ public class SeparateChainingHashTableTest extends HashTableTest {
         return new SeparateChainingHashTable<String>();
     }
 
-    // TODO: write implementation specific tests
+    @Test
+    public void testDebug() {
+        SeparateChainingHashTable<String> table = new SeparateChainingHashTable<String>(11);
+        table.insert("a");
+        table.insert("b");
+
+        String debug = table.debug();
+        assertTrue(debug.startsWith("index: data:\n"));
+        assertTrue(debug.contains("size: 2\n"));
+        assertTrue(debug.contains("chain lengths: "));
+    }
+
+    @Test
+    public void testCollidingComparableKeys() {
+        SeparateChainingHashTable<Key> table = new SeparateChainingHashTable<Key>();
+        for (int i = 0; i < 1000; i++) {
+            table.insert(new Key(i));
+        }
+        table.insert(new Key(0));
+
+        assertEquals(1000, table.size());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(table.contains(new Key(i)));
+        }
+        assertFalse(table.contains(new Key(1000)));
+
+        // shrink the tree back to a list
+        for (int i = 0; i < 998; i++) {
+            table.remove(new Key(i));
+        }
+        assertEquals(2, table.size());
+        assertFalse(table.contains(new Key(0)));
+        assertTrue(table.contains(new Key(998)));
+        assertTrue(table.contains(new Key(999)));
+        assertEquals("[999, 998]", table.toString());
+    }
+
+    @Test
+    public void testCollidingMixedKeys() {
+        SeparateChainingHashTable<Object> table = new SeparateChainingHashTable<Object>();
+        for (int i = 0; i < 100; i++) {
+            table.insert(new Key(i));
+        }
+        // element of another class converts the tree back to a list
+        table.insert(7);
+        table.insert(new Other());
+
+        assertEquals(102, table.size());
+        assertTrue(table.contains(7));
+        assertTrue(table.contains(new Other()));
+        for (int i = 0; i < 100; i++) {
+            assertTrue(table.contains(new Key(i)));
+        }
+        table.remove(new Other());
+        assertFalse(table.contains(new Other()));
+        assertEquals(101, table.size());
+    }
+
+    @Test
+    public void testCollidingKeysDuringRehash() {
+        SeparateChainingHashTable<Key> table = new SeparateChainingHashTable<Key>(2, Sizing.POWER_OF_TWO, Rehashing.INCREMENTAL);
+        for (int i = 0; i < 200; i++) {
+            table.insert(new Key(i));
+            table.insert(new Key(-i - 1));
+            table.remove(new Key(-i - 1));
+        }
+
+        assertEquals(200, table.size());
+        for (int i = 0; i < 200; i++) {
+            assertTrue(table.contains(new Key(i)));
+            assertFalse(table.contains(new Key(-i - 1)));
+        }
+    }
+
+    @Test
+    public void testChainLengthHistogram() {
+        SeparateChainingHashTable<Integer> table = new SeparateChainingHashTable<Integer>(10);
+        // 0, 11, and 22 share a bucket
+        table.insert(0);
+        table.insert(11);
+        table.insert(22);
+        table.insert(5);
+
+        assertArrayEquals(new int[] {9, 1, 0, 1}, table.chainLengthHistogram());
+        assertEquals(4.0 / 11, table.loadFactor(), 1e-9);
+    }
+
+    @Test
+    public void testListener() {
+        SeparateChainingHashTable<Integer> table = new SeparateChainingHashTable<Integer>(10);
+        HashTableMetrics metrics = new HashTableMetrics();
+        table.setListener(metrics, 1);
+        table.insert(0);
+        table.insert(11);
+        table.contains(0);
+        table.contains(22);
+
+        assertEquals(4, metrics.samples());
+        assertArrayEquals(new long[] {1, 2, 1}, Arrays.copyOf(metrics.probeLengthHistogram(), 3));
+
+        for (int i = 100; i < 200; i++) {
+            table.insert(i);
+        }
+        assertTrue(table.resizeCount() > 0);
+        assertEquals(table.resizeCount(), metrics.resizes());
+    }
+
+    /*
+     * Comparable key whose hash code collides with every other key.
+     */
+    private static class Key implements Comparable<Key> {
+        private final int value;
+
+        public Key(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            return Integer.compare(value, other.value);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && ((Key) other).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value);
+        }
+    }
+
+    @Test
+    public void testGrowIsCapped() {
+        assertEquals(22, SeparateChainingHashTable.grow(11));
+        assertEquals(SeparateChainingHashTable.MAX_CAPACITY, SeparateChainingHashTable.grow(1 << 29));
+        assertEquals(SeparateChainingHashTable.MAX_CAPACITY, SeparateChainingHashTable.grow(1 << 30));
+    }
+
+    /*
+     * Key that is not comparable and collides with every key.
+     */
+    private static class Other {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Other;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
 }
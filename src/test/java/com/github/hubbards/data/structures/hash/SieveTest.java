@@ -131,4 +131,68 @@ public class SieveTest {
         java.util.List<Integer> numbers = Sieve.sieve(BIG_PRIME);
         assertEquals(BIG_PRIME, (int) numbers.get(numbers.size() - 1));
     }
+
+    @Test
+    public void testSieveCount() {
+        // there are 78498 primes below one million
+        java.util.List<Integer> numbers = Sieve.sieve(1000000);
+        assertEquals(78498, numbers.size());
+        assertEquals(999983, (int) numbers.get(numbers.size() - 1));
+    }
+
+    @Test
+    public void testSieveSegments() {
+        // primes on both sides of a segment boundary
+        int max = 3 * (1 << 19);
+        java.util.List<Integer> numbers = Sieve.sieve(max);
+        for (int i = numbers.size() - 100; i < numbers.size(); i++) {
+            assertTrue(Sieve.isPrime(numbers.get(i)));
+        }
+        for (int p : numbers) {
+            assertTrue(p <= max);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNextPrimeThrows() {
+        Sieve.nextPrime(1);
+    }
+
+    @Test
+    public void testNextPrimeSmall() {
+        assertEquals(2, Sieve.nextPrime(2));
+        assertEquals(3, Sieve.nextPrime(3));
+        assertEquals(5, Sieve.nextPrime(4));
+        assertEquals(11, Sieve.nextPrime(11));
+        assertEquals(13, Sieve.nextPrime(12));
+        assertEquals(BIG_PRIME, Sieve.nextPrime(BIG_PRIME - 1));
+    }
+
+    @Test
+    public void testNextPrimeAgreesWithSieve() {
+        java.util.List<Integer> numbers = Sieve.sieve(200000);
+        int j = 0;
+        for (int n = 2; n <= numbers.get(numbers.size() - 1); n++) {
+            while (numbers.get(j) < n) {
+                j++;
+            }
+            assertEquals(numbers.get(j), Integer.valueOf(Sieve.nextPrime(n)));
+        }
+    }
+
+    @Test
+    public void testNextPrimeLarge() {
+        assertEquals(100000007, Sieve.nextPrime(100000000));
+        assertEquals(Integer.MAX_VALUE, Sieve.nextPrime(2147483630));
+        assertEquals(Integer.MAX_VALUE, Sieve.nextPrime(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testIsPrimeStrongPseudoprimes() {
+        // strong pseudoprimes to bases 2 and 3, and to bases 2, 3, and 5
+        assertFalse(Sieve.isPrime(1373653));
+        assertFalse(Sieve.isPrime(25326001));
+        // Carmichael number
+        assertFalse(Sieve.isPrime(41041));
+    }
 }
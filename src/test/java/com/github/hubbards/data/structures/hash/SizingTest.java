@@ -0,0 +1,55 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for {@link Sizing}.
+ *
+ * @author Spencer Hubbard
+ */
+public class SizingTest {
+    @Test
+    public void testPrimeCapacity() {
+        assertEquals(11, Sizing.PRIME.capacity(11));
+        assertEquals(13, Sizing.PRIME.capacity(12));
+    }
+
+    @Test
+    public void testPowerOfTwoCapacity() {
+        assertEquals(2, Sizing.POWER_OF_TWO.capacity(2));
+        assertEquals(4, Sizing.POWER_OF_TWO.capacity(3));
+        assertEquals(16, Sizing.POWER_OF_TWO.capacity(11));
+        assertEquals(16, Sizing.POWER_OF_TWO.capacity(16));
+        assertEquals(32, Sizing.POWER_OF_TWO.capacity(17));
+        assertEquals(1 << 30, Sizing.POWER_OF_TWO.capacity(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testPrimeIndex() {
+        assertEquals(3, Sizing.PRIME.index(14, 11));
+        assertEquals(8, Sizing.PRIME.index(-14, 11));
+    }
+
+    @Test
+    public void testPowerOfTwoIndex() {
+        for (int h = -1000; h < 1000; h++) {
+            int i = Sizing.POWER_OF_TWO.index(h, 64);
+            assertTrue(0 <= i && i < 64);
+        }
+    }
+
+    @Test
+    public void testPowerOfTwoSpreadsStridedHashCodes() {
+        // multiples of the table length would all collide without mixing
+        Set<Integer> indices = new HashSet<Integer>();
+        for (int i = 0; i < 64; i++) {
+            indices.add(Sizing.POWER_OF_TWO.index(i * 1024, 64));
+        }
+        assertTrue(indices.size() > 32);
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.hubbards.data.structures.hash;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class is a simple test suite for the {@link SwissHashTable}
+ * implementation of {@link HashTable}.
+ *
+ * @author Spencer Hubbard
+ */
+public class SwissHashTableTest extends HashTableTest {
+    @Override
+    protected SwissHashTable<String> createHashTable() {
+        return new SwissHashTable<String>();
+    }
+
+    @Test
+    public void testCapacity() {
+        assertEquals(8, new SwissHashTable<Integer>(2).capacity());
+        assertEquals(128, new SwissHashTable<Integer>(100).capacity());
+        assertEquals(128, new SwissHashTable<Integer>(128).capacity());
+    }
+
+    @Test
+    public void testCollisions() {
+        SwissHashTable<Key> table = new SwissHashTable<Key>();
+        // values with equal hash codes, so fingerprints always match
+        for (int i = 0; i < 50; i++) {
+            table.insert(new Key(i));
+        }
+        table.remove(new Key(0));
+
+        assertEquals(49, table.size());
+        assertFalse(table.contains(new Key(0)));
+        for (int i = 1; i < 50; i++) {
+            assertTrue(table.contains(new Key(i)));
+        }
+    }
+
+    @Test
+    public void testTombstones() {
+        SwissHashTable<Key> table = new SwissHashTable<Key>(16);
+        // values with equal hash codes fill the first group of their probe
+        // sequence
+        for (int i = 0; i < 8; i++) {
+            table.insert(new Key(i));
+        }
+        table.remove(new Key(0));
+
+        assertEquals(1, table.tombstones());
+        assertFalse(table.contains(new Key(0)));
+        assertTrue(table.contains(new Key(7)));
+
+        // bucket of removed element is reused
+        table.insert(new Key(0));
+
+        assertEquals(0, table.tombstones());
+
+        table.insert(new Key(8));
+        // second group still has empty buckets, so no marker is left
+        table.remove(new Key(8));
+
+        assertEquals(0, table.tombstones());
+        assertEquals(8, table.size());
+    }
+
+    @Test
+    public void testChurn() {
+        SwissHashTable<Integer> table = new SwissHashTable<Integer>();
+        Set<Integer> expected = new HashSet<Integer>();
+        Random random = new Random(0);
+        for (int i = 0; i < 100000; i++) {
+            int value = random.nextInt(2000);
+            if (random.nextBoolean()) {
+                table.insert(value);
+                expected.add(value);
+            } else {
+                table.remove(value);
+                expected.remove(value);
+            }
+        }
+
+        assertEquals(expected.size(), table.size());
+        for (int value = 0; value < 2000; value++) {
+            assertEquals(expected.contains(value), table.contains(value));
+        }
+        // rehashing keeps removed element markers from filling the table
+        assertTrue(table.tombstones() < table.capacity() / 2);
+    }
+
+    /*
+     * Value with a constant hash code.
+     */
+    private static final class Key {
+        private final int value;
+
+        Key(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    @Test
+    public void testOverloadedLargeTable() {
+        // 8 * used overflows an int at this size
+        int length = 1 << 30;
+
+        assertFalse(SwissHashTable.overloaded(length / 2, length));
+        assertFalse(SwissHashTable.overloaded(length / 8 * 7 - 1, length));
+        assertTrue(SwissHashTable.overloaded(length / 8 * 7, length));
+        assertTrue(SwissHashTable.overloaded(length, length));
+    }
+
+    @Test
+    public void testFullAtMaxCapacity() {
+        // two groups that never grow
+        SwissHashTable<Integer> table = new SwissHashTable<Integer>(16, 16);
+        for (int i = 0; i < 16; i++) {
+            table.insert(i);
+        }
+
+        assertEquals(16, table.capacity());
+        assertEquals(16, table.size());
+        // a miss probes every group without finding an empty bucket
+        assertFalse(table.contains(16));
+        assertTrue(table.contains(15));
+
+        table.remove(3);
+        table.insert(16);
+
+        assertTrue(table.contains(16));
+        assertFalse(table.contains(3));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testInsertThrowsWhenFullAtMaxCapacity() {
+        SwissHashTable<Integer> table = new SwissHashTable<Integer>(16, 16);
+        for (int i = 0; i <= 16; i++) {
+            table.insert(i);
+        }
+    }
+}